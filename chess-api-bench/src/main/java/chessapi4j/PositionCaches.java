@@ -16,21 +16,24 @@
 package chessapi4j;
 
 /**
- * Exception for mapping exceptions.
+ * Gives the benchmarks, which live in {@code chessapi4j.bench}, access to the
+ * package private caches of {@link Position}.
+ *
  * @author lunalobos
- * @since 1.2.8
+ * @since 1.2.11
  */
-final class MappingException extends RuntimeException {
+public final class PositionCaches {
 
-    public static MappingException index(int index, int capacity) {
-        return new MappingException(String.format(
-                        "Index %d is out of range for this hashmap with capacity %d.",
-                        index,
-                        capacity));
+    private PositionCaches() {
     }
 
-    private MappingException(String message) {
-        super(message);
+    /**
+     * Drops the attack map cached by the given position, so the next move
+     * generation builds it again.
+     *
+     * @param position the position
+     */
+    public static void clearAttackMap(Position position) {
+        position.clearAttackMap();
     }
 }
-
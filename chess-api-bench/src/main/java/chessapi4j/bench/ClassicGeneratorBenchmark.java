@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.bench;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import chessapi4j.Generator;
+import chessapi4j.GeneratorFactory;
+import chessapi4j.Move;
+import chessapi4j.MoveEncoding;
+import chessapi4j.MoveList;
+import chessapi4j.Position;
+import chessapi4j.PositionCaches;
+import chessapi4j.StagedMoveGenerator;
+
+/**
+ * Move generation throughput of the classic {@link Generator}. Every invocation
+ * walks the whole corpus category once.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ClassicGeneratorBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private Generator generator;
+    private Position[] positions;
+    private List<Position>[] children;
+    private final MoveList moveList = new MoveList();
+    private final StagedMoveGenerator staged = new StagedMoveGenerator();
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        generator = GeneratorFactory.instance();
+        var fens = corpus.fens();
+        positions = new Position[fens.length];
+        children = new List[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            positions[i] = new Position(fens[i]);
+            children[i] = generator.generateChildren(positions[i]);
+        }
+    }
+
+    @Benchmark
+    public void generateChildren(Blackhole bh) {
+        for (Position position : positions) {
+            // drops the attack map cached by the previous call, without allocating
+            PositionCaches.clearAttackMap(position);
+            bh.consume(generator.generateChildren(position));
+        }
+    }
+
+    /**
+     * Allocates only what {@link #generateChildren(Blackhole)} returns (the
+     * children and their list), the reference for its {@code gc.alloc.rate.norm}.
+     * The difference between both is the {@code AttackMap} each parent builds.
+     */
+    @Benchmark
+    public void cloneChildren(Blackhole bh) {
+        for (List<Position> list : children) {
+            List<Position> clones = new LinkedList<>();
+            for (Position child : list) {
+                clones.add(child.makeClone());
+            }
+            bh.consume(clones);
+        }
+    }
+
+    @Benchmark
+    public void generateMoves(Blackhole bh) {
+        for (int i = 0; i < positions.length; i++) {
+            List<Move> moves = generator.generateMoves(positions[i], children[i]);
+            bh.consume(moves);
+        }
+    }
+
+    @Benchmark
+    public void generateMoveList(Blackhole bh) {
+        for (Position position : positions) {
+            generator.generateMoves(position, moveList);
+            bh.consume(moveList.size());
+        }
+    }
+
+    @Benchmark
+    public void generatePseudoLegalMoves(Blackhole bh) {
+        for (Position position : positions) {
+            generator.generatePseudoLegalMoves(position, moveList);
+            bh.consume(moveList.size());
+        }
+    }
+
+    @Benchmark
+    public void stagedCaptures(Blackhole bh) {
+        for (Position position : positions) {
+            staged.resetCaptures(position);
+            for (int move = staged.next(); move != MoveEncoding.NONE; move = staged.next()) {
+                bh.consume(move);
+            }
+        }
+    }
+}
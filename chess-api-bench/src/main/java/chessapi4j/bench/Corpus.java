@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.bench;
+
+/**
+ * Fixed set of positions every benchmark runs over. The positions are grouped by
+ * the kind of work they stress in the move generator and the evaluator, so a
+ * regression in one area shows up in one category instead of being averaged away.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public enum Corpus {
+    OPENING(
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 0 2",
+            "r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3",
+            "rnbqkb1r/pp2pppp/3p1n2/8/3NP3/8/PPP2PPP/RNBQKB1R w KQkq - 1 5"),
+    MIDDLEGAME(
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N2N2/PP2BPPP/R1BQ1RK1 w - - 0 9"),
+    ENDGAME(
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "8/8/4k3/3p4/3P4/4K3/8/8 w - - 0 1",
+            "8/5pk1/6p1/7p/1r5P/6P1/5PK1/R7 w - - 0 40",
+            "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1"),
+    PROMOTION(
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "n1n5/PPPk4/8/8/8/8/4Kppp/5N1N b - - 0 1",
+            "8/P1k5/8/8/8/8/1K4p1/8 w - - 0 1",
+            "3r4/2P3k1/8/8/8/8/1p4K1/2R5 w - - 0 1"),
+    CHECK(
+            "rnbqkbnr/ppp2ppp/3p4/1B2p3/4P3/8/PPPP1PPP/RNBQK1NR b KQkq - 1 3",
+            "4k3/8/8/8/8/8/4q3/4K3 w - - 0 1",
+            "r1bqkbnr/pppp1Qpp/2n5/4p3/2B1P3/8/PPPP1PPP/RNB1K1NR b KQkq - 0 4",
+            "3k4/8/8/8/8/8/2n5/R3K2R w KQ - 0 1");
+
+    private final String[] fens;
+
+    Corpus(String... fens) {
+        this.fens = fens;
+    }
+
+    /**
+     * The FEN strings in this category.
+     *
+     * @return a copy of the FEN array
+     */
+    public String[] fens() {
+        return fens.clone();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import chessapi4j.Evaluator;
+import chessapi4j.EvaluatorFactory;
+import chessapi4j.IncrementalEvaluator;
+import chessapi4j.Position;
+
+/**
+ * Throughput of the default {@link Evaluator} over the corpus, compared with the
+ * reference implementation it replaced and with the same evaluator without a
+ * pawn hash table. Run with {@code -prof gc} to see the allocation difference.
+ * <p>
+ * The {@link IncrementalEvaluator} is measured with the material and
+ * piece-square terms already carried by the positions, as at a search leaf,
+ * and with them recomputed on every call, which is what the incremental
+ * updates save.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EvaluatorBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private Evaluator evaluator;
+    private Evaluator reference;
+    private Evaluator withoutPawnHash;
+    private IncrementalEvaluator incremental;
+    private Position[] positions;
+
+    @Setup
+    public void setup() {
+        evaluator = EvaluatorFactory.getImpl();
+        reference = EvaluatorFactory.getReferenceImpl();
+        withoutPawnHash = EvaluatorFactory.getImpl(null);
+        incremental = EvaluatorFactory.getIncrementalImpl();
+        var fens = corpus.fens();
+        positions = new Position[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            positions[i] = new Position(fens[i]);
+        }
+    }
+
+    @Benchmark
+    public void evaluate(Blackhole bh) {
+        for (Position position : positions) {
+            bh.consume(evaluator.evaluate(position));
+        }
+    }
+
+    @Benchmark
+    public void evaluateReference(Blackhole bh) {
+        for (Position position : positions) {
+            bh.consume(reference.evaluate(position));
+        }
+    }
+
+    @Benchmark
+    public void evaluateWithoutPawnHash(Blackhole bh) {
+        for (Position position : positions) {
+            bh.consume(withoutPawnHash.evaluate(position));
+        }
+    }
+
+    @Benchmark
+    public void evaluateIncremental(Blackhole bh) {
+        for (Position position : positions) {
+            bh.consume(incremental.evaluate(position));
+        }
+    }
+
+    @Benchmark
+    public void evaluateIncrementalRecomputed(Blackhole bh) {
+        for (Position position : positions) {
+            // drops the terms kept by the position, as a setter does
+            position.setBits(position.getBits());
+            bh.consume(incremental.evaluate(position));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of building a position from a FEN string in both packages. The functional
+ * constructor also resolves check, checkmate and stalemate eagerly, so the two
+ * numbers are not expected to match.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FenParsingBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    private String[] fens;
+
+    @Setup
+    public void setup() {
+        fens = corpus.fens();
+    }
+
+    @Benchmark
+    public void classicPosition(Blackhole bh) {
+        for (String fen : fens) {
+            bh.consume(new chessapi4j.Position(fen));
+        }
+    }
+
+    @Benchmark
+    public void functionalPosition(Blackhole bh) {
+        for (String fen : fens) {
+            bh.consume(new chessapi4j.functional.Position(fen));
+        }
+    }
+}
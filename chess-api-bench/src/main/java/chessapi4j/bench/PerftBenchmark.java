@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Standard perft suite in both packages. The score is the time for a full perft
+ * of the selected position; divide the known node count by it to get nodes/s.
+ * The parallel variants split the first {@code splitDepth} plies into fork/join
+ * tasks on the common pool.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PerftBenchmark {
+
+    /**
+     * Perft positions from the chess programming wiki with the depth used here.
+     */
+    public enum Suite {
+        INITIAL("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1", 4),
+        KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 3),
+        POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 4),
+        POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 3),
+        POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 3),
+        POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", 3);
+
+        final String fen;
+        final int depth;
+
+        Suite(String fen, int depth) {
+            this.fen = fen;
+            this.depth = depth;
+        }
+    }
+
+    @Param
+    public Suite suite;
+
+    @Param("2")
+    public int splitDepth;
+
+    private chessapi4j.Position classicPosition;
+    private chessapi4j.functional.Position functionalPosition;
+    private chessapi4j.TreeWalker classicWalker;
+    private chessapi4j.functional.TreeWalker functionalWalker;
+
+    @Setup
+    public void setup() {
+        classicPosition = new chessapi4j.Position(suite.fen);
+        functionalPosition = new chessapi4j.functional.Position(suite.fen);
+        classicWalker = new chessapi4j.TreeWalker(splitDepth);
+        functionalWalker = new chessapi4j.functional.TreeWalker(splitDepth);
+    }
+
+    @Benchmark
+    public long classicPerft() {
+        return chessapi4j.Perft.nodes(classicPosition, suite.depth);
+    }
+
+    @Benchmark
+    public long functionalPerft() {
+        return chessapi4j.functional.Perft.nodes(functionalPosition, suite.depth);
+    }
+
+    @Benchmark
+    public long classicParallelPerft() {
+        return classicWalker.countLeaves(classicPosition, suite.depth);
+    }
+
+    @Benchmark
+    public long functionalParallelPerft() {
+        return functionalWalker.countLeaves(functionalPosition, suite.depth);
+    }
+}
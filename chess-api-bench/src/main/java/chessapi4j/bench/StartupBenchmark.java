@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import chessapi4j.GeneratorFactory;
+import chessapi4j.Position;
+import chessapi4j.functional.Factory;
+
+/**
+ * Time of the first move generation in a fresh JVM, which includes loading the
+ * library classes and reading the attack tables. Every fork measures a single
+ * call, so the score is the cold start cost and not a steady state throughput.
+ * The heap is limited to 512 MB to check the library fits in small containers.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = "-Xmx512m")
+public class StartupBenchmark {
+
+    @Benchmark
+    public Object classic() {
+        return GeneratorFactory.instance().generateChildren(new Position());
+    }
+
+    @Benchmark
+    public Object functional() {
+        return Factory.startPos().children();
+    }
+}
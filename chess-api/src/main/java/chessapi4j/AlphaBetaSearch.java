@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//bean
+/**
+ * Negamax alpha-beta search with iterative deepening, aspiration windows,
+ * principal variation search, null move pruning, killer and history move
+ * ordering and a quiescence search over captures and promotions.
+ * <p>
+ * The instance only holds configuration. Every call works on its own copy of
+ * the position and its own {@link SearchContext}, taken from a pool shared by
+ * all the instances, so any number of searches can run at the same time. The
+ * transposition table, if any, is shared by all the calls.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class AlphaBetaSearch implements Search {
+	private static final Logger logger = LoggerFactory.getLogger(AlphaBetaSearch.class);
+	private static final SearchContextPool contexts = new SearchContextPool(
+			Runtime.getRuntime().availableProcessors() * 4);
+
+	private volatile TranspositionTable transpositionTable;
+	private volatile int threads = 1;
+
+	AlphaBetaSearch(TranspositionTable transpositionTable) {
+		this.transpositionTable = transpositionTable;
+		logger.instantiation();
+	}
+
+	@Override
+	public void setTranspositionTable(TranspositionTable transpositionTable) {
+		this.transpositionTable = transpositionTable;
+	}
+
+	@Override
+	public void setThreads(int threads) {
+		if (threads < 1)
+			throw new IllegalArgumentException(String.format("At least one thread is required, %d given", threads));
+		this.threads = threads;
+	}
+
+	@Override
+	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, int depth) {
+		return seekBestMove(p, evaluatorFactory, depth, 0, null);
+	}
+
+	/**
+	 * Same as {@link #seekBestMove(Position, Supplier, int)}, the sample size is
+	 * ignored.
+	 */
+	@Override
+	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, int depth, int sampleSize) {
+		return seekBestMove(p, evaluatorFactory, depth, sampleSize, null);
+	}
+
+	@Override
+	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, int depth, int sampleSize,
+			String searchMoves) {
+		return seekBestMove(p, evaluatorFactory,
+				SearchLimits.builder().depth(Math.max(1, depth)).searchMoves(searchMoves).build(), new SearchHandle());
+	}
+
+	/**
+	 * Iterative deepening stops at the depth limit, when the time or node budget
+	 * is exhausted or when the handle is cancelled. An interrupted iteration is
+	 * discarded, the move of the last completed one is returned. If not even the
+	 * first iteration could be completed, the first legal move is returned.
+	 * <p>
+	 * With more than one thread the search is a lazy SMP one: helper threads
+	 * run the same iterative deepening starting at staggered depths and without
+	 * depth limit, sharing the transposition table with the calling thread. When
+	 * the calling thread finishes, the helpers are stopped and the move of the
+	 * deepest completed iteration among all the threads is returned. The node
+	 * budget applies to each thread.
+	 * </p>
+	 */
+	@Override
+	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, SearchLimits limits,
+			SearchHandle handle) {
+		return analyze(p, evaluatorFactory, limits, handle).getBestMove();
+	}
+
+	/**
+	 * Same search as {@link #seekBestMove(Position, Supplier, SearchLimits, SearchHandle)}.
+	 * The node count is the sum over all the threads, the score, depth and
+	 * principal variation are those of the thread whose move is returned.
+	 */
+	@Override
+	public SearchResult analyze(Position p, Supplier<Evaluator> evaluatorFactory, SearchLimits limits,
+			SearchHandle handle) {
+		final TranspositionTable table = transpositionTable;
+		if (table != null)
+			table.newSearch();
+		final int maxDepth = limits.getDepth() > 0 && !limits.isInfinite()
+				? Math.min(limits.getDepth(), SearchContext.MAX_PLY - 1)
+				: SearchContext.MAX_PLY - 1;
+		final List<Move> moves = searchMoves(p, limits.getSearchMoves());
+		final SearchContext main = contexts.acquire();
+		final SearchContext[] helpers = new SearchContext[threads - 1];
+		final Thread[] helperThreads = new Thread[helpers.length];
+		final SearchHandle helpersHandle = new SearchHandle();
+		try {
+			main.reset(p.makeClone(), evaluatorFactory.get(), table, limits, handle);
+			for (int i = 0; i < helpers.length; i++) {
+				final SearchContext helper = contexts.acquire();
+				helpers[i] = helper;
+				helper.reset(p.makeClone(), evaluatorFactory.get(), table, limits, helpersHandle);
+				final int startDepth = 2 - (i & 1);
+				helperThreads[i] = new Thread(() -> helper.iterate(startDepth, SearchContext.MAX_PLY - 1, moves),
+						"chessapi4j-search-helper-" + i);
+				helperThreads[i].setDaemon(true);
+				helperThreads[i].start();
+			}
+			main.iterate(1, maxDepth, moves);
+			stopHelpers(helpersHandle, helperThreads);
+			SearchContext best = main;
+			long nodes = main.nodes();
+			for (SearchContext helper : helpers) {
+				nodes += helper.nodes();
+				if (helper.completedDepth() > best.completedDepth())
+					best = helper;
+			}
+			logger.debug("depth %d, score %d, nodes %d", best.completedDepth(), best.bestScore(), nodes);
+			return new SearchResult(best.bestMove() == MoveEncoding.NONE ? null : MoveEncoding.toMove(best.bestMove()),
+					best.bestScore(), best.principalVariation(), best.completedDepth(), nodes);
+		} finally {
+			// a context goes back to the pool only once its thread is gone, even
+			// when the main search failed or this thread was interrupted
+			stopHelpers(helpersHandle, helperThreads);
+			contexts.release(main);
+			for (SearchContext helper : helpers) {
+				if (helper != null)
+					contexts.release(helper);
+			}
+		}
+	}
+
+	/**
+	 * Cancels the helpers and waits for all of them to finish. An interrupt does
+	 * not cut the wait short, the interrupt status is restored after the last
+	 * thread is joined.
+	 */
+	private static void stopHelpers(SearchHandle helpersHandle, Thread[] helperThreads) {
+		helpersHandle.cancel();
+		boolean interrupted = false;
+		for (Thread thread : helperThreads) {
+			if (thread == null)
+				continue;
+			while (true) {
+				try {
+					thread.join();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	private static List<Move> searchMoves(Position p, String searchMoves) {
+		final List<Move> searchMovesList = new LinkedList<>();
+		final Matcher moveMatcher = Pattern.compile("[a-z1-8]{4,5}").matcher(searchMoves == null ? "" : searchMoves);
+		while (moveMatcher.find()) {
+			try {
+				searchMovesList.add(MoveFactory.instance(moveMatcher.group(), p.isWhiteMove()));
+			} catch (MovementException e) {
+				logger.error("MovementException: %s", e.getMessage());
+			}
+		}
+		return searchMovesList;
+	}
+}
@@ -36,10 +36,7 @@ final class BishopGenerator {
     public void bishopMoves(long br, int square, int pieceType, int kingSquare, long enemies, long friends,
 			Position position, long checkMask, long inCheckMask, List<Position> children) {
 
-		final long pseudoLegalMoves = visibleMetrics.visibleSquaresBishop(square, friends, enemies);
-		final long[] pin = new long[] { -1L, pseudoLegalMoves & checkMask & generatorUtil.defenseDirection(kingSquare, square) };
-		final long isPin = pin[(int) ((br & checkMask) >>> generatorUtil.squaresMap(br & checkMask))];
-		long legalMoves = pseudoLegalMoves & isPin & inCheckMask;
+		long legalMoves = bishopLegalMoves(br, square, kingSquare, enemies, friends, checkMask, inCheckMask);
 
 		while (legalMoves != 0L) {
 			final long move = legalMoves & -legalMoves;
@@ -51,5 +48,13 @@ final class BishopGenerator {
 
 	}
 
+	long bishopLegalMoves(long br, int square, int kingSquare, long enemies, long friends, long checkMask,
+			long inCheckMask) {
+		final long pseudoLegalMoves = visibleMetrics.visibleSquaresBishop(square, friends, enemies);
+		final long isPin = (br & checkMask) == 0L ? -1L
+				: checkMask & generatorUtil.defenseDirection(kingSquare, square);
+		return pseudoLegalMoves & isPin & inCheckMask;
+	}
+
 
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.Objects;
+
+/**
+ * {@link Evaluator} decorator that remembers the scores of the positions it
+ * has evaluated, so positions reached again through transpositions are not
+ * evaluated twice.
+ * <p>
+ * Scores are kept in a fixed size {@code long} array, one slot per position,
+ * indexed by the low bits of the zobrist key. Each slot is a single word, the
+ * score in its lower half and the score xored with the high 32 bits of the key
+ * in its upper half. The JVM may split a plain {@code long} store in two, but
+ * halves coming from two different scores fail that check, so one instance
+ * can be shared by the parallel workers of the search returned by
+ * {@link SearchFactory#searchImpl()}.
+ * </p>
+ * <p>
+ * The decorated evaluator must give the same score every time it is asked
+ * about the same position.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class CachingEvaluator extends SharedLongTable implements Evaluator {
+	private static final long SCORE_MASK = 0xFFFFFFFFL;
+
+	private final Evaluator evaluator;
+
+	/**
+	 * Creates a cache of at most the given amount of megabytes in front of the
+	 * given evaluator. The number of slots is rounded down to a power of two.
+	 *
+	 * @param evaluator the evaluator to decorate
+	 * @param megabytes the size of the cache in megabytes
+	 * @throws IllegalArgumentException if the size is lower than 1 or greater
+	 *                                  than 8192
+	 * @throws NullPointerException     if the evaluator is null
+	 */
+	public CachingEvaluator(Evaluator evaluator, int megabytes) {
+		super(megabytes, 8192, 1, 1);
+		this.evaluator = Objects.requireNonNull(evaluator, "Evaluator cannot be null.");
+	}
+
+	@Override
+	public int evaluate(Position position) {
+		countProbe();
+		final long key = position.zobristKey();
+		final int check = (int) (key >>> 32);
+		final int index = (int) key & slotMask;
+		final long slot = table[index];
+		final int score = (int) slot;
+		if (slot != 0L && ((int) (slot >>> 32) ^ score) == check) {
+			countHit();
+			return score;
+		}
+		final int computed = evaluator.evaluate(position);
+		table[index] = (long) (check ^ computed) << 32 | (computed & SCORE_MASK);
+		return computed;
+	}
+
+	/**
+	 * Returns the decorated evaluator.
+	 *
+	 * @return the decorated evaluator
+	 */
+	public Evaluator evaluator() {
+		return evaluator;
+	}
+
+}
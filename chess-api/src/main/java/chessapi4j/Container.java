@@ -17,7 +17,6 @@ package chessapi4j;
 
 import lombok.Builder;
 
-import java.util.Random;
 import java.util.function.Supplier;
 import java.util.function.Function;
 
@@ -29,24 +28,22 @@ final class Container {
     static class ContainerBuilder{}
 
     static final Container.ContainerBuilder defaultBuilder = Container.builder()
-            .randomFactory(Random::new)
             .matrixUtilFactory(MatrixUtil::new)
             .visibleMetricsUtilFactory(VisibleMetricsUtil::new)
-            .visibleMagicFactory(vmu -> r -> new VisibleMagic(vmu, r))
-            .visibleMetricsFactory(vmu -> vm -> mu ->
-            new VisibleMetrics(vmu, vm, mu))
+            .visibleMagicFactory(VisibleMagic::new)
+            .visibleMetricsFactory(vmu -> vm -> new VisibleMetrics(vmu, vm))
             .generatorUtilFactory(vmu -> mu -> new GeneratorUtil(vmu, mu))
-            .pawnGeneratorFactory(vmu -> gu -> new PawnGenerator(vmu, gu))
-            .knightGeneratorFactory(gu -> mu -> new KnightGenerator(gu, mu))
+            .pawnGeneratorFactory(PawnGenerator::new)
+            .knightGeneratorFactory(KnightGenerator::new)
             .bishopGeneratorFactory(vm -> gu -> new BishopGenerator(vm, gu))
             .rookGeneratorFactory(vm -> gu -> new RookGenerator(vm, gu))
             .queenGeneratorFactory(vm -> gu -> new QueenGenerator(vm, gu))
             .kingGeneratorFactory(KingGenerator::new)
             .generatorFactory(pg -> ng -> bg -> rg ->
     qg ->kg -> vm -> gu ->
-            new Generator(pg, ng, bg, rg, qg, kg, vm, gu));
+            new Generator(pg, ng, bg, rg, qg, kg, vm, gu))
+            .staticExchangeFactory(StaticExchange::new);
 
-    final Random random;
     final MatrixUtil matrixUtil;
     final VisibleMetricsUtil visibleMetricsUtil;
     final VisibleMagic visibleMagic;
@@ -59,18 +56,17 @@ final class Container {
     final QueenGenerator queenGenerator;
     final KingGenerator kingGenerator;
     final Generator generator;
+    final StaticExchange staticExchange;
 
     @Builder
     Container(
-            Supplier<Random> randomFactory,
             Supplier<MatrixUtil> matrixUtilFactory,
             Supplier<VisibleMetricsUtil> visibleMetricsUtilFactory,
-            Function<VisibleMetricsUtil,Function<Random, VisibleMagic>> visibleMagicFactory,
-            Function<VisibleMetricsUtil,Function<VisibleMagic,
-                    Function<MatrixUtil, VisibleMetrics>>> visibleMetricsFactory,
+            Supplier<VisibleMagic> visibleMagicFactory,
+            Function<VisibleMetricsUtil, Function<VisibleMagic, VisibleMetrics>> visibleMetricsFactory,
             Function<VisibleMetrics, Function<MatrixUtil, GeneratorUtil>> generatorUtilFactory,
-            Function<VisibleMetrics, Function<GeneratorUtil, PawnGenerator>> pawnGeneratorFactory,
-            Function<GeneratorUtil, Function<MatrixUtil, KnightGenerator>> knightGeneratorFactory,
+            Function<GeneratorUtil, PawnGenerator> pawnGeneratorFactory,
+            Function<GeneratorUtil, KnightGenerator> knightGeneratorFactory,
             Function<VisibleMetrics, Function<GeneratorUtil, BishopGenerator>> bishopGeneratorFactory,
             Function<VisibleMetrics, Function<GeneratorUtil, RookGenerator>> rookGeneratorFactory,
             Function<VisibleMetrics, Function<GeneratorUtil, QueenGenerator>> queenGeneratorFactory,
@@ -78,27 +74,22 @@ final class Container {
             Function<PawnGenerator, Function<KnightGenerator, Function<BishopGenerator,Function<RookGenerator,
                             Function<QueenGenerator, Function<KingGenerator, Function<VisibleMetrics,
                                     Function<GeneratorUtil, Generator>>>>>>>>
-                    generatorFactory
+                    generatorFactory,
+            Function<VisibleMagic, StaticExchange> staticExchangeFactory
     ){
-        this.random = randomFactory.get();
         this.matrixUtil = matrixUtilFactory.get();
         this.visibleMetricsUtil = visibleMetricsUtilFactory.get();
-        this.visibleMagic = visibleMagicFactory
-                .apply(visibleMetricsUtil)
-                .apply(random);
+        this.visibleMagic = visibleMagicFactory.get();
         this.visibleMetrics = visibleMetricsFactory
                 .apply(visibleMetricsUtil)
-                .apply(visibleMagic)
-                .apply(matrixUtil);
+                .apply(visibleMagic);
         this.generatorUtil = generatorUtilFactory
                 .apply(visibleMetrics)
                 .apply(matrixUtil);
         this.pawnGenerator = pawnGeneratorFactory
-                .apply(visibleMetrics)
                 .apply(generatorUtil);
         this.knightGenerator = knightGeneratorFactory
-                .apply(generatorUtil)
-                .apply(matrixUtil);
+                .apply(generatorUtil);
         this.bishopGenerator = bishopGeneratorFactory
                 .apply(visibleMetrics)
                 .apply(generatorUtil);
@@ -119,6 +110,8 @@ final class Container {
                 .apply(kingGenerator)
                 .apply(visibleMetrics)
                 .apply(generatorUtil);
+        this.staticExchange = staticExchangeFactory
+                .apply(visibleMagic);
     }
 }
 
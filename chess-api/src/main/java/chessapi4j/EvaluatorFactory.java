@@ -22,13 +22,100 @@ package chessapi4j;
  * @since 1.2.0
  */
 public class EvaluatorFactory {
-	private static final Evaluator defaultEvaluator = new EvaluatorImp();
 	/**
-	 * An example implementation.
+	 * Size of the pawn hash table shared by {@link #getImpl()} and
+	 * {@link #getIncrementalImpl()}.
+	 *
+	 * @since 1.2.11
+	 */
+	public static final int DEFAULT_PAWN_TABLE_MEGABYTES = 2;
+
+	private static final PawnHashTable pawnHashTable = new PawnHashTable(DEFAULT_PAWN_TABLE_MEGABYTES);
+	private static final MagicEvaluator defaultEvaluator = new MagicEvaluator(
+			GeneratorFactory.container.visibleMagic, pawnHashTable);
+	private static final Evaluator referenceEvaluator = new EvaluatorImp();
+	private static final IncrementalEvaluator incrementalEvaluator = new MaterialEvaluator(
+			GeneratorFactory.container.visibleMagic, pawnHashTable);
+	/**
+	 * An example implementation. Pawn terms are cached in the table returned by
+	 * {@link #getPawnHashTable()}.
 	 * @return an implementation
 	 */
 	public static Evaluator getImpl() {
 		return defaultEvaluator;
 	}
+
+	/**
+	 * The original implementation of the evaluator returned by
+	 * {@link #getImpl()}. It gives the same scores but it is much slower, it is
+	 * kept to compare against.
+	 * @return an implementation
+	 *
+	 * @since 1.2.11
+	 */
+	public static Evaluator getReferenceImpl() {
+		return referenceEvaluator;
+	}
+
+	/**
+	 * An implementation that reads material and piece-square terms from the
+	 * position, where they are updated incrementally across moves, and only
+	 * computes mobility, threats and pawn structure. Its scores are in
+	 * centipawns and differ from those of {@link #getImpl()}.
+	 * @return an implementation
+	 *
+	 * @since 1.2.11
+	 */
+	public static IncrementalEvaluator getIncrementalImpl() {
+		return incrementalEvaluator;
+	}
+
+	/**
+	 * Same as {@link #getImpl()} but caching pawn terms in the given table, null
+	 * to compute them on every call.
+	 * @param pawnHashTable the table to use
+	 * @return an implementation
+	 *
+	 * @since 1.2.11
+	 */
+	public static Evaluator getImpl(PawnHashTable pawnHashTable) {
+		return new MagicEvaluator(GeneratorFactory.container.visibleMagic, pawnHashTable);
+	}
+
+	/**
+	 * Same as {@link #getIncrementalImpl()} but caching pawn terms in the given
+	 * table, null to compute them on every call.
+	 * @param pawnHashTable the table to use
+	 * @return an implementation
+	 *
+	 * @since 1.2.11
+	 */
+	public static IncrementalEvaluator getIncrementalImpl(PawnHashTable pawnHashTable) {
+		return new MaterialEvaluator(GeneratorFactory.container.visibleMagic, pawnHashTable);
+	}
+
+	/**
+	 * The evaluator of {@link #getImpl()} behind a new {@link CachingEvaluator}
+	 * of the given size.
+	 * @param megabytes the size of the cache in megabytes
+	 * @return an implementation
+	 *
+	 * @since 1.2.11
+	 */
+	public static CachingEvaluator getCachingImpl(int megabytes) {
+		return new CachingEvaluator(defaultEvaluator, megabytes);
+	}
+
+	/**
+	 * Returns the pawn hash table shared by the evaluators of {@link #getImpl()}
+	 * and {@link #getIncrementalImpl()}, for instance to look at its hit rate.
+	 * @return the shared pawn hash table
+	 *
+	 * @since 1.2.11
+	 */
+	public static PawnHashTable getPawnHashTable() {
+		return pawnHashTable;
+	}
+
 	private EvaluatorFactory(){}
 }
@@ -23,14 +23,15 @@ import java.util.stream.IntStream;
 /**
  * An evaluator that calculates a numerical evaluation score for a
  * given chess position based on piece values and their positions on the board.
- * It is experimental and not fast enough.
+ * It is experimental and not fast enough, {@link MagicEvaluator} computes the
+ * same scores without allocating.
  *
  * @author lunalobos
  * @since 1.0.0
  */
 class EvaluatorImp implements Evaluator {
 	private static final Logger logger = LoggerFactory.getLogger(EvaluatorImp.class);
-	private static final long[] KING_MATRIX_MASK = new long[] {
+	static final long[] KING_MATRIX_MASK = new long[] {
 			0b0000000000000000000000000000000000000000000000000000001100000010L,
 			0b0000000000000000000000000000000000000000000000000000011100000101L,
 			0b0000000000000000000000000000000000000000000000000000111000001010L,
@@ -96,79 +97,13 @@ class EvaluatorImp implements Evaluator {
 			0b1010000011100000000000000000000000000000000000000000000000000000L,
 			0b0100000011000000000000000000000000000000000000000000000000000000L };
 
-	private static final int KING_PLUS = 7;
+	static final int KING_PLUS = 7;
 
-	private static final long CENTER_MASK = 0b0000000000000000000000000001100000011000000000000000000000000000L;
+	static final long CENTER_MASK = 0b0000000000000000000000000001100000011000000000000000000000000000L;
 
-	private static final int CENTER_PLUS = 6;
+	static final int CENTER_PLUS = 6;
 
-	private static final long[] WP_CAPTURES = new long[] {
-			0b0000000000000000000000000000000000000000000000000000001000000000L,
-			0b0000000000000000000000000000000000000000000000000000010100000000L,
-			0b0000000000000000000000000000000000000000000000000000101000000000L,
-			0b0000000000000000000000000000000000000000000000000001010000000000L,
-			0b0000000000000000000000000000000000000000000000000010100000000000L,
-			0b0000000000000000000000000000000000000000000000000101000000000000L,
-			0b0000000000000000000000000000000000000000000000001010000000000000L,
-			0b0000000000000000000000000000000000000000000000000100000000000000L,
-			0b0000000000000000000000000000000000000000000000100000000000000000L,
-			0b0000000000000000000000000000000000000000000001010000000000000000L,
-			0b0000000000000000000000000000000000000000000010100000000000000000L,
-			0b0000000000000000000000000000000000000000000101000000000000000000L,
-			0b0000000000000000000000000000000000000000001010000000000000000000L,
-			0b0000000000000000000000000000000000000000010100000000000000000000L,
-			0b0000000000000000000000000000000000000000101000000000000000000000L,
-			0b0000000000000000000000000000000000000000010000000000000000000000L,
-			0b0000000000000000000000000000000000000010000000000000000000000000L,
-			0b0000000000000000000000000000000000000101000000000000000000000000L,
-			0b0000000000000000000000000000000000001010000000000000000000000000L,
-			0b0000000000000000000000000000000000010100000000000000000000000000L,
-			0b0000000000000000000000000000000000101000000000000000000000000000L,
-			0b0000000000000000000000000000000001010000000000000000000000000000L,
-			0b0000000000000000000000000000000010100000000000000000000000000000L,
-			0b0000000000000000000000000000000001000000000000000000000000000000L,
-			0b0000000000000000000000000000001000000000000000000000000000000000L,
-			0b0000000000000000000000000000010100000000000000000000000000000000L,
-			0b0000000000000000000000000000101000000000000000000000000000000000L,
-			0b0000000000000000000000000001010000000000000000000000000000000000L,
-			0b0000000000000000000000000010100000000000000000000000000000000000L,
-			0b0000000000000000000000000101000000000000000000000000000000000000L,
-			0b0000000000000000000000001010000000000000000000000000000000000000L,
-			0b0000000000000000000000000100000000000000000000000000000000000000L,
-			0b0000000000000000000000100000000000000000000000000000000000000000L,
-			0b0000000000000000000001010000000000000000000000000000000000000000L,
-			0b0000000000000000000010100000000000000000000000000000000000000000L,
-			0b0000000000000000000101000000000000000000000000000000000000000000L,
-			0b0000000000000000001010000000000000000000000000000000000000000000L,
-			0b0000000000000000010100000000000000000000000000000000000000000000L,
-			0b0000000000000000101000000000000000000000000000000000000000000000L,
-			0b0000000000000000010000000000000000000000000000000000000000000000L,
-			0b0000000000000010000000000000000000000000000000000000000000000000L,
-			0b0000000000000101000000000000000000000000000000000000000000000000L,
-			0b0000000000001010000000000000000000000000000000000000000000000000L,
-			0b0000000000010100000000000000000000000000000000000000000000000000L,
-			0b0000000000101000000000000000000000000000000000000000000000000000L,
-			0b0000000001010000000000000000000000000000000000000000000000000000L,
-			0b0000000010100000000000000000000000000000000000000000000000000000L,
-			0b0000000001000000000000000000000000000000000000000000000000000000L,
-			0b0000001000000000000000000000000000000000000000000000000000000000L,
-			0b0000010100000000000000000000000000000000000000000000000000000000L,
-			0b0000101000000000000000000000000000000000000000000000000000000000L,
-			0b0001010000000000000000000000000000000000000000000000000000000000L,
-			0b0010100000000000000000000000000000000000000000000000000000000000L,
-			0b0101000000000000000000000000000000000000000000000000000000000000L,
-			0b1010000000000000000000000000000000000000000000000000000000000000L,
-			0b0100000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L };
-
-	private static final long[] WP_ADVANCES = new long[] {
+	static final long[] WP_ADVANCES = new long[] {
 			0b0000000000000000000000000000000000000000000000000000000100000000L,
 			0b0000000000000000000000000000000000000000000000000000001000000000L,
 			0b0000000000000000000000000000000000000000000000000000010000000000L,
@@ -234,73 +169,7 @@ class EvaluatorImp implements Evaluator {
 			0b0000000000000000000000000000000000000000000000000000000000000000L,
 			0b0000000000000000000000000000000000000000000000000000000000000000L };
 
-	private static final long[] BP_CAPTURES = new long[] {
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000000L,
-			0b0000000000000000000000000000000000000000000000000000000000000010L,
-			0b0000000000000000000000000000000000000000000000000000000000000101L,
-			0b0000000000000000000000000000000000000000000000000000000000001010L,
-			0b0000000000000000000000000000000000000000000000000000000000010100L,
-			0b0000000000000000000000000000000000000000000000000000000000101000L,
-			0b0000000000000000000000000000000000000000000000000000000001010000L,
-			0b0000000000000000000000000000000000000000000000000000000010100000L,
-			0b0000000000000000000000000000000000000000000000000000000001000000L,
-			0b0000000000000000000000000000000000000000000000000000001000000000L,
-			0b0000000000000000000000000000000000000000000000000000010100000000L,
-			0b0000000000000000000000000000000000000000000000000000101000000000L,
-			0b0000000000000000000000000000000000000000000000000001010000000000L,
-			0b0000000000000000000000000000000000000000000000000010100000000000L,
-			0b0000000000000000000000000000000000000000000000000101000000000000L,
-			0b0000000000000000000000000000000000000000000000001010000000000000L,
-			0b0000000000000000000000000000000000000000000000000100000000000000L,
-			0b0000000000000000000000000000000000000000000000100000000000000000L,
-			0b0000000000000000000000000000000000000000000001010000000000000000L,
-			0b0000000000000000000000000000000000000000000010100000000000000000L,
-			0b0000000000000000000000000000000000000000000101000000000000000000L,
-			0b0000000000000000000000000000000000000000001010000000000000000000L,
-			0b0000000000000000000000000000000000000000010100000000000000000000L,
-			0b0000000000000000000000000000000000000000101000000000000000000000L,
-			0b0000000000000000000000000000000000000000010000000000000000000000L,
-			0b0000000000000000000000000000000000000010000000000000000000000000L,
-			0b0000000000000000000000000000000000000101000000000000000000000000L,
-			0b0000000000000000000000000000000000001010000000000000000000000000L,
-			0b0000000000000000000000000000000000010100000000000000000000000000L,
-			0b0000000000000000000000000000000000101000000000000000000000000000L,
-			0b0000000000000000000000000000000001010000000000000000000000000000L,
-			0b0000000000000000000000000000000010100000000000000000000000000000L,
-			0b0000000000000000000000000000000001000000000000000000000000000000L,
-			0b0000000000000000000000000000001000000000000000000000000000000000L,
-			0b0000000000000000000000000000010100000000000000000000000000000000L,
-			0b0000000000000000000000000000101000000000000000000000000000000000L,
-			0b0000000000000000000000000001010000000000000000000000000000000000L,
-			0b0000000000000000000000000010100000000000000000000000000000000000L,
-			0b0000000000000000000000000101000000000000000000000000000000000000L,
-			0b0000000000000000000000001010000000000000000000000000000000000000L,
-			0b0000000000000000000000000100000000000000000000000000000000000000L,
-			0b0000000000000000000000100000000000000000000000000000000000000000L,
-			0b0000000000000000000001010000000000000000000000000000000000000000L,
-			0b0000000000000000000010100000000000000000000000000000000000000000L,
-			0b0000000000000000000101000000000000000000000000000000000000000000L,
-			0b0000000000000000001010000000000000000000000000000000000000000000L,
-			0b0000000000000000010100000000000000000000000000000000000000000000L,
-			0b0000000000000000101000000000000000000000000000000000000000000000L,
-			0b0000000000000000010000000000000000000000000000000000000000000000L,
-			0b0000000000000010000000000000000000000000000000000000000000000000L,
-			0b0000000000000101000000000000000000000000000000000000000000000000L,
-			0b0000000000001010000000000000000000000000000000000000000000000000L,
-			0b0000000000010100000000000000000000000000000000000000000000000000L,
-			0b0000000000101000000000000000000000000000000000000000000000000000L,
-			0b0000000001010000000000000000000000000000000000000000000000000000L,
-			0b0000000010100000000000000000000000000000000000000000000000000000L,
-			0b0000000001000000000000000000000000000000000000000000000000000000L };
-
-	private static final long[] BP_ADVANCES = new long[] {
+	static final long[] BP_ADVANCES = new long[] {
 			0b0000000000000000000000000000000000000000000000000000000000000000L,
 			0b0000000000000000000000000000000000000000000000000000000000000000L,
 			0b0000000000000000000000000000000000000000000000000000000000000000L,
@@ -366,23 +235,23 @@ class EvaluatorImp implements Evaluator {
 			0b0000000001000000000000000000000000000000000000000000000000000000L,
 			0b0000000010000000000000000000000000000000000000000000000000000000L };
 
-	private static final int PAWN_CAPTURE_PLUS = 5;
+	static final int PAWN_CAPTURE_PLUS = 5;
 
-	private static final int PAWN_ADVANCE_PLUS = 4;
+	static final int PAWN_ADVANCE_PLUS = 4;
 
-	private static final int PROMOTION_PLUS = 4;
+	static final int PROMOTION_PLUS = 4;
 
-	private static final int STANDARD_SQUARE_VALUE = 6;
+	static final int STANDARD_SQUARE_VALUE = 6;
 
-	private static final int WHITE_8_ROW = 7;
+	static final int WHITE_8_ROW = 7;
 
-	private static final int BLACK_8_ROW = 0;
+	static final int BLACK_8_ROW = 0;
 
 	private static final int WK_VALUE = 11;
 
-	private static final int BK_VALUE = 11;
+	static final int BK_VALUE = 11;
 
-	private static final long[] KNIGHT_MASK_MATRIX = new long[] {
+	static final long[] KNIGHT_MASK_MATRIX = new long[] {
 			0b0000000000000000000000000000000000000000000000100000010000000000L,
 			0b0000000000000000000000000000000000000000000001010000100000000000L,
 			0b0000000000000000000000000000000000000000000010100001000100000000L,
@@ -476,7 +345,7 @@ class EvaluatorImp implements Evaluator {
 			long lb = Long.lowestOneBit(j);
 			int e = 0;
 			int square = Long.numberOfTrailingZeros(lb);
-			long captures = WP_CAPTURES[square];
+			long captures = Generator.PAWN_ATTACKS[1][square];
 			long advances = WP_ADVANCES[square];
 
 			int row = Long.numberOfTrailingZeros(lb) >> 3;
@@ -504,7 +373,7 @@ class EvaluatorImp implements Evaluator {
 			long lb = Long.lowestOneBit(j);
 			int e = 0;
 			int square = Long.numberOfTrailingZeros(lb);
-			long captures = BP_CAPTURES[square];
+			long captures = Generator.PAWN_ATTACKS[0][square];
 			long advances = BP_ADVANCES[square];
 
 			int row = Long.numberOfTrailingZeros(lb) >> 3;
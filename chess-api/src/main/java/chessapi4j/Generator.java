@@ -31,83 +31,28 @@ import java.util.List;
  */
 public final class Generator {
 	private static final Logger logger = LoggerFactory.getLogger(Generator.class);
+	static final int CAPTURES = 1;
+	static final int QUIETS = 2;
 	static final int[] BISHOP_DIRECTIONS = new int[] { 0, 1, 2, 3 };
 	private static final int[] BISHOPS = new int[] { Piece.BB.ordinal(), Piece.WB.ordinal() };
 
-	// black pawn advance matrix
-	private static final int[][] BLACK_PAWN_MATRIX_1 = new int[][] { {}, {}, {}, {}, {}, {}, {}, {}, { 0 }, { 1 },
-			{ 2 }, { 3 }, { 4 }, { 5 }, { 6 }, { 7 }, { 8 }, { 9 }, { 10 }, { 11 }, { 12 }, { 13 }, { 14 }, { 15 },
-			{ 16 }, { 17 }, { 18 }, { 19 }, { 20 }, { 21 }, { 22 }, { 23 }, { 24 }, { 25 }, { 26 }, { 27 }, { 28 },
-			{ 29 }, { 30 }, { 31 }, { 32 }, { 33 }, { 34 }, { 35 }, { 36 }, { 37 }, { 38 }, { 39 }, { 40, 32 },
-			{ 41, 33 }, { 42, 34 }, { 43, 35 }, { 44, 36 }, { 45, 37 }, { 46, 38 }, { 47, 39 }, { 48 }, { 49 }, { 50 },
-			{ 51 }, { 52 }, { 53 }, { 54 }, { 55 } };
-
-	// black pawn capture matrix
-	static final int[][] BLACK_PAWN_MATRIX_2 = new int[][] { {}, {}, {}, {}, {}, {}, {}, {}, { 1 }, { 0, 2 },
-			{ 1, 3 }, { 2, 4 }, { 3, 5 }, { 4, 6 }, { 5, 7 }, { 6 }, { 9 }, { 8, 10 }, { 9, 11 }, { 10, 12 },
-			{ 11, 13 }, { 12, 14 }, { 13, 15 }, { 14 }, { 17 }, { 16, 18 }, { 17, 19 }, { 18, 20 }, { 19, 21 },
-			{ 20, 22 }, { 21, 23 }, { 22 }, { 25 }, { 24, 26 }, { 25, 27 }, { 26, 28 }, { 27, 29 }, { 28, 30 },
-			{ 29, 31 }, { 30 }, { 33 }, { 32, 34 }, { 33, 35 }, { 34, 36 }, { 35, 37 }, { 36, 38 }, { 37, 39 }, { 38 },
-			{ 41 }, { 40, 42 }, { 41, 43 }, { 42, 44 }, { 43, 45 }, { 44, 46 }, { 45, 47 }, { 46 }, { 49 }, { 48, 50 },
-			{ 49, 51 }, { 50, 52 }, { 51, 53 }, { 52, 54 }, { 53, 55 }, { 54 } };
-
-	private static final int[][] KING_MATRIX = new int[][] { { 9, 8, 1 }, { 10, 8, 9, 2, 0 }, { 11, 9, 10, 3, 1 },
-			{ 12, 10, 11, 4, 2 }, { 13, 11, 12, 5, 3 }, { 14, 12, 13, 6, 4 }, { 15, 13, 14, 7, 5 }, { 14, 15, 6 },
-			{ 17, 1, 16, 0, 9 }, { 18, 16, 0, 2, 17, 1, 10, 8 }, { 19, 17, 1, 3, 18, 2, 11, 9 },
-			{ 20, 18, 2, 4, 19, 3, 12, 10 }, { 21, 19, 3, 5, 20, 4, 13, 11 }, { 22, 20, 4, 6, 21, 5, 14, 12 },
-			{ 23, 21, 5, 7, 22, 6, 15, 13 }, { 22, 6, 23, 7, 14 }, { 25, 9, 24, 8, 17 },
-			{ 26, 24, 8, 10, 25, 9, 18, 16 }, { 27, 25, 9, 11, 26, 10, 19, 17 }, { 28, 26, 10, 12, 27, 11, 20, 18 },
-			{ 29, 27, 11, 13, 28, 12, 21, 19 }, { 30, 28, 12, 14, 29, 13, 22, 20 }, { 31, 29, 13, 15, 30, 14, 23, 21 },
-			{ 30, 14, 31, 15, 22 }, { 33, 17, 32, 16, 25 }, { 34, 32, 16, 18, 33, 17, 26, 24 },
-			{ 35, 33, 17, 19, 34, 18, 27, 25 }, { 36, 34, 18, 20, 35, 19, 28, 26 }, { 37, 35, 19, 21, 36, 20, 29, 27 },
-			{ 38, 36, 20, 22, 37, 21, 30, 28 }, { 39, 37, 21, 23, 38, 22, 31, 29 }, { 38, 22, 39, 23, 30 },
-			{ 41, 25, 40, 24, 33 }, { 42, 40, 24, 26, 41, 25, 34, 32 }, { 43, 41, 25, 27, 42, 26, 35, 33 },
-			{ 44, 42, 26, 28, 43, 27, 36, 34 }, { 45, 43, 27, 29, 44, 28, 37, 35 }, { 46, 44, 28, 30, 45, 29, 38, 36 },
-			{ 47, 45, 29, 31, 46, 30, 39, 37 }, { 46, 30, 47, 31, 38 }, { 49, 33, 48, 32, 41 },
-			{ 50, 48, 32, 34, 49, 33, 42, 40 }, { 51, 49, 33, 35, 50, 34, 43, 41 }, { 52, 50, 34, 36, 51, 35, 44, 42 },
-			{ 53, 51, 35, 37, 52, 36, 45, 43 }, { 54, 52, 36, 38, 53, 37, 46, 44 }, { 55, 53, 37, 39, 54, 38, 47, 45 },
-			{ 54, 38, 55, 39, 46 }, { 57, 41, 56, 40, 49 }, { 58, 56, 40, 42, 57, 41, 50, 48 },
-			{ 59, 57, 41, 43, 58, 42, 51, 49 }, { 60, 58, 42, 44, 59, 43, 52, 50 }, { 61, 59, 43, 45, 60, 44, 53, 51 },
-			{ 62, 60, 44, 46, 61, 45, 54, 52 }, { 63, 61, 45, 47, 62, 46, 55, 53 }, { 62, 46, 63, 47, 54 },
-			{ 49, 48, 57 }, { 48, 50, 49, 58, 56 }, { 49, 51, 50, 59, 57 }, { 50, 52, 51, 60, 58 },
-			{ 51, 53, 52, 61, 59 }, { 52, 54, 53, 62, 60 }, { 53, 55, 54, 63, 61 }, { 54, 55, 62 } };
-
 	private static final int[] KINGS = new int[] { Piece.BK.ordinal(), Piece.WK.ordinal() };
 
-	static final int[][] KNIGHT_MATRIX = new int[][] { { 17, 10 }, { 18, 16, 11 }, { 19, 17, 12, 8 },
-			{ 20, 18, 13, 9 }, { 21, 19, 14, 10 }, { 22, 20, 15, 11 }, { 23, 21, 12 }, { 22, 13 }, { 25, 18, 2 },
-			{ 26, 24, 19, 3 }, { 27, 25, 20, 16, 4, 0 }, { 28, 26, 21, 17, 5, 1 }, { 29, 27, 22, 18, 6, 2 },
-			{ 30, 28, 23, 19, 7, 3 }, { 31, 29, 20, 4 }, { 30, 21, 5 }, { 33, 26, 1, 10 }, { 34, 32, 27, 2, 0, 11 },
-			{ 35, 33, 28, 24, 3, 1, 12, 8 }, { 36, 34, 29, 25, 4, 2, 13, 9 }, { 37, 35, 30, 26, 5, 3, 14, 10 },
-			{ 38, 36, 31, 27, 6, 4, 15, 11 }, { 39, 37, 28, 7, 5, 12 }, { 38, 29, 6, 13 }, { 41, 34, 9, 18 },
-			{ 42, 40, 35, 10, 8, 19 }, { 43, 41, 36, 32, 11, 9, 20, 16 }, { 44, 42, 37, 33, 12, 10, 21, 17 },
-			{ 45, 43, 38, 34, 13, 11, 22, 18 }, { 46, 44, 39, 35, 14, 12, 23, 19 }, { 47, 45, 36, 15, 13, 20 },
-			{ 46, 37, 14, 21 }, { 49, 42, 17, 26 }, { 50, 48, 43, 18, 16, 27 }, { 51, 49, 44, 40, 19, 17, 28, 24 },
-			{ 52, 50, 45, 41, 20, 18, 29, 25 }, { 53, 51, 46, 42, 21, 19, 30, 26 }, { 54, 52, 47, 43, 22, 20, 31, 27 },
-			{ 55, 53, 44, 23, 21, 28 }, { 54, 45, 22, 29 }, { 57, 50, 25, 34 }, { 58, 56, 51, 26, 24, 35 },
-			{ 59, 57, 52, 48, 27, 25, 36, 32 }, { 60, 58, 53, 49, 28, 26, 37, 33 }, { 61, 59, 54, 50, 29, 27, 38, 34 },
-			{ 62, 60, 55, 51, 30, 28, 39, 35 }, { 63, 61, 52, 31, 29, 36 }, { 62, 53, 30, 37 }, { 58, 33, 42 },
-			{ 59, 34, 32, 43 }, { 60, 56, 35, 33, 44, 40 }, { 61, 57, 36, 34, 45, 41 }, { 62, 58, 37, 35, 46, 42 },
-			{ 63, 59, 38, 36, 47, 43 }, { 60, 39, 37, 44 }, { 61, 38, 45 }, { 41, 50 }, { 42, 40, 51 },
-			{ 43, 41, 52, 48 }, { 44, 42, 53, 49 }, { 45, 43, 54, 50 }, { 46, 44, 55, 51 }, { 47, 45, 52 },
-			{ 46, 53 } };
 	private static final int[] KNIGHTS = new int[] { Piece.BN.ordinal(), Piece.WN.ordinal() };
 
-	private static final int[][] WHITE_PAWN_MATRIX_1 = new int[][] { { 8 }, { 9 }, { 10 }, { 11 }, { 12 }, { 13 },
-			{ 14 }, { 15 }, { 16, 24 }, { 17, 25 }, { 18, 26 }, { 19, 27 }, { 20, 28 }, { 21, 29 }, { 22, 30 },
-			{ 23, 31 }, { 24 }, { 25 }, { 26 }, { 27 }, { 28 }, { 29 }, { 30 }, { 31 }, { 32 }, { 33 }, { 34 }, { 35 },
-			{ 36 }, { 37 }, { 38 }, { 39 }, { 40 }, { 41 }, { 42 }, { 43 }, { 44 }, { 45 }, { 46 }, { 47 }, { 48 },
-			{ 49 }, { 50 }, { 51 }, { 52 }, { 53 }, { 54 }, { 55 }, { 56 }, { 57 }, { 58 }, { 59 }, { 60 }, { 61 },
-			{ 62 }, { 63 }, {}, {}, {}, {}, {}, {}, {}, {} };
-	static final int[][] WHITE_PAWN_MATRIX_2 = new int[][] { { 9 }, { 8, 10 }, { 9, 11 }, { 10, 12 },
-			{ 11, 13 }, { 12, 14 }, { 13, 15 }, { 14 }, { 17 }, { 16, 18 }, { 17, 19 }, { 18, 20 }, { 19, 21 },
-			{ 20, 22 }, { 21, 23 }, { 22 }, { 25 }, { 24, 26 }, { 25, 27 }, { 26, 28 }, { 27, 29 }, { 28, 30 },
-			{ 29, 31 }, { 30 }, { 33 }, { 32, 34 }, { 33, 35 }, { 34, 36 }, { 35, 37 }, { 36, 38 }, { 37, 39 }, { 38 },
-			{ 41 }, { 40, 42 }, { 41, 43 }, { 42, 44 }, { 43, 45 }, { 44, 46 }, { 45, 47 }, { 46 }, { 49 }, { 48, 50 },
-			{ 49, 51 }, { 50, 52 }, { 51, 53 }, { 52, 54 }, { 53, 55 }, { 54 }, { 57 }, { 56, 58 }, { 57, 59 },
-			{ 58, 60 }, { 59, 61 }, { 60, 62 }, { 61, 63 }, { 62 }, {}, {}, {}, {}, {}, {}, {}, {} };
-	private static final int[][][] PAWN_MATRIX1 = new int[][][] { BLACK_PAWN_MATRIX_1, WHITE_PAWN_MATRIX_1 };
-	static final int[][][] PAWN_MATRIX2 = new int[][][] { BLACK_PAWN_MATRIX_2, WHITE_PAWN_MATRIX_2 };
+	static final long[] KNIGHT_ATTACKS = GeneratorUtil.leaperAttacks(new int[][] { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 },
+			{ -1, -2 }, { -2, -1 }, { -2, 1 }, { -1, 2 } });
+	// squares from where an enemy pawn attacks the king, indexed by side to move;
+	// also the squares a pawn of the side to move captures on
+	static final long[][] PAWN_ATTACKS = new long[][] { GeneratorUtil.leaperAttacks(new int[][] { { -1, -1 }, { 1, -1 } }),
+			GeneratorUtil.leaperAttacks(new int[][] { { -1, 1 }, { 1, 1 } }) };
+	// one square pawn advances, indexed by side to move
+	static final long[][] PAWN_PUSHES = new long[][] { GeneratorUtil.leaperAttacks(new int[][] { { 0, -1 } }),
+			GeneratorUtil.leaperAttacks(new int[][] { { 0, 1 } }) };
+	// two squares pawn advances from the starting ranks, indexed by side to move
+	static final long[][] PAWN_DOUBLE_PUSHES = new long[][] {
+			GeneratorUtil.leaperAttacks(new int[][] { { 0, -2 } }, 0x00FF000000000000L),
+			GeneratorUtil.leaperAttacks(new int[][] { { 0, 2 } }, 0x000000000000FF00L) };
 	private static final int[] PAWNS = new int[] { Piece.BP.ordinal(), Piece.WP.ordinal() };
 	private static final int[] QUEENS = new int[] { Piece.BQ.ordinal(), Piece.WQ.ordinal() };
 	static final int[] ROOK_DIRECTIONS = new int[] { 4, 5, 6, 7 };
@@ -140,56 +85,9 @@ public final class Generator {
 		logger.instantiation();
 	}
 
-	private long createCheckMask(int kingSquare, long enemies, long friends, Position position, long nextWhiteMove,
-			long[] bits) {
-		final long empty = ~(enemies | friends);
-		final int[] enemyRookChoice = new int[] { Piece.WR.ordinal(), Piece.BR.ordinal() };
-		final int[] enemyQueenChoice = new int[] { Piece.WQ.ordinal(), Piece.BQ.ordinal() };
-		final int[] enemyBishopChoice = new int[] { Piece.WB.ordinal(), Piece.BB.ordinal() };
-		final int enemyRook = enemyRookChoice[(int) position.wm()];
-		final int enemyQueen = enemyQueenChoice[(int) position.wm()];
-		final int enemyBishop = enemyBishopChoice[(int) position.wm()];
-		long checkMask = 0L;
-		for (int j = 0; j < 4; j++) {
-			final long visibleEmptyOrFriendsRD = visibleMetrics.visibleSquares(position.getBits(),
-					new int[] { ROOK_DIRECTIONS[j] },
-					kingSquare, nextWhiteMove);
-			final long friendsRD = visibleEmptyOrFriendsRD & ~empty;
-			final long[] testBitsRD = bits.clone();
-			for (int i = 0; i < 12; i++) {
-				testBitsRD[i] = testBitsRD[i] & ~friendsRD;
-			}
-			final long visibleEmptyOrEnemyRD = visibleMetrics.visibleSquares(testBitsRD,
-					new int[] { ROOK_DIRECTIONS[j] }, kingSquare, position.wm());
-			final long enemiesThreadsRD = visibleEmptyOrEnemyRD & (bits[enemyRook - 1] | bits[enemyQueen - 1]);
-			final long[] choice = new long[] { 0L, friendsRD | visibleEmptyOrEnemyRD };
-			checkMask = checkMask | choice[(int) generatorUtil.hasBitsPresent(enemiesThreadsRD)];
-		}
-		for (int j = 0; j < 4; j++) {
-			final long visibleEmptyOrFriendsBD = visibleMetrics.visibleSquares(position.getBits(),
-					new int[] { BISHOP_DIRECTIONS[j] },
-					kingSquare, nextWhiteMove);
-			final long friendsBD = visibleEmptyOrFriendsBD & ~empty;
-			final long[] testBitsBD = bits.clone();
-			for (int i = 0; i < 12; i++) {
-				testBitsBD[i] = testBitsBD[i] & ~friendsBD;
-			}
-			final long visibleEmptyOrEnemyBD = visibleMetrics.visibleSquares(testBitsBD,
-					new int[] { BISHOP_DIRECTIONS[j] },
-					kingSquare, position.wm());
-			final long enemiesThreadsBD = visibleEmptyOrEnemyBD & (bits[enemyBishop - 1] | bits[enemyQueen - 1]);
-			final long[] choice = new long[] { 0L, friendsBD | visibleEmptyOrEnemyBD };
-			checkMask = checkMask | choice[(int) generatorUtil.hasBitsPresent(enemiesThreadsBD)];
-		}
-
-		return checkMask;
-	}
-
-	
 	private void fillChildrenList(List<Position> children, long[] bits, long friends, long enemies, Position position,
-			long checkMask, long inCheckMask, long nextWhiteMove, long inCheck, int pawnPiece, int kingSquare,
-			int knightPiece, int bishopPiece, int rookPiece, int queenPiece, int kingPiece, int[] pawnsDirections,
-			int[][] matrix1, int[][] matrix2) {
+			long checkMask, long inCheckMask, long nextWhiteMove, AttackMap attackMap, int pawnPiece, int kingSquare,
+			int knightPiece, int bishopPiece, int rookPiece, int queenPiece, int kingPiece) {
 		long lb;
 		long j;
 
@@ -197,8 +95,8 @@ public final class Generator {
 		j = bits[pawnPiece - 1];
 		while (j != 0L) {
 			lb = j & -j;
-			pawnGenerator.pawnMoves(lb, squaresMap(lb), pawnsDirections, pawnPiece, matrix1, matrix2, kingSquare,
-					enemies, friends, position, checkMask, inCheckMask, nextWhiteMove, children);
+			pawnGenerator.pawnMoves(lb, squaresMap(lb), pawnPiece, kingSquare, enemies, friends, position, checkMask,
+					inCheckMask, nextWhiteMove, children);
 			j = j & ~lb;
 		}
 		// Knight Moves
@@ -237,7 +135,7 @@ public final class Generator {
 		j = bits[kingPiece - 1];
 		while (j != 0L) {
 			lb = j & -j;
-			kingGenerator.kingMoves(squaresMap(lb), kingPiece, enemies, friends, position, inCheck, children);
+			kingGenerator.kingMoves(squaresMap(lb), kingPiece, enemies, friends, position, attackMap, children);
 			j = j & ~lb;
 		}
 	}
@@ -267,105 +165,366 @@ public final class Generator {
 
 		final int kingSquare = squaresMap(bits[kingPiece - 1]);
 
-		final int[] pawnsDirections = new int[][] { BLACK_PAWN_MATRIX_2[kingSquare],
-				WHITE_PAWN_MATRIX_2[kingSquare] }[(int) position.wm()];
-		final CheckInfo info = isInCheckWithMask(kingPiece, position.getBits(), position.wm(), pawnsDirections);
-
-		long inCheckMask = info.getInCheckMask();
+		final AttackMap attackMap = position.attackMap();
 
-		final long checkMask = createCheckMask(kingSquare, enemies, friends, position, nextWhiteMove, bits);
-		final long[] choice = new long[] { -1L, inCheckMask, 0L, 0L, 0L, 0L };
-		inCheckMask = choice[info.getCheckCount()];
-
-		fillChildrenList(children, bits, friends, enemies, position, checkMask, inCheckMask, nextWhiteMove,
-				info.getInCheck(), PAWNS[whiteMove], kingSquare, KNIGHTS[whiteMove], BISHOPS[whiteMove],
-				ROOKS[whiteMove], QUEENS[whiteMove], kingPiece, pawnsDirections, PAWN_MATRIX1[whiteMove],
-				PAWN_MATRIX2[whiteMove]);
+		fillChildrenList(children, bits, friends, enemies, position, attackMap.pinRays(), attackMap.evasionMask(),
+				nextWhiteMove, attackMap, PAWNS[whiteMove], kingSquare, KNIGHTS[whiteMove], BISHOPS[whiteMove],
+				ROOKS[whiteMove], QUEENS[whiteMove], kingPiece);
+		final ZobristHasher hasher = ZobristHasherFactory.instance();
+		final long parentKey = position.zobristKey();
+		for (Position child : children) {
+			child.setZobristKey(hasher.updateZobristHash(parentKey, position, child));
+			child.inheritEvaluationTerms(position);
+		}
 		return children;
 	}
 
 	/**
-	 * Generates a list with the Move objects for the given children in the same
-	 * order.
-	 * 
-	 * @param parent   the position from which the children are generated
-	 * @param children the list of children
-	 * @return a list with the Move objects for the given children in the same order
+	 * Counts the legal moves of the given position without building the child
+	 * positions. The result is always equal to
+	 * {@code generateChildren(position).size()}.
+	 *
+	 * @param position the position whose moves are counted
+	 * @return the number of legal moves
 	 */
-	public List<Move> generateMoves(Position parent, List<Position> children) {
-		List<Move> legalMoves = new ArrayList<>(children.size());
-		for (Position child : children) {
-			final MoveDetector d = new MoveDetector(parent, child);
-			legalMoves.add(d.getUnsafeMove());
-		}
-		return legalMoves;
-	}
-
-	private CheckInfo isInCheckWithMask(int kingPiece, long[] bits, long whiteMoveNumeric, int[] pawnsDirections) {
-		long inCheckMask = 0L;
-		int checkCount = 0;
+	int countLegalMoves(Position position) {
+		final long[] bits = position.getBits();
+		final int aux = (int) (6L & (position.wm() << 1 | position.wm() << 2));
+		final long friends = bits[Piece.BP.ordinal() - aux - 1] | bits[Piece.BN.ordinal() - aux - 1]
+				| bits[Piece.BB.ordinal() - aux - 1] | bits[Piece.BR.ordinal() - aux - 1]
+				| bits[Piece.BQ.ordinal() - aux - 1] | bits[Piece.BK.ordinal() - aux - 1];
+		final long enemies = bits[Piece.WP.ordinal() + aux - 1] | bits[Piece.WN.ordinal() + aux - 1]
+				| bits[Piece.WB.ordinal() + aux - 1] | bits[Piece.WR.ordinal() + aux - 1]
+				| bits[Piece.WQ.ordinal() + aux - 1] | bits[Piece.WK.ordinal() + aux - 1];
+		final long nextWhiteMove = (~position.wm()) & 1L;
+		final int whiteMove = (int) position.wm();
+		final int kingPiece = KINGS[whiteMove];
 		final int kingSquare = squaresMap(bits[kingPiece - 1]);
-		long isInCheck = 0L;
-		final int aux = (int) (6L & (whiteMoveNumeric << 1 | whiteMoveNumeric << 2));
-		final int[] enemies = { Piece.WP.ordinal() + aux, Piece.WN.ordinal() + aux, Piece.WB.ordinal() + aux,
-				Piece.WR.ordinal() + aux, Piece.WQ.ordinal() + aux, Piece.WK.ordinal() + aux };
-		// pawns directions
-
-		for (int pawnDirection : pawnsDirections) {
-
-			final long enemyPawnDangerLocation = 1L << pawnDirection;
-			final long operation = ((bits[enemies[0] - 1] & enemyPawnDangerLocation) >>> pawnDirection);
-			isInCheck = isInCheck | operation;
+		final AttackMap attackMap = position.attackMap();
+		final long checkMask = attackMap.pinRays();
+		final long inCheckMask = attackMap.evasionMask();
 
-			inCheckMask = inCheckMask | new long[] { 0L, enemyPawnDangerLocation }[(int) operation];
-			checkCount += (int) operation;
+		int count = 0;
+		long lb;
+		long j;
+		j = bits[PAWNS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			count += pawnGenerator.countPawnMoves(lb, squaresMap(lb), PAWNS[whiteMove], kingSquare, enemies, friends,
+					position, checkMask, inCheckMask, nextWhiteMove);
+			j = j & ~lb;
+		}
+		j = bits[KNIGHTS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			count += Long.bitCount(knightGenerator.knightLegalMoves(lb, squaresMap(lb), friends, checkMask,
+					inCheckMask));
+			j = j & ~lb;
+		}
+		j = bits[BISHOPS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			count += Long.bitCount(bishopGenerator.bishopLegalMoves(lb, squaresMap(lb), kingSquare, enemies,
+					friends, checkMask, inCheckMask));
+			j = j & ~lb;
 		}
-		// kings directions (only used in test cases)
+		j = bits[ROOKS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			count += Long.bitCount(rookGenerator.rookLegalMoves(lb, squaresMap(lb), kingSquare, enemies, friends,
+					checkMask, inCheckMask));
+			j = j & ~lb;
+		}
+		j = bits[QUEENS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			count += Long.bitCount(queenGenerator.queenLegalMoves(lb, squaresMap(lb), kingSquare, friends, enemies,
+					checkMask, inCheckMask));
+			j = j & ~lb;
+		}
+		count += kingGenerator.countKingMoves(kingSquare, enemies, friends, position, attackMap);
+		return count;
+	}
 
-		long kingDirectionsBits = 0L;
+	/**
+	 * Tells whether the given position has at least one legal move, stopping at
+	 * the first one found. King steps are tried first and, when the king is in
+	 * check, the captures of the checking piece right after them, which are the
+	 * usual ways out of a check. No child position is built.
+	 *
+	 * @param position the position to look at
+	 * @return true if there is some legal move, false if the position is a
+	 *         checkmate or a stalemate
+	 *
+	 * @since 1.2.11
+	 */
+	public boolean hasAnyLegalMove(Position position) {
+		final long[] bits = position.getBits();
+		final int whiteMove = (int) position.wm();
+		final int own = whiteMove == 1 ? 0 : 6;
+		final long friends = bits[own] | bits[own + 1] | bits[own + 2] | bits[own + 3] | bits[own + 4]
+				| bits[own + 5];
+		final long enemies = bits[6 - own] | bits[7 - own] | bits[8 - own] | bits[9 - own] | bits[10 - own]
+				| bits[11 - own];
+		final AttackMap attackMap = position.attackMap();
+		final int kingSquare = attackMap.kingSquare();
+		if ((GeneratorUtil.KING_MOVES[kingSquare] & ~friends & ~attackMap.kingDanger()) != 0L)
+			return true;
+		final long checkers = attackMap.checkers();
+		if ((checkers & (checkers - 1)) != 0L)
+			return false;
+		if (checkers != 0L) {
+			final int checker = squaresMap(checkers);
+			final long occupied = friends | enemies;
+			final long capturers = (PAWN_ATTACKS[whiteMove ^ 1][checker] & bits[own])
+					| (KNIGHT_ATTACKS[checker] & bits[own + 1])
+					| (visibleMetrics.visibleSquaresBishop(checker, 0L, occupied) & (bits[own + 2] | bits[own + 4]))
+					| (visibleMetrics.visibleSquaresRook(checker, 0L, occupied) & (bits[own + 3] | bits[own + 4]));
+			if ((capturers & ~attackMap.pinned()) != 0L)
+				return true;
+		}
 
-		for (int square : KING_MATRIX[kingSquare]) {
-			kingDirectionsBits = kingDirectionsBits | (1L << square);
+		final long nextWhiteMove = (~position.wm()) & 1L;
+		final long checkMask = attackMap.pinRays();
+		final long inCheckMask = attackMap.evasionMask();
+		for (long j = bits[own + 1]; j != 0L; j &= j - 1) {
+			final long lb = j & -j;
+			if (knightGenerator.knightLegalMoves(lb, squaresMap(lb), friends, checkMask, inCheckMask) != 0L)
+				return true;
 		}
-		final long operation = kingDirectionsBits & bits[enemies[5] - 1];
-		final long operation3 = (operation >>> squaresMap(operation));
-		isInCheck = isInCheck | operation3;
-		checkCount += (int) operation3;
-		// knight directions
+		for (long j = bits[own + 2]; j != 0L; j &= j - 1) {
+			final long lb = j & -j;
+			if (bishopGenerator.bishopLegalMoves(lb, squaresMap(lb), kingSquare, enemies, friends, checkMask,
+					inCheckMask) != 0L)
+				return true;
+		}
+		for (long j = bits[own + 3]; j != 0L; j &= j - 1) {
+			final long lb = j & -j;
+			if (rookGenerator.rookLegalMoves(lb, squaresMap(lb), kingSquare, enemies, friends, checkMask,
+					inCheckMask) != 0L)
+				return true;
+		}
+		for (long j = bits[own + 4]; j != 0L; j &= j - 1) {
+			final long lb = j & -j;
+			if (queenGenerator.queenLegalMoves(lb, squaresMap(lb), kingSquare, friends, enemies, checkMask,
+					inCheckMask) != 0L)
+				return true;
+		}
+		for (long j = bits[own]; j != 0L; j &= j - 1) {
+			final long lb = j & -j;
+			if (pawnGenerator.countPawnMoves(lb, squaresMap(lb), PAWNS[whiteMove], kingSquare, enemies, friends,
+					position, checkMask, inCheckMask, nextWhiteMove) != 0)
+				return true;
+		}
+		// only castles are left
+		return checkers == 0L && kingGenerator.countKingMoves(kingSquare, enemies, friends, position, attackMap) != 0;
+	}
 
-		long knightDirectionsBits;
-		for (int square : KNIGHT_MATRIX[kingSquare]) {
-			knightDirectionsBits = 1L << square;
+	/**
+	 * Fills the given buffer with the legal moves of the position packed as
+	 * {@code int} values (see {@link MoveEncoding}). The buffer is cleared first.
+	 * No child position and no {@code Move} instance is created, the moves are
+	 * taken straight from the target masks of each piece.
+	 *
+	 * @param position the position whose moves are generated
+	 * @param moveList the buffer to fill
+	 *
+	 * @since 1.2.11
+	 */
+	public void generateMoves(Position position, MoveList moveList) {
+		moveList.clear();
+		final long[] bits = position.getBits();
+		final int aux = (int) (6L & (position.wm() << 1 | position.wm() << 2));
+		final long friends = bits[Piece.BP.ordinal() - aux - 1] | bits[Piece.BN.ordinal() - aux - 1]
+				| bits[Piece.BB.ordinal() - aux - 1] | bits[Piece.BR.ordinal() - aux - 1]
+				| bits[Piece.BQ.ordinal() - aux - 1] | bits[Piece.BK.ordinal() - aux - 1];
+		final long enemies = bits[Piece.WP.ordinal() + aux - 1] | bits[Piece.WN.ordinal() + aux - 1]
+				| bits[Piece.WB.ordinal() + aux - 1] | bits[Piece.WR.ordinal() + aux - 1]
+				| bits[Piece.WQ.ordinal() + aux - 1] | bits[Piece.WK.ordinal() + aux - 1];
+		final long nextWhiteMove = (~position.wm()) & 1L;
+		final int whiteMove = (int) position.wm();
+		final int kingPiece = KINGS[whiteMove];
+		final int kingSquare = squaresMap(bits[kingPiece - 1]);
+		final AttackMap attackMap = position.attackMap();
+		final long checkMask = attackMap.pinRays();
+		final long inCheckMask = attackMap.evasionMask();
 
-			final long operation2 = ((knightDirectionsBits & bits[enemies[1] - 1]) >>> square);
-			isInCheck = isInCheck | operation2;
-			inCheckMask = inCheckMask | new long[] { 0L, knightDirectionsBits }[(int) operation2];
-			checkCount += (int) operation2;
+		long lb;
+		long j;
+		j = bits[PAWNS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			pawnGenerator.fillPawnMoves(lb, squaresMap(lb), PAWNS[whiteMove], kingSquare, enemies, friends, position,
+					checkMask, inCheckMask, nextWhiteMove, moveList);
+			j = j & ~lb;
+		}
+		j = bits[KNIGHTS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, knightGenerator.knightLegalMoves(lb, square, friends, checkMask, inCheckMask),
+					enemies);
+			j = j & ~lb;
+		}
+		j = bits[BISHOPS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, bishopGenerator.bishopLegalMoves(lb, square, kingSquare, enemies, friends,
+					checkMask, inCheckMask), enemies);
+			j = j & ~lb;
+		}
+		j = bits[ROOKS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, rookGenerator.rookLegalMoves(lb, square, kingSquare, enemies, friends,
+					checkMask, inCheckMask), enemies);
+			j = j & ~lb;
 		}
-		// bishops directions
-		final long enemyBishopsAndQueens = bits[enemies[2] - 1] | bits[enemies[4] - 1];
+		j = bits[QUEENS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, queenGenerator.queenLegalMoves(lb, square, kingSquare, friends, enemies,
+					checkMask, inCheckMask), enemies);
+			j = j & ~lb;
+		}
+		kingGenerator.fillKingMoves(kingSquare, enemies, friends, position, attackMap, moveList);
+	}
 
-		for (int i = 0; i < 4; i++) {
-			final long visible = visibleMetrics.visibleSquares(bits, new int[] { i },
-					kingSquare, whiteMoveNumeric);
+	/**
+	 * Fills the given buffer with the pseudo legal moves of the position packed
+	 * as {@code int} values (see {@link MoveEncoding}). The buffer is cleared
+	 * first.
+	 * <p>
+	 * Pins and checks are ignored, so some of the moves may leave the own king in
+	 * check. Use {@link #isLegal(Position, int)} to validate a move right before
+	 * making it, this skips the check and pin masks for all the moves that are
+	 * never tried, as happens after a cutoff in an alpha-beta search. Castles are
+	 * only included when they are legal.
+	 * </p>
+	 *
+	 * @param position the position whose moves are generated
+	 * @param moveList the buffer to fill
+	 *
+	 * @since 1.2.11
+	 */
+	public void generatePseudoLegalMoves(Position position, MoveList moveList) {
+		generatePseudoLegalMoves(position, moveList, CAPTURES | QUIETS);
+	}
+
+	// kinds: CAPTURES (captures, en passant and all promotions), QUIETS (the rest) or both
+	void generatePseudoLegalMoves(Position position, MoveList moveList, int kinds) {
+		moveList.clear();
+		final long[] bits = position.getBits();
+		final int aux = (int) (6L & (position.wm() << 1 | position.wm() << 2));
+		final long friends = bits[Piece.BP.ordinal() - aux - 1] | bits[Piece.BN.ordinal() - aux - 1]
+				| bits[Piece.BB.ordinal() - aux - 1] | bits[Piece.BR.ordinal() - aux - 1]
+				| bits[Piece.BQ.ordinal() - aux - 1] | bits[Piece.BK.ordinal() - aux - 1];
+		final long enemies = bits[Piece.WP.ordinal() + aux - 1] | bits[Piece.WN.ordinal() + aux - 1]
+				| bits[Piece.WB.ordinal() + aux - 1] | bits[Piece.WR.ordinal() + aux - 1]
+				| bits[Piece.WQ.ordinal() + aux - 1] | bits[Piece.WK.ordinal() + aux - 1];
+		final long nextWhiteMove = (~position.wm()) & 1L;
+		final int whiteMove = (int) position.wm();
+		final int kingSquare = squaresMap(bits[KINGS[whiteMove] - 1]);
+		final long targets = ((kinds & CAPTURES) != 0 ? enemies : 0L) | ((kinds & QUIETS) != 0 ? ~enemies : 0L);
 
-			final long isPresent = generatorUtil.hasBitsPresent(enemyBishopsAndQueens & visible);
-			isInCheck = isInCheck | isPresent;
-			inCheckMask = inCheckMask | new long[] { 0L, visible }[(int) isPresent];
-			checkCount += (int) isPresent;
+		long lb;
+		long j;
+		j = bits[PAWNS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			pawnGenerator.fillPseudoLegalPawnMoves(lb, squaresMap(lb), PAWNS[whiteMove], enemies, friends, position,
+					nextWhiteMove, targets, kinds, moveList);
+			j = j & ~lb;
 		}
+		j = bits[KNIGHTS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, knightGenerator.knightLegalMoves(lb, square, friends, 0L, targets), enemies);
+			j = j & ~lb;
+		}
+		j = bits[BISHOPS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, visibleMetrics.visibleSquaresBishop(square, friends, enemies) & targets,
+					enemies);
+			j = j & ~lb;
+		}
+		j = bits[ROOKS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, visibleMetrics.visibleSquaresRook(square, friends, enemies) & targets,
+					enemies);
+			j = j & ~lb;
+		}
+		j = bits[QUEENS[whiteMove] - 1];
+		while (j != 0L) {
+			lb = j & -j;
+			final int square = squaresMap(lb);
+			moveList.addAll(square, visibleMetrics.visibleSquaresQueen(square, friends, enemies) & targets,
+					enemies);
+			j = j & ~lb;
+		}
+		kingGenerator.fillPseudoLegalKingMoves(kingSquare, enemies, friends, position, targets, kinds, moveList);
+	}
 
-		// rooks directions
-		final long enemyRooksAndQueens = bits[enemies[3] - 1] | bits[enemies[4] - 1];
-		for (int i = 4; i < 8; i++) {
-			final long visible = visibleMetrics.visibleSquares(bits, new int[] { i }, kingSquare, whiteMoveNumeric);
+	/**
+	 * Checks if a pseudo legal move, as generated by
+	 * {@link #generatePseudoLegalMoves(Position, MoveList)}, is legal. The move is
+	 * applied to the occupancy only and the own king square is tested against the
+	 * remaining enemy pieces, which covers pins, checks and en passant discovered
+	 * checks without creating any position.
+	 *
+	 * @param position the position where the move would be made
+	 * @param move     the packed pseudo legal move
+	 * @return true if the move does not leave the own king in check, false
+	 *         otherwise
+	 *
+	 * @since 1.2.11
+	 */
+	public boolean isLegal(Position position, int move) {
+		final long[] bits = position.getBits();
+		final int whiteMove = (int) position.wm();
+		final int origin = MoveEncoding.origin(move);
+		final int target = MoveEncoding.target(move);
+		final long originBit = 1L << origin;
+		final long targetBit = 1L << target;
+		final long king = bits[KINGS[whiteMove] - 1];
+		if ((king & originBit) != 0L && Math.abs(target - origin) == 2)
+			return true;
+		long occupied = 0L;
+		for (int i = 0; i < 12; i++) {
+			occupied = occupied | bits[i];
+		}
+		long captured = targetBit;
+		if ((bits[PAWNS[whiteMove] - 1] & originBit) != 0L && ((origin ^ target) & 7) != 0
+				&& (occupied & targetBit) == 0L)
+			captured = 1L << position.getEnPassant();
+		occupied = (occupied & ~originBit & ~captured) | targetBit;
+		final int kingSquare = (king & originBit) != 0L ? target : squaresMap(king);
+		return generatorUtil.kingAttackers(bits, whiteMove, kingSquare, occupied, captured) == 0L;
+	}
 
-			final long isPresent = generatorUtil.hasBitsPresent(enemyRooksAndQueens & visible);
-			isInCheck = isInCheck | isPresent;
-			inCheckMask = inCheckMask | new long[] { 0L, visible }[(int) isPresent];
-			checkCount += (int) isPresent;
+	/**
+	 * Generates a list with the Move objects for the given children in the same
+	 * order.
+	 * 
+	 * @param parent   the position from which the children are generated
+	 * @param children the list of children
+	 * @return a list with the Move objects for the given children in the same order
+	 */
+	public List<Move> generateMoves(Position parent, List<Position> children) {
+		List<Move> legalMoves = new ArrayList<>(children.size());
+		for (Position child : children) {
+			final MoveDetector d = new MoveDetector(parent, child);
+			legalMoves.add(d.getUnsafeMove());
 		}
-		return new CheckInfo(isInCheck, inCheckMask, checkCount);
+		return legalMoves;
 	}
 
 }
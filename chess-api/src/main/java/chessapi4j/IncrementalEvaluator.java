@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Evaluator whose material and piece-square terms are read from the position,
+ * where {@link Position#makeMove(Move)}, {@link Position#unmakeMove()} and the
+ * generator keep them up to date from the move delta. Only the remaining terms
+ * have to be computed on each call.
+ * <p>
+ * Implementing this interface is optional, the search uses any
+ * {@link Evaluator} the same way.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public interface IncrementalEvaluator extends Evaluator {
+
+	/**
+	 * Calculates the terms of the evaluation that are not kept by the position,
+	 * from the point of view of white.
+	 *
+	 * @param position the chess position to evaluate
+	 * @return the score of the non incremental terms
+	 */
+	int evaluatePositional(Position position);
+
+	/**
+	 * Returns the sum of {@link Position#materialScore()},
+	 * {@link Position#pieceSquareScore()} and
+	 * {@link #evaluatePositional(Position)}.
+	 *
+	 * @param position the chess position to evaluate
+	 * @return the evaluation score
+	 */
+	@Override
+	default int evaluate(Position position) {
+		return position.materialScore() + position.pieceSquareScore() + evaluatePositional(position);
+	}
+}
@@ -24,6 +24,11 @@ import java.util.List;
  */
 final class KingGenerator {
 	private static final Logger logger = LoggerFactory.getLogger(KingGenerator.class);
+	// first rank squares, shifted to the eighth rank for black
+	private static final long SHORT_EMPTY = 0x60L;
+	private static final long SHORT_SAFE = 0x60L;
+	private static final long LONG_EMPTY = 0xEL;
+	private static final long LONG_SAFE = 0xCL;
     private final GeneratorUtil generatorUtil;
 
     public KingGenerator(GeneratorUtil generatorUtil) {
@@ -31,18 +36,62 @@ final class KingGenerator {
 		logger.instantiation();
     }
 
-    public void kingMoves(int square, int pieceType, long enemies, long friends, Position pos, long inCheck,
+    public void kingMoves(int square, int pieceType, long enemies, long friends, Position pos, AttackMap attackMap,
 			List<Position> children) {
-		final long emptyOrEnemy = ~friends;
-		long moves = GeneratorUtil.KING_MOVES[square];
+		final long moves = GeneratorUtil.KING_MOVES[square] & ~friends & ~attackMap.kingDanger();
 
-		generateKingPositions(moves & emptyOrEnemy, pieceType, square, enemies, pos, children);
+		generateKingPositions(moves, pieceType, square, enemies, pos, children);
+		generateCastlePositions(castleMoves(square, enemies, friends, pos, attackMap), pieceType, square, pos,
+				children);
+	}
+
+	int countKingMoves(int square, long enemies, long friends, Position pos, AttackMap attackMap) {
+		final long moves = GeneratorUtil.KING_MOVES[square] & ~friends & ~attackMap.kingDanger();
+		return Long.bitCount(moves) + Long.bitCount(castleMoves(square, enemies, friends, pos, attackMap));
+	}
+
+	void fillKingMoves(int square, long enemies, long friends, Position pos, AttackMap attackMap,
+			MoveList moveList) {
+		moveList.addAll(square, GeneratorUtil.KING_MOVES[square] & ~friends & ~attackMap.kingDanger(), enemies);
+		addCastleMoves(square, enemies, friends, pos, attackMap, moveList);
+	}
+
+	// king steps into attacked squares are not verified, castles are always legal
+	void fillPseudoLegalKingMoves(int square, long enemies, long friends, Position pos, long targets, int kinds,
+			MoveList moveList) {
+		moveList.addAll(square, GeneratorUtil.KING_MOVES[square] & ~friends & targets, enemies);
+		if ((kinds & Generator.QUIETS) != 0)
+			addCastleMoves(square, enemies, friends, pos, pos.attackMap(), moveList);
+	}
+
+	private void addCastleMoves(int square, long enemies, long friends, Position pos, AttackMap attackMap,
+			MoveList moveList) {
+		long castles = castleMoves(square, enemies, friends, pos, attackMap);
+		while (castles != 0L) {
+			moveList.add(MoveEncoding.encode(square, Long.numberOfTrailingZeros(castles), 0, MoveEncoding.CASTLE));
+			castles = castles & (castles - 1);
+		}
+	}
+
+	// the king target squares of the legal castles, the squares the king crosses
+	// are checked against the enemy attacks
+	private long castleMoves(int square, long enemies, long friends, Position pos, AttackMap attackMap) {
+		if (attackMap.inCheck())
+			return 0L;
+		final long occupied = enemies | friends;
+		final boolean whiteMove = pos.wm() == 1L;
+		final int shift = whiteMove ? 0 : 56;
+		if (square != 4 + shift)
+			return 0L;
+		final long attacked = attackMap.attacks(whiteMove ? Side.BLACK : Side.WHITE);
 		long castleMoves = 0L;
-		castleMoves = castleMoves | (generatorUtil.isShortCastleWhiteEnable(square, enemies, friends, pos, inCheck) << 6);
-		castleMoves = castleMoves | (generatorUtil.isLongCastleWhiteEnable(square, enemies, friends, pos, inCheck) << 2);
-		castleMoves = castleMoves | (generatorUtil.isShortCastleBlackEnable(square, enemies, friends, pos, inCheck) << 62);
-		castleMoves = castleMoves | (generatorUtil.isLongCastleBlackEnable(square, enemies, friends, pos, inCheck) << 58);
-		generateCastlePositions(castleMoves, pieceType, square, pos, children);
+		if ((whiteMove ? pos.wk() : pos.bk()) == 1L && (occupied & SHORT_EMPTY << shift) == 0L
+				&& (attacked & SHORT_SAFE << shift) == 0L)
+			castleMoves = castleMoves | 1L << (6 + shift);
+		if ((whiteMove ? pos.wq() : pos.bq()) == 1L && (occupied & LONG_EMPTY << shift) == 0L
+				&& (attacked & LONG_SAFE << shift) == 0L)
+			castleMoves = castleMoves | 1L << (2 + shift);
+		return castleMoves;
 	}
 
     private void generateKingPositions(long moves, int pieceType, int originSquare, long enemies, Position position,
@@ -51,14 +100,10 @@ final class KingGenerator {
 			final long move = moves & -moves;
 			final Position newPosition = position.makeClone();
 			generatorUtil.makeMove(newPosition, move, pieceType, originSquare, enemies, position);
-			final Position testPosition = newPosition.makeClone();
-			testPosition.setWM(position.wm());
-			if (generatorUtil.isInCheck(testPosition) != 1L) {
-				newPosition.changeColorToMove();
-				generatorUtil.applyCastleRules(newPosition);
-				newPosition.changeColorToMove();
-				children.add(newPosition);
-			}
+			newPosition.changeColorToMove();
+			generatorUtil.applyCastleRules(newPosition);
+			newPosition.changeColorToMove();
+			children.add(newPosition);
 			moves = moves & ~move;
 		}
 	}
@@ -77,6 +122,9 @@ final class KingGenerator {
     private void makeCastle(Position position, long move, int pieceType, int originSquare) {		
 		position.makeCastle(move, pieceType, originSquare);
 		generatorUtil.applyCastleRules(position);
+		position.changeColorToMove();
+		generatorUtil.applyCastleRules(position);
+		position.changeColorToMove();
 		position.setHalfMovesCounter(position.getHalfMovesCounter() + 1);
 		position.increaseMovesCounter();
 		position.setEnPassant(-1);
@@ -25,25 +25,15 @@ import java.util.List;
 class KnightGenerator {
 	private static final Logger logger = LoggerFactory.getLogger(KnightGenerator.class);
 	private final GeneratorUtil generatorUtil;
-	private final MatrixUtil matrixUtil;
 
-	public KnightGenerator(GeneratorUtil generatorUtil, MatrixUtil matrixUtil) {
+	public KnightGenerator(GeneratorUtil generatorUtil) {
 		this.generatorUtil = generatorUtil;
-		this.matrixUtil = matrixUtil;
 		logger.instantiation();
 	}
 
 	public void knightMoves(long br, int square, int pieceType, long enemies, long friends, Position pos,
 			long checkMask, long inCheckMask, List<Position> children) {
-		final int[] knightDirections = matrixUtil.knightMatrix[square];
-		final long emptyOrEnemy = ~friends;
-		long moves = 0L;
-		for (int move : knightDirections) {
-			moves = moves | (1L << move);
-		}
-		final long[] pin = new long[] { -1L, 0L };
-		final long pinMask = pin[(int) ((br & checkMask) >>> generatorUtil.squaresMap(br & checkMask))];
-		long legalMoves = moves & emptyOrEnemy & pinMask & inCheckMask;
+		long legalMoves = knightLegalMoves(br, square, friends, checkMask, inCheckMask);
 
 		while (legalMoves != 0L) {
 			final long move = legalMoves & -legalMoves;
@@ -54,4 +44,10 @@ class KnightGenerator {
 		}
 	}
 
+	long knightLegalMoves(long br, int square, long friends, long checkMask, long inCheckMask) {
+		// a pinned knight never moves along the pin ray
+		final long pinMask = (br & checkMask) == 0L ? -1L : 0L;
+		return Generator.KNIGHT_ATTACKS[square] & ~friends & pinMask & inCheckMask;
+	}
+
 }
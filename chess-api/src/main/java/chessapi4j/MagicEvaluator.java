@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static chessapi4j.EvaluatorImp.*;
+
+//singleton bean
+/**
+ * Same evaluation as {@link EvaluatorImp}, computed straight from the bitboards.
+ * Slider attacks are read from the magic tables, the pawn terms that do not
+ * depend on the kings are read from a {@link PawnHashTable}, and the threatened
+ * pieces are ranked with a few local variables instead of priority queues, so
+ * evaluating a position allocates nothing.
+ * <p>
+ * The scores are identical to those of {@link EvaluatorImp}, quirks included:
+ * the black queen only looks along ranks and files, and the gain of black is
+ * taken from the pieces threatened by white.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class MagicEvaluator implements Evaluator {
+	private static final Logger logger = LoggerFactory.getLogger(MagicEvaluator.class);
+	// indexes in the bits array of the position
+	private static final int WP = 0;
+	private static final int WN = 1;
+	private static final int WB = 2;
+	private static final int WR = 3;
+	private static final int WQ = 4;
+	private static final int WK = 5;
+	private static final int BP = 6;
+	private static final int BN = 7;
+	private static final int BB = 8;
+	private static final int BR = 9;
+	private static final int BQ = 10;
+	private static final int BK = 11;
+
+	private final VisibleMagic magic;
+	private final PawnHashTable pawnHashTable;
+
+	MagicEvaluator(VisibleMagic magic, PawnHashTable pawnHashTable) {
+		this.magic = magic;
+		this.pawnHashTable = pawnHashTable;
+		logger.instantiation();
+	}
+
+	@Override
+	public int evaluate(Position position) {
+		return evaluate(position, PawnStructure.lookup(pawnHashTable, position));
+	}
+
+	// pawns is the pawn hash entry of the position
+	int evaluate(Position position, long[] pawns) {
+		final long[] bits = position.getBits();
+		final long white = bits[WP] | bits[WN] | bits[WB] | bits[WR] | bits[WQ] | bits[WK];
+		final long black = bits[BP] | bits[BN] | bits[BB] | bits[BR] | bits[BQ] | bits[BK];
+		final long whiteKingMask = KING_MATRIX_MASK[Long.numberOfTrailingZeros(bits[WK])];
+		final long blackKingMask = KING_MATRIX_MASK[Long.numberOfTrailingZeros(bits[BK])];
+		// the king independent pawn terms come from the pawn hash
+		int eval = (int) pawns[PawnHashTable.PAWN_TERMS]
+				+ ((PawnStructure.whiteAttackCount(bits[WP], blackKingMask)
+						- PawnStructure.blackAttackCount(bits[BP], whiteKingMask)) << KING_PLUS);
+		long whiteThreats = PawnStructure.whiteAttacks(bits[WP]) & black;
+		for (int piece = WN; piece < WK; piece++) {
+			for (long j = bits[piece]; j != 0L; j &= j - 1) {
+				final int square = Long.numberOfTrailingZeros(j);
+				final long attacks = attacks(piece, square, white, black);
+				eval += value(piece, square, attacks, blackKingMask);
+				whiteThreats |= attacks & black;
+			}
+		}
+		for (int piece = BN; piece < BK; piece++) {
+			for (long j = bits[piece]; j != 0L; j &= j - 1) {
+				final int square = Long.numberOfTrailingZeros(j);
+				eval -= value(piece, square, attacks(piece, square, black, white), whiteKingMask);
+			}
+		}
+
+		// the three lowest values among the black pieces threatened by white
+		int count = 0;
+		int lowest = Integer.MAX_VALUE;
+		int second = Integer.MAX_VALUE;
+		int third = Integer.MAX_VALUE;
+		for (long j = whiteThreats; j != 0L; j &= j - 1) {
+			final int square = Long.numberOfTrailingZeros(j);
+			final int piece = blackPieceAt(bits, 1L << square);
+			final int value = piece == BK ? 1 << BK_VALUE
+					: -value(piece, square, attacks(piece, square, black, white), whiteKingMask);
+			if (value < lowest) {
+				third = second;
+				second = lowest;
+				lowest = value;
+			} else if (value < second) {
+				third = second;
+				second = value;
+			} else if (value < third) {
+				third = value;
+			}
+			count++;
+		}
+		// the lowest one is discarded, white gains at least the second and black the third
+		if (count > 1)
+			eval -= second;
+		if (count > 2)
+			eval -= third;
+		return eval;
+	}
+
+	private long attacks(int piece, int square, long friends, long enemies) {
+		switch (piece) {
+		case WP:
+			return Generator.PAWN_ATTACKS[1][square];
+		case BP:
+			return Generator.PAWN_ATTACKS[0][square];
+		case WN:
+		case BN:
+			return KNIGHT_MASK_MATRIX[square] & ~friends;
+		case WB:
+		case BB:
+			return magic.visibleBishop(square, friends, enemies);
+		case WR:
+		case BR:
+		case BQ:
+			return magic.visibleRook(square, friends, enemies);
+		default:
+			return magic.visibleBishop(square, friends, enemies) | magic.visibleRook(square, friends, enemies);
+		}
+	}
+
+	// value of the piece as seen from its own side
+	private static int value(int piece, int square, long attacks, long enemyKingMask) {
+		int e = (Long.bitCount(attacks & CENTER_MASK) << CENTER_PLUS)
+				+ (Long.bitCount(attacks & enemyKingMask) << KING_PLUS);
+		if (piece == WP) {
+			e += ((square >> 3) - BLACK_8_ROW) << PROMOTION_PLUS;
+			e += Long.bitCount(attacks) << PAWN_CAPTURE_PLUS;
+			e += Long.bitCount(WP_ADVANCES[square]) << PAWN_ADVANCE_PLUS;
+		} else if (piece == BP) {
+			e += (WHITE_8_ROW - (square >> 3)) << PROMOTION_PLUS;
+			e += Long.bitCount(attacks) << PAWN_CAPTURE_PLUS;
+			e += Long.bitCount(BP_ADVANCES[square]) << PAWN_ADVANCE_PLUS;
+		} else {
+			e += Long.bitCount(attacks) << STANDARD_SQUARE_VALUE;
+		}
+		return e;
+	}
+
+	private static int blackPieceAt(long[] bits, long bit) {
+		for (int piece = BP; piece < BK; piece++) {
+			if ((bits[piece] & bit) != 0L)
+				return piece;
+		}
+		return BK;
+	}
+}
@@ -15,82 +15,84 @@
  */
 package chessapi4j;
 
-import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
-import java.util.stream.IntStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 
-//singleton bean
 /**
+ * Fancy magic bitboards for one sliding piece. Each square has its own
+ * relevant occupancy mask, without the last square of each ray, and its own
+ * shift, so its table has exactly one entry per blockers subset. All the
+ * tables are stored one after the other in a single primitive array.
+ * <p>
+ * The magic numbers and the tables are read from the {@code magics.bin}
+ * resource, written at build time by the {@code MagicTablesWriter} test
+ * class: big endian longs, the 64 rook magic numbers followed by the rook
+ * tables, then the same for the bishop. Only the masks, shifts and offsets
+ * are derived from the rays at runtime.
+ * </p>
+ *
  * @author lunalobos
- * @since 1.2.8
+ * @since 1.2.11
  */
 final class MagicNumbers {
     private static final Logger logger = LoggerFactory.getLogger(MagicNumbers.class);
-    private final Combinator combinator;
-    private final VisibleMetricsUtil visibleMetricsUtil;
-    private final MagicHasher hasher;
-    private long[] magicNumbersArray;
-    private final Long[][] perfectHashMaps;
-    private final FastFailLongMap map;
-    private final int[] directionIndexes;
-    private final Random random;
+    private static final String RESOURCE = "magics.bin";
 
-    public MagicNumbers(Combinator combinator, VisibleMetricsUtil visibleMetricsUtil, MagicHasher hasher, int capacity,
-            int[] directionIndexes, Random random) {
-        this.combinator = combinator;
-        this.visibleMetricsUtil = visibleMetricsUtil;
-        this.hasher = hasher;
-        perfectHashMaps = new Long[64][];
-        map = new FastFailLongMap(capacity);
-        this.directionIndexes = directionIndexes;
-        this.random = random;
-        logger.instantiation();
+    static final MagicNumbers ROOK;
+    static final MagicNumbers BISHOP;
+
+    static {
+        try (var is = MagicNumbers.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (is == null)
+                throw new FileNotFoundException(RESOURCE);
+            var buffer = ByteBuffer.wrap(is.readAllBytes()).asLongBuffer();
+            ROOK = new MagicNumbers(Util.ROOK_DIRECTIONS, buffer);
+            BISHOP = new MagicNumbers(Util.BISHOP_DIRECTIONS, buffer);
+            if (buffer.hasRemaining())
+                throw new IOException(String.format("%d unexpected trailing longs", buffer.remaining()));
+        } catch (IOException | BufferUnderflowException e) {
+            var fatalException = new ResourceAccessException(RESOURCE, e);
+            logger.fatal(fatalException.getMessage());
+            throw fatalException;
+        }
     }
 
-    void calculate() {
-        final Map<Integer, Long> magicNumbers = new HashMap<>();
-        IntStream.range(0, 64).boxed()
-                .forEach(square -> {
-                    var combinations = combinator.compute(square, directionIndexes);
-                    while (true) { // don't worry about this loop, it will always converge =)
-                        var magicNumber = BigInteger.probablePrime(63, random).longValue();
-                        if (magicNumber < 0) {
-                            magicNumber = -magicNumber;
-                        }
-                        map.clear();
-                        var isMagic = true;
-                        for (long combination : combinations) {
-                            var directions = Util.QUEEN_MEGAMATRIX[square];
-                            var visible = visibleMetricsUtil.computeVisible(square, directionIndexes, directions, 0L, combination);
-                            var index = hasher.hash(combination, magicNumber, square);
-                            if (map.containsKey(index)) {
-                                if (!map.get(index).equals(visible)) {
-                                    isMagic = false;
-                                }
-                            } else {
-                                map.put(index, visible);
-                            }
-                        }
-                        if (isMagic) {
-                            magicNumbers.put(square, magicNumber);
-                            perfectHashMaps[square] = map.toLongArray();
-                            break;
-                        }
-                    }
-                });
-        magicNumbersArray = new long[magicNumbers.size()];
-        for (var entry : magicNumbers.entrySet()) {
-            magicNumbersArray[entry.getKey()] = entry.getValue();
+    final long[] magics = new long[64];
+    final long[] masks = new long[64];
+    final int[] shifts = new int[64];
+    final int[] offsets = new int[64];
+    final long[] attacks;
+
+    private MagicNumbers(int[] directionIndexes, LongBuffer buffer) {
+        var size = 0;
+        for (int square = 0; square < 64; square++) {
+            masks[square] = relevantMask(square, directionIndexes);
+            shifts[square] = 64 - Long.bitCount(masks[square]);
+            offsets[square] = size;
+            size += 1 << Long.bitCount(masks[square]);
         }
+        attacks = new long[size];
+        buffer.get(magics);
+        buffer.get(attacks);
+        logger.instantiation();
+    }
 
+    // the last square of each ray never blocks anything, so it is left out of the mask
+    private static long relevantMask(int square, int[] directionIndexes) {
+        var mask = 0L;
+        for (int directionIndex : directionIndexes) {
+            var direction = Util.QUEEN_MEGAMATRIX[square][directionIndex];
+            for (int i = 0; i < direction.length - 1; i++) {
+                mask |= 1L << direction[i];
+            }
+        }
+        return mask;
     }
 
     public long visibleHashed(int square, long occupied) {
-        var magic = magicNumbersArray[square];
-        var hash = hasher.hash(occupied, magic, square);
-        var result = perfectHashMaps[square][hash];
-        return result == null ? 0L : result;
+        return attacks[offsets[square] + (int) (((occupied & masks[square]) * magics[square]) >>> shifts[square])];
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static chessapi4j.EvaluatorImp.KING_MATRIX_MASK;
+import static chessapi4j.EvaluatorImp.KNIGHT_MASK_MATRIX;
+
+//singleton bean
+/**
+ * Centipawn evaluation made of the material and piece-square terms kept by the
+ * position and of the terms that cannot be kept across moves: mobility, pawn
+ * and hanging piece threats, and the pawn structure score of the pawn hash.
+ * <p>
+ * The scores are not those of {@link MagicEvaluator}, which has no material
+ * term and a scale of its own. Each piece attacks are computed once, so a call
+ * costs less than one of {@link MagicEvaluator}, which also values every
+ * threatened piece.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class MaterialEvaluator implements IncrementalEvaluator {
+	private static final Logger logger = LoggerFactory.getLogger(MaterialEvaluator.class);
+	// per square attacked and not covered by enemy pawns, indexed by white bitboard index
+	private static final int[] MOBILITY = { 0, 4, 3, 2, 1 };
+	// per enemy piece other than pawns and king attacked by a pawn
+	private static final int PAWN_THREAT = 30;
+	// per enemy piece other than the king attacked and not defended
+	private static final int HANGING = 15;
+
+	private final VisibleMagic magic;
+	private final PawnHashTable pawnHashTable;
+
+	MaterialEvaluator(VisibleMagic magic, PawnHashTable pawnHashTable) {
+		this.magic = magic;
+		this.pawnHashTable = pawnHashTable;
+		logger.instantiation();
+	}
+
+	@Override
+	public int evaluatePositional(Position position) {
+		final long[] bits = position.getBits();
+		final long white = bits[0] | bits[1] | bits[2] | bits[3] | bits[4] | bits[5];
+		final long black = bits[6] | bits[7] | bits[8] | bits[9] | bits[10] | bits[11];
+		final long occupied = white | black;
+		final long whitePawnAttacks = PawnStructure.whiteAttacks(bits[0]);
+		final long blackPawnAttacks = PawnStructure.blackAttacks(bits[6]);
+		long whiteAttacks = whitePawnAttacks | KING_MATRIX_MASK[Long.numberOfTrailingZeros(bits[5])];
+		long blackAttacks = blackPawnAttacks | KING_MATRIX_MASK[Long.numberOfTrailingZeros(bits[11])];
+		int eval = 0;
+		for (int piece = 1; piece < 5; piece++) {
+			for (long j = bits[piece]; j != 0L; j &= j - 1) {
+				final long attacks = attacks(piece, Long.numberOfTrailingZeros(j), occupied);
+				whiteAttacks |= attacks;
+				eval += MOBILITY[piece] * Long.bitCount(attacks & ~white & ~blackPawnAttacks);
+			}
+			for (long j = bits[piece + 6]; j != 0L; j &= j - 1) {
+				final long attacks = attacks(piece, Long.numberOfTrailingZeros(j), occupied);
+				blackAttacks |= attacks;
+				eval -= MOBILITY[piece] * Long.bitCount(attacks & ~black & ~whitePawnAttacks);
+			}
+		}
+		final long whitePieces = white & ~bits[0] & ~bits[5];
+		final long blackPieces = black & ~bits[6] & ~bits[11];
+		eval += PAWN_THREAT * (Long.bitCount(whitePawnAttacks & blackPieces)
+				- Long.bitCount(blackPawnAttacks & whitePieces));
+		eval += HANGING * (Long.bitCount(whiteAttacks & ~blackAttacks & black & ~bits[11])
+				- Long.bitCount(blackAttacks & ~whiteAttacks & white & ~bits[5]));
+		return eval + (int) PawnStructure.lookup(pawnHashTable, position)[PawnHashTable.STRUCTURE];
+	}
+
+	// every square reached, own pieces included so defended pieces can be told apart
+	private long attacks(int piece, int square, long occupied) {
+		switch (piece) {
+		case 1:
+			return KNIGHT_MASK_MATRIX[square];
+		case 2:
+			return magic.visibleBishop(square, 0L, occupied);
+		case 3:
+			return magic.visibleRook(square, 0L, occupied);
+		default:
+			return magic.visibleBishop(square, 0L, occupied) | magic.visibleRook(square, 0L, occupied);
+		}
+	}
+}
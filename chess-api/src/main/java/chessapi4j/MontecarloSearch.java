@@ -21,6 +21,8 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -33,25 +35,29 @@ import lombok.ToString;
 
 //singleton bean
 /**
- * Montecarlo search implementation
+ * Montecarlo search implementation.
+ * <p>
+ * The instance only holds configuration, all the state of a search lives in
+ * the local variables and the {@link MoveData} objects of the call, so the
+ * singleton can be used by several threads at the same time.
+ * </p>
  *
  * @author lunalobos
  * @since 1.2.0
  */
-@Data
 class MontecarloSearch implements Search {
 	private static final Logger logger = LoggerFactory.getLogger(MontecarloSearch.class);
-	private int depth;
-	private Supplier<Evaluator> $evaluationFactory;
-	private Position initialPosition;
-	private int sampleSize;
-	private double $totalScore;
-	private List<MoveData> candidates;
+	private volatile TranspositionTable transpositionTable;
 
 	public MontecarloSearch() {
 		logger.instantiation();
 	}
 
+	@Override
+	public void setTranspositionTable(TranspositionTable transpositionTable) {
+		this.transpositionTable = transpositionTable;
+	}
+
 	@Override
 	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, int depth) {
 		return seekBestMove(p, evaluatorFactory, depth, 3);
@@ -65,6 +71,27 @@ class MontecarloSearch implements Search {
 	@Override
 	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, int depth, int sampleSize,
 			String searchMoves) {
+		return search(p, evaluatorFactory, depth, sampleSize, searchMoves, () -> false);
+	}
+
+	/**
+	 * The depth defaults to 5 when the limits do not set it. Candidate moves
+	 * whose calculation was interrupted by the limits or the handle are left
+	 * out, if no candidate could be completed the first legal move is returned.
+	 */
+	@Override
+	public Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, SearchLimits limits,
+			SearchHandle handle) {
+		final long budget = limits.timeBudget(p.isWhiteMove());
+		final long deadline = budget > 0L ? System.nanoTime() + budget * 1_000_000L : Long.MAX_VALUE;
+		final long nodeLimit = limits.getNodes() > 0L ? limits.getNodes() : Long.MAX_VALUE;
+		final AtomicLong nodes = new AtomicLong();
+		return search(p, evaluatorFactory, limits.getDepth() > 0 ? limits.getDepth() : 5, 3, limits.getSearchMoves(),
+				() -> handle.isCancelled() || nodes.incrementAndGet() > nodeLimit || System.nanoTime() > deadline);
+	}
+
+	private Optional<Move> search(Position p, Supplier<Evaluator> evaluatorFactory, int depth, int sampleSize,
+			String searchMoves, BooleanSupplier stop) {
 
 		final List<Move> searchMovesList = new LinkedList<>();
 
@@ -83,35 +110,42 @@ class MontecarloSearch implements Search {
 		final Predicate<MoveData> moveFilter = searchMovesList.isEmpty() ? moveData -> true
 				: moveData -> searchMovesList.contains(moveData.getMove());
 
-		initialPosition = p;
+		final int searchDepth = Math.max(depth, 5);
 
-		this.$evaluationFactory = evaluatorFactory;
+		final TranspositionTable table = transpositionTable;
 
-		this.depth = Math.max(depth, 5);
+		if (table != null)
+			table.newSearch();
 
-		this.sampleSize = sampleSize;
+		List<MoveData> calculated = candidateMoves(p, evaluatorFactory, sampleSize, table, stop).filter(moveFilter)
+				.peek(md -> {
+					md.calculate(searchDepth);
+				}).collect(Collectors.toCollection(ArrayList::new));
 
-		candidates = candidateMoves().filter(moveFilter).peek(md -> {
-			md.calculate(this.depth);
-		}).collect(Collectors.toCollection(ArrayList::new));
+		final List<MoveData> candidates = calculated.stream().filter(md -> !md.isAborted())
+				.collect(Collectors.toCollection(ArrayList::new));
+		if (candidates.isEmpty())
+			return calculated.stream().map(MoveData::getMove).findFirst();
 
-		candidates.sort((c1, c2) -> (initialPosition.isWhiteMove() ? -1 : 1) *
+		candidates.sort((c1, c2) -> (p.isWhiteMove() ? -1 : 1) *
 				Double.compare(c1.getScore(), c2.getScore()));
 
-		$totalScore = candidates.stream().mapToDouble(MoveData::getScore).sum();
+		final double totalScore = candidates.stream().mapToDouble(MoveData::getScore).sum();
 		candidates.forEach(md -> {
-			md.setScore(md.getScore() / $totalScore);
+			md.setScore(md.getScore() / totalScore);
 		});
 		return candidates.stream().map(MoveData::getMove).findFirst();
 	}
 
-	private Stream<MoveData> candidateMoves() {
+	private static Stream<MoveData> candidateMoves(Position initialPosition, Supplier<Evaluator> evaluationFactory,
+			int sampleSize, TranspositionTable table, BooleanSupplier stop) {
 		List<Position> children = GeneratorFactory.instance().generateChildren(initialPosition);
 		Iterator<Position> posIterator = children.iterator();
 		Iterator<Move> moveIterator = GeneratorFactory.instance().generateMoves(initialPosition, children).iterator();
 		List<MoveData> candidates = new LinkedList<>();
 		while (posIterator.hasNext()) {
-			candidates.add(new MoveData(moveIterator.next(), posIterator.next(), sampleSize, $evaluationFactory));
+			candidates.add(new MoveData(moveIterator.next(), posIterator.next(), sampleSize, evaluationFactory,
+					table, stop));
 		}
 		return candidates.parallelStream();
 	}
@@ -128,14 +162,20 @@ class MoveData {
 	private Position position;
 	private int $sampleSize;
 	private double score;
+	private TranspositionTable $transpositionTable;
+	private BooleanSupplier $stop;
+	private boolean $aborted;
 
-	public MoveData(Move move, Position position, int sample, Supplier<Evaluator> factory) {
+	public MoveData(Move move, Position position, int sample, Supplier<Evaluator> factory,
+			TranspositionTable transpositionTable, BooleanSupplier stop) {
 		this.move = move;
 		this.position = position;
 		score = 0.0;
 		this.$sampleSize = sample;
 		this.$evaluationFactory = factory;
 		$positionsCounter = 0;
+		this.$transpositionTable = transpositionTable;
+		this.$stop = stop;
 
 	}
 
@@ -144,6 +184,10 @@ class MoveData {
 		score = (double) sum / (double) $positionsCounter;
 	}
 
+	public boolean isAborted() {
+		return $aborted;
+	}
+
 	private int firstIteration(int depth) {
 
 		List<Position> children = GeneratorFactory.instance().generateChildren(position);
@@ -164,15 +208,18 @@ class MoveData {
 	}
 
 	private int subsequentIteration(Position p, int depth) {
+		if ($aborted || $stop.getAsBoolean()) {
+			$aborted = true;
+			return 0;
+		}
 		if (depth == 0) {
 			$positionsCounter++;
-			return $evaluationFactory.get().evaluate(p);
+			return evaluate(p);
 		}
 		List<Position> children = GeneratorFactory.instance().generateChildren(p);
 		if (children.isEmpty()) {
-			Rules.setStatus(position);
-			int c = position.isWhiteMove() ? 1 : -1;
-			return position.isCheckmate() ? c * 100000 : 0;
+			int c = p.isWhiteMove() ? -1 : 1;
+			return p.attackMap().inCheck() ? c * 100000 : 0;
 		}
 		// sample
 		if (children.size() > $sampleSize) {
@@ -187,4 +234,16 @@ class MoveData {
 		return output;
 	}
 
+	private int evaluate(Position p) {
+		if ($transpositionTable == null)
+			return $evaluationFactory.get().evaluate(p);
+		final long key = p.zobristKey();
+		final long entry = $transpositionTable.probe(key);
+		if (entry != TranspositionTable.NO_ENTRY)
+			return TranspositionTable.score(entry);
+		final int score = $evaluationFactory.get().evaluate(p);
+		$transpositionTable.store(key, MoveEncoding.NONE, score, 0, TranspositionTable.EXACT);
+		return score;
+	}
+
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Static helpers to work with moves packed into a single {@code int}. This is
+ * the representation used by {@link MoveList}, it avoids the creation of a
+ * {@link Move} instance per generated move.
+ * <p>
+ * Layout: bits 0-5 origin square, bits 6-11 target square, bits 12-15
+ * promotion piece ordinal (0 when there is no promotion) and bits 16-19 flags.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class MoveEncoding {
+	/**
+	 * Value that does not represent any move.
+	 */
+	public static final int NONE = 0;
+	/**
+	 * The move captures a piece.
+	 */
+	public static final int CAPTURE = 1;
+	/**
+	 * The move is an en passant capture.
+	 */
+	public static final int EN_PASSANT = 2;
+	/**
+	 * The move is a castle.
+	 */
+	public static final int CASTLE = 4;
+	/**
+	 * The move is a two squares pawn advance.
+	 */
+	public static final int DOUBLE_PUSH = 8;
+
+	private static final int SQUARE_MASK = 63;
+	private static final int PIECE_MASK = 15;
+	private static final int FLAGS_MASK = 15;
+	private static final int TARGET_SHIFT = 6;
+	private static final int PROMOTION_SHIFT = 12;
+	private static final int FLAGS_SHIFT = 16;
+
+	/**
+	 * Packs a move.
+	 *
+	 * @param origin    the origin square index
+	 * @param target    the target square index
+	 * @param promotion the promotion piece ordinal, a non positive value for no
+	 *                  promotion
+	 * @param flags     a combination of {@link #CAPTURE}, {@link #EN_PASSANT},
+	 *                  {@link #CASTLE} and {@link #DOUBLE_PUSH}
+	 * @return the packed move
+	 */
+	public static int encode(int origin, int target, int promotion, int flags) {
+		return origin | target << TARGET_SHIFT | Math.max(promotion, 0) << PROMOTION_SHIFT | flags << FLAGS_SHIFT;
+	}
+
+	/**
+	 * Packs a {@code Move} instance. The resulting move has no flags.
+	 *
+	 * @param move the move
+	 * @return the packed move
+	 */
+	public static int encode(Move move) {
+		return encode(move.getOrigin(), move.getTarget(), move.getPromotionPiece(), 0);
+	}
+
+	/**
+	 * Origin square index.
+	 *
+	 * @param move the packed move
+	 * @return the origin square index
+	 */
+	public static int origin(int move) {
+		return move & SQUARE_MASK;
+	}
+
+	/**
+	 * Target square index.
+	 *
+	 * @param move the packed move
+	 * @return the target square index
+	 */
+	public static int target(int move) {
+		return (move >>> TARGET_SHIFT) & SQUARE_MASK;
+	}
+
+	/**
+	 * Promotion piece ordinal, or -1 when the move is not a promotion, the same
+	 * convention used by {@link Move#getPromotionPiece()}.
+	 *
+	 * @param move the packed move
+	 * @return the promotion piece ordinal or -1
+	 */
+	public static int promotion(int move) {
+		final int piece = (move >>> PROMOTION_SHIFT) & PIECE_MASK;
+		return piece == 0 ? -1 : piece;
+	}
+
+	/**
+	 * The flags of the move.
+	 *
+	 * @param move the packed move
+	 * @return the flags
+	 */
+	public static int flags(int move) {
+		return (move >>> FLAGS_SHIFT) & FLAGS_MASK;
+	}
+
+	/**
+	 * If this method returns true the move captures a piece, including en
+	 * passant captures.
+	 *
+	 * @param move the packed move
+	 * @return true if the move is a capture, false otherwise
+	 */
+	public static boolean isCapture(int move) {
+		return (flags(move) & (CAPTURE | EN_PASSANT)) != 0;
+	}
+
+	/**
+	 * If this method returns true the move is a promotion.
+	 *
+	 * @param move the packed move
+	 * @return true if the move is a promotion, false otherwise
+	 */
+	public static boolean isPromotion(int move) {
+		return ((move >>> PROMOTION_SHIFT) & PIECE_MASK) != 0;
+	}
+
+	/**
+	 * Creates the {@code Move} instance equivalent to the packed move.
+	 *
+	 * @param move the packed move
+	 * @return a new move instance
+	 */
+	public static Move toMove(int move) {
+		return new Move(1L << target(move), origin(move), promotion(move));
+	}
+
+	/**
+	 * Uci representation of the packed move, like {@link Move#toString()}.
+	 *
+	 * @param move the packed move
+	 * @return the move as a string
+	 */
+	public static String toString(int move) {
+		return toMove(move).toString();
+	}
+
+	private MoveEncoding() {
+	}
+}
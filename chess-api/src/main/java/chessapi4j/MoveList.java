@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reusable buffer of packed moves (see {@link MoveEncoding}). The generator
+ * fills it without creating any {@link Move} instance, those are only created
+ * on demand through {@link #getMove(int)} or {@link #toMoves()}.
+ * <p>
+ * Instances are not thread safe, the intended use is one list per thread and
+ * per ply.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class MoveList {
+	/**
+	 * Default capacity, enough for any legal position.
+	 */
+	public static final int CAPACITY = 256;
+
+	private final int[] moves;
+	private int size;
+
+	/**
+	 * Creates an empty list with the default capacity.
+	 */
+	public MoveList() {
+		this(CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with the given capacity.
+	 *
+	 * @param capacity the maximum number of moves
+	 */
+	public MoveList(int capacity) {
+		moves = new int[capacity];
+	}
+
+	/**
+	 * Appends a packed move.
+	 *
+	 * @param move the packed move
+	 */
+	public void add(int move) {
+		moves[size++] = move;
+	}
+
+	/**
+	 * Returns the packed move at the given index.
+	 *
+	 * @param index the index
+	 * @return the packed move
+	 */
+	public int get(int index) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for size %d", index, size));
+		return moves[index];
+	}
+
+	/**
+	 * Replaces the packed move at the given index.
+	 *
+	 * @param index the index
+	 * @param move  the packed move
+	 */
+	public void set(int index, int move) {
+		if (index >= size)
+			throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for size %d", index, size));
+		moves[index] = move;
+	}
+
+	/**
+	 * Swaps two moves, useful for move ordering.
+	 *
+	 * @param i first index
+	 * @param j second index
+	 */
+	public void swap(int i, int j) {
+		final int aux = get(i);
+		moves[i] = get(j);
+		moves[j] = aux;
+	}
+
+	/**
+	 * The number of moves in the list.
+	 *
+	 * @return the number of moves
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * If this method returns true the list has no moves.
+	 *
+	 * @return true if the list is empty, false otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all the moves, the underlying buffer is kept.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Creates the {@code Move} instance for the packed move at the given index.
+	 *
+	 * @param index the index
+	 * @return a new move instance
+	 */
+	public Move getMove(int index) {
+		return MoveEncoding.toMove(get(index));
+	}
+
+	/**
+	 * Creates a list with the {@code Move} instances of all the packed moves.
+	 *
+	 * @return a new list of moves
+	 */
+	public List<Move> toMoves() {
+		final List<Move> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(MoveEncoding.toMove(moves[i]));
+		}
+		return list;
+	}
+
+	void addAll(int origin, long targets, long enemies) {
+		while (targets != 0L) {
+			final int target = Long.numberOfTrailingZeros(targets);
+			moves[size++] = MoveEncoding.encode(origin, target, 0,
+					(int) ((enemies >>> target) & 1L) * MoveEncoding.CAPTURE);
+			targets = targets & (targets - 1);
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0)
+				sb.append(", ");
+			sb.append(MoveEncoding.toString(moves[i]));
+		}
+		return sb.append("]").toString();
+	}
+}
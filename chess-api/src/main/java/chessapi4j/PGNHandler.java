@@ -33,7 +33,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * This class provides methods and tools for manipulating and converting chess
@@ -225,22 +224,13 @@ public class PGNHandler {
 
 		// Determine if there are one or more pieces of the same type that can move to
 		// the same destination.
-
-		GeneratorFactory.instance().generateMoves(position, GeneratorFactory.instance().generateChildren(position));
-		List<Move> moves = GeneratorFactory.instance()
-				.generateMoves(position, GeneratorFactory.instance().generateChildren(position)).stream()
-				.filter(m -> m.getTarget() == move.getTarget())
-				.filter(m -> Piece.values()[position.getSquares()[m.getOrigin()]] == Piece
-						.values()[position.getSquares()[move.getOrigin()]])
-				.filter(m -> m.getOrigin() != move.getOrigin()).collect(Collectors.toCollection(LinkedList::new));
+		final List<Integer> others = sameTypeAttackers(position, move, piece, isPawn);
 
 		// If such pieces exist, determine if they are in the same column.
-		boolean sameColumn = !moves.stream().filter(m -> Util.getCol(m.getOrigin()) == Util.getCol(move.getOrigin()))
-				.collect(Collectors.toCollection(LinkedList::new)).isEmpty();
+		boolean sameColumn = others.stream().anyMatch(o -> Util.getCol(o) == Util.getCol(move.getOrigin()));
 
 		// If such pieces exist, determine if they are in the same row.
-		boolean sameRow = !moves.stream().filter(m -> Util.getRow(m.getOrigin()) == Util.getRow(move.getOrigin()))
-				.collect(Collectors.toCollection(LinkedList::new)).isEmpty();
+		boolean sameRow = others.stream().anyMatch(o -> Util.getRow(o) == Util.getRow(move.getOrigin()));
 
 		// If they are in the same row but not in the same column, append the column
 		// letter.
@@ -258,7 +248,7 @@ public class PGNHandler {
 
 		// If they are not in the same row nor the same column, append the column
 		// letter.
-		if (!sameRow && !sameColumn && !moves.isEmpty() && !isPawn)
+		if (!sameRow && !sameColumn && !others.isEmpty() && !isPawn)
 			sbSAN.append(Util.getColLetter(move.getOrigin()));
 
 		// Determining if a piece is captured
@@ -288,17 +278,34 @@ public class PGNHandler {
 							: "O-O-O");
 		}
 
-		// Determine if it is a check or checkmate
-		Position p = position.childFromMove(move).orElseThrow(() -> new IllegalArgumentException("Illegal move"));
-		Rules.setStatus(p);
-		if (p.isCheckmate())
-			sbSAN.append("#");
-		else if (Util.isInCheck(p))
-			sbSAN.append("+");
+		// Determine if it is a check or checkmate, the move is already known to be legal
+		Position p = position.makeClone();
+		p.makeMove(move);
+		if (p.attackMap().inCheck())
+			sbSAN.append(GeneratorFactory.instance().hasAnyLegalMove(p) ? "+" : "#");
 
 		return sbSAN.toString();
 	}
 
+	// origins of the other pieces of the same type that can legally move to the target square
+	private static List<Integer> sameTypeAttackers(Position position, Move move, Piece piece, boolean isPawn) {
+		if (isPawn)
+			return List.of();
+		final Generator generator = GeneratorFactory.instance();
+		final int flags = position.getSquares()[move.getTarget()] != Piece.EMPTY.ordinal() ? MoveEncoding.CAPTURE
+				: MoveEncoding.NONE;
+		final List<Integer> origins = new LinkedList<>();
+		long candidates = Util.attackersTo(position, Square.values()[move.getTarget()])
+				& position.getBits()[piece.ordinal() - 1] & ~(1L << move.getOrigin());
+		while (candidates != 0L) {
+			final int origin = Long.numberOfTrailingZeros(candidates);
+			if (generator.isLegal(position, MoveEncoding.encode(origin, move.getTarget(), 0, flags)))
+				origins.add(origin);
+			candidates &= candidates - 1;
+		}
+		return origins;
+	}
+
 	/**
 	 * Converts a chess move given in Universal Chess Interface (UCI) format (Pure
 	 * Coordinate Notation) to Standard Algebraic Notation (SAN) format.
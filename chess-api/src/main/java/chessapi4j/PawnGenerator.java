@@ -25,6 +25,7 @@ import java.util.List;
 final class PawnGenerator {
 	private static final Logger logger = LoggerFactory.getLogger(PawnGenerator.class);
 	private static final int[] EP_CHOICE = new int[] { 8, -8 };
+	private static final long PROMOTION_RANKS = 0xFF000000000000FFL;
 
 	static long isPromotion(int finalSquare) {
 		return ((((finalSquare >>> 3) & 7L) >>> 2) & ((((finalSquare >>> 3) & 7L) >>> 1) & 1L)
@@ -37,77 +38,106 @@ final class PawnGenerator {
 		return 8 * (-2 * (int) whiteMoveNumeric + 1) + enPassant;
 	}
 
-	private final VisibleMetrics visibleMetrics;
 	private final GeneratorUtil generatorUtil;
 
-	public PawnGenerator(VisibleMetrics visibleMetrics, GeneratorUtil generatorUtil) {
-		this.visibleMetrics = visibleMetrics;
+	public PawnGenerator(GeneratorUtil generatorUtil) {
 		this.generatorUtil = generatorUtil;
 
 		logger.instantiation();
 	}
 
-	public void pawnMoves(long br, int square, int[] pawnsDirections, int pieceType, int[][] matrix1, int[][] matrix2,
-			int kingSquare, long enemies, long friends, Position position, long checkMask, long inCheckMask,
-			long nextWhiteMove, List<Position> children) {
-		final int[] captureArray = matrix2[square];
-		long captureMoves = 0L;
-		long captureCoronationMoves = 0L;
-		for (int squareToCapture : captureArray) {
-			captureCoronationMoves = captureCoronationMoves | ((1L & isPromotion(squareToCapture)) << squareToCapture);
-			captureMoves = captureMoves | ((1L & ~isPromotion(squareToCapture)) << squareToCapture);
-		}
-		final int normalizedEnPassant = transformEnPassant(position.getEnPassant(), nextWhiteMove);
-		final long possibleEnPassant = (1L << normalizedEnPassant) & captureMoves;
-		captureMoves = captureMoves & enemies;
-		captureCoronationMoves = captureCoronationMoves & enemies;
-		final int[] advanceMatrix = matrix1[square];
-		long advanceMoves = 0L;
-		long advancePromotionMoves = 0L;
-		long advanceEnPassantMoves = 0L;
-		for (int squareToOccupy : advanceMatrix) {
-			advancePromotionMoves = advancePromotionMoves | ((1L & isPromotion(squareToOccupy)) << squareToOccupy);
-			advanceEnPassantMoves = advanceEnPassantMoves
-					| ((1L & isEnPassant(square, squareToOccupy, position.wm())) << squareToOccupy);
-			advanceMoves = advanceMoves | ((1L & ~isPromotion(squareToOccupy)
-					& ~isEnPassant(square, squareToOccupy, position.wm())) << squareToOccupy);
+	public void pawnMoves(long br, int square, int pieceType, int kingSquare, long enemies, long friends,
+			Position position, long checkMask, long inCheckMask, long nextWhiteMove, List<Position> children) {
+		final int whiteMove = (int) position.wm();
+		final long legalMoves = pawnTargets(square, whiteMove, enemies, friends)
+				& pinMask(br, square, kingSquare, checkMask) & inCheckMask;
+		final long doublePush = Generator.PAWN_DOUBLE_PUSHES[whiteMove][square];
+		generatorUtil.generatePositions(legalMoves & ~PROMOTION_RANKS & ~doublePush, pieceType, square, enemies,
+				position, children);
+		generatePromotions(legalMoves & PROMOTION_RANKS, pieceType, square, position, children);
+		generatePositionsWithEnPassant(legalMoves & doublePush, pieceType, square, enemies, position, children);
+		generateEnPassantCapture(enPassantCapture(square, whiteMove, position, nextWhiteMove), pieceType, square,
+				position, children);
+	}
+
+	int countPawnMoves(long br, int square, int pieceType, int kingSquare, long enemies, long friends,
+			Position position, long checkMask, long inCheckMask, long nextWhiteMove) {
+		final int whiteMove = (int) position.wm();
+		final long legalMoves = pawnTargets(square, whiteMove, enemies, friends)
+				& pinMask(br, square, kingSquare, checkMask) & inCheckMask;
+		int count = Long.bitCount(legalMoves) + 3 * Long.bitCount(legalMoves & PROMOTION_RANKS);
+		final long move = enPassantCapture(square, whiteMove, position, nextWhiteMove);
+		if (move != 0L && isLegalEnPassantCapture(position, square, move))
+			count++;
+		return count;
+	}
+
+	void fillPawnMoves(long br, int square, int pieceType, int kingSquare, long enemies, long friends,
+			Position position, long checkMask, long inCheckMask, long nextWhiteMove, MoveList moveList) {
+		final int whiteMove = (int) position.wm();
+		final long legalMoves = pawnTargets(square, whiteMove, enemies, friends)
+				& pinMask(br, square, kingSquare, checkMask) & inCheckMask;
+		addPawnMoves(legalMoves, Generator.PAWN_DOUBLE_PUSHES[whiteMove][square], square, pieceType, enemies, -1L,
+				Generator.CAPTURES | Generator.QUIETS, moveList);
+		final long move = enPassantCapture(square, whiteMove, position, nextWhiteMove);
+		if (move != 0L && isLegalEnPassantCapture(position, square, move))
+			moveList.add(MoveEncoding.encode(square, generatorUtil.squaresMap(move), 0, MoveEncoding.EN_PASSANT));
+	}
+
+	// pins, checks and en passant discovered checks are not verified
+	void fillPseudoLegalPawnMoves(long br, int square, int pieceType, long enemies, long friends, Position position,
+			long nextWhiteMove, long targets, int kinds, MoveList moveList) {
+		final int whiteMove = (int) position.wm();
+		addPawnMoves(pawnTargets(square, whiteMove, enemies, friends), Generator.PAWN_DOUBLE_PUSHES[whiteMove][square],
+				square, pieceType, enemies, targets, kinds, moveList);
+		final long move = enPassantCapture(square, whiteMove, position, nextWhiteMove);
+		if (move != 0L && (kinds & Generator.CAPTURES) != 0)
+			moveList.add(MoveEncoding.encode(square, Long.numberOfTrailingZeros(move), 0, MoveEncoding.EN_PASSANT));
+	}
+
+	// promotions and en passant captures belong to the captures kind, two squares advances to the quiets kind
+	private void addPawnMoves(long moves, long doublePush, int square, int pieceType, long enemies, long targets,
+			int kinds, MoveList moveList) {
+		moveList.addAll(square, moves & ~PROMOTION_RANKS & ~doublePush & targets, enemies);
+		long promotions = (kinds & Generator.CAPTURES) != 0 ? moves & PROMOTION_RANKS : 0L;
+		while (promotions != 0L) {
+			final int target = Long.numberOfTrailingZeros(promotions);
+			final int flags = (int) ((enemies >>> target) & 1L) * MoveEncoding.CAPTURE;
+			for (int coronationPiece = pieceType + 1; coronationPiece <= pieceType + 4; coronationPiece++) {
+				moveList.add(MoveEncoding.encode(square, target, coronationPiece, flags));
+			}
+			promotions = promotions & (promotions - 1);
 		}
-		final long visible = visibleMetrics.visibleSquaresRook(square, friends, enemies);
-		advanceMoves = advanceMoves & ~(friends | enemies | ~visible);
-		advancePromotionMoves = advancePromotionMoves & ~(friends | enemies | ~visible);
-		advanceEnPassantMoves = advanceEnPassantMoves & ~(friends | enemies | ~visible);
-		final long pseudoPromotionMoves = advancePromotionMoves | captureCoronationMoves;
-		final long pseudoLegalMoves = advanceMoves | captureMoves;
-		final long operation = (br & checkMask) >>> generatorUtil.squaresMap(br);
-		final long defense = generatorUtil.defenseDirection(kingSquare, square);
-		final long[] pin1 = new long[] { -1L, pseudoLegalMoves & checkMask & defense };
-		final long pinMask1 = pin1[(int) operation];
-		final long[] pin2 = new long[] { -1L, pseudoPromotionMoves & checkMask & defense };
-		final long pinMask2 = pin2[(int) operation];
-		final long[] pin3 = new long[] { -1L, advanceEnPassantMoves & checkMask & defense };
-		final long pinMask3 = pin3[(int) operation];
-		final long legalMoves = pseudoLegalMoves & pinMask1 & inCheckMask;
-		final long legalPromotionMoves = pseudoPromotionMoves & pinMask2 & inCheckMask;
-		final long legalAdvanceEnPassantMoves = advanceEnPassantMoves & pinMask3 & inCheckMask;
-		generatorUtil.generatePositions(legalMoves, pieceType, square, enemies, position, children);
-		generatePromotions(legalPromotionMoves, pieceType, square, position, children);
-		generatePositionsWithEnPassant(legalAdvanceEnPassantMoves, pieceType, square, enemies, position, children);
-		generateEnPassantCaptures(possibleEnPassant, pieceType, square, pawnsDirections, position, children);
-	}
-
-	private long isEnPassant(int originSquare, int finalSquare, long whiteMoveNumeric) {
-		final long difference = finalSquare - originSquare;
-		final long[] choice = new long[] { ~difference + 1, difference };
-		final long maskedDifference = 16L & choice[(int) whiteMoveNumeric];
-		return maskedDifference >>> 4;
+		if ((kinds & Generator.QUIETS) != 0 && (moves & doublePush) != 0L)
+			moveList.add(MoveEncoding.encode(square, Long.numberOfTrailingZeros(doublePush), 0,
+					MoveEncoding.DOUBLE_PUSH));
+	}
+
+	// advances to empty squares and captures of enemy pieces, en passant not included
+	private static long pawnTargets(int square, int whiteMove, long enemies, long friends) {
+		final long empty = ~(friends | enemies);
+		final long push = Generator.PAWN_PUSHES[whiteMove][square] & empty;
+		final long doublePush = push == 0L ? 0L : Generator.PAWN_DOUBLE_PUSHES[whiteMove][square] & empty;
+		return push | doublePush | (Generator.PAWN_ATTACKS[whiteMove][square] & enemies);
+	}
+
+	private long pinMask(long br, int square, int kingSquare, long checkMask) {
+		return (br & checkMask) == 0L ? -1L : checkMask & generatorUtil.defenseDirection(kingSquare, square);
+	}
+
+	// the en passant target square when this pawn attacks it, legality not verified
+	private static long enPassantCapture(int square, int whiteMove, Position position, long nextWhiteMove) {
+		if (position.getEnPassant() == -1)
+			return 0L;
+		return (1L << transformEnPassant(position.getEnPassant(), nextWhiteMove))
+				& Generator.PAWN_ATTACKS[whiteMove][square];
 	}
 
 	private void generatePromotions(long moves, int pieceType, int square, Position position,
 									List<Position> children) {
-		final int[] coronationPieces = new int[] { pieceType + 1, pieceType + 2, pieceType + 3, pieceType + 4 };
 		while (moves != 0L) {
 			final long move = moves & -moves;
-			for (int coronationPiece : coronationPieces) {
+			for (int coronationPiece = pieceType + 1; coronationPiece <= pieceType + 4; coronationPiece++) {
 				final Position newPosition = position.makeClone();
 				makePromotion(newPosition, move, pieceType, coronationPiece, square);
 				children.add(newPosition);
@@ -136,19 +166,29 @@ final class PawnGenerator {
 		}
 	}
 
-	private void generateEnPassantCaptures(long moves, int pieceType, int originSquare, int[] pawnsDirections,
-			Position position, List<Position> children) {
-		while (moves != 0L) {
-			final long move = moves & -moves;
-			final long capture = 1L << (generatorUtil.squaresMap(move) + EP_CHOICE[(int) position.wm()]);
-			Position newPosition = position.makeClone();
-			makeEnPassantCapture(newPosition, capture, move, pieceType, originSquare);
-			Position testPosition = newPosition.makeClone();
-			testPosition.setWM(position.wm());
-			if (generatorUtil.isInCheckD(testPosition, pawnsDirections) != 1L)
-				children.add(newPosition);
-			moves = moves & ~move;
+	private void generateEnPassantCapture(long move, int pieceType, int originSquare, Position position,
+			List<Position> children) {
+		if (move == 0L || !isLegalEnPassantCapture(position, originSquare, move))
+			return;
+		final long capture = 1L << (generatorUtil.squaresMap(move) + EP_CHOICE[(int) position.wm()]);
+		final Position newPosition = position.makeClone();
+		makeEnPassantCapture(newPosition, capture, move, pieceType, originSquare);
+		children.add(newPosition);
+	}
+
+	// the capture empties two squares of the same rank, so the king is tested
+	// against the occupancy left after it
+	private boolean isLegalEnPassantCapture(Position position, int originSquare, long move) {
+		final long[] bits = position.getBits();
+		final int whiteMove = (int) position.wm();
+		final long capture = 1L << (generatorUtil.squaresMap(move) + EP_CHOICE[whiteMove]);
+		long occupied = 0L;
+		for (int i = 0; i < 12; i++) {
+			occupied = occupied | bits[i];
 		}
+		occupied = (occupied & ~(1L << originSquare) & ~capture) | move;
+		final int kingSquare = generatorUtil.squaresMap(bits[whiteMove == 1 ? 5 : 11]);
+		return generatorUtil.kingAttackers(bits, whiteMove, kingSquare, occupied, capture) == 0L;
 	}
 
 	private void makeEnPassantCapture(Position position, long capture, long move, int pieceType, int originSquare) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Fixed size cache of pawn structure evaluations backed by a flat {@code long}
+ * array, keyed by the pawn-only zobrist key of {@link Position#pawnHash()}.
+ * Pawn structures repeat across most positions of a search, so the pawn terms
+ * are computed once per structure and shared by every evaluation and every
+ * search thread that uses the table.
+ * <p>
+ * Each entry holds {@value #ENTRY_SIZE} data words, indexed by
+ * {@link #PAWN_TERMS}, {@link #STRUCTURE}, {@link #PASSED},
+ * {@link #WHITE_ATTACK_SPAN} and {@link #BLACK_ATTACK_SPAN}, preceded by a
+ * check word, the pawn key xored with the five of them. The check word is
+ * written last and {@link #probe(long, long[])} recomputes it from the words
+ * it copied, so a store interleaved with the copy is reported as a miss
+ * instead of mixing two structures.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class PawnHashTable extends SharedLongTable {
+	/**
+	 * Number of data words of an entry, the length of the arrays given to
+	 * {@link #probe(long, long[])} and {@link #store(long, long[])}.
+	 */
+	public static final int ENTRY_SIZE = 5;
+	/**
+	 * Index of the pawn terms of the default evaluator (advances, captures and
+	 * promotion distance), white minus black.
+	 */
+	public static final int PAWN_TERMS = 0;
+	/**
+	 * Index of the pawn structure score in centipawns (passed, isolated and
+	 * doubled pawns), white minus black.
+	 */
+	public static final int STRUCTURE = 1;
+	/**
+	 * Index of the bitboard of passed pawns of both colors.
+	 */
+	public static final int PASSED = 2;
+	/**
+	 * Index of the bitboard of squares white pawns can attack as they advance.
+	 */
+	public static final int WHITE_ATTACK_SPAN = 3;
+	/**
+	 * Index of the bitboard of squares black pawns can attack as they advance.
+	 */
+	public static final int BLACK_ATTACK_SPAN = 4;
+
+	private static final int ENTRY_WORDS = ENTRY_SIZE + 1;
+
+	/**
+	 * Creates a table that uses at most the given amount of megabytes. The number
+	 * of entries is rounded down to a power of two.
+	 *
+	 * @param megabytes the size of the table in megabytes
+	 * @throws IllegalArgumentException if the size is lower than 1 or greater
+	 *                                  than 1024
+	 */
+	public PawnHashTable(int megabytes) {
+		super(megabytes, 1024, ENTRY_WORDS, ENTRY_WORDS);
+	}
+
+	/**
+	 * Stores the data words of a pawn structure, replacing whatever was in its
+	 * slot.
+	 *
+	 * @param key   the pawn key of the position
+	 * @param entry the data words, at least {@value #ENTRY_SIZE} long
+	 */
+	public void store(long key, long[] entry) {
+		final int base = index(key);
+		long check = key;
+		for (int i = 0; i < ENTRY_SIZE; i++) {
+			table[base + 1 + i] = entry[i];
+			check ^= entry[i];
+		}
+		table[base] = check;
+	}
+
+	/**
+	 * Looks up the given key and copies the data words of the entry into the
+	 * given array when it is found.
+	 *
+	 * @param key   the pawn key of the position
+	 * @param entry the array where the data words are copied, at least
+	 *              {@value #ENTRY_SIZE} long; its content is unspecified after a
+	 *              miss
+	 * @return true if the key is in the table
+	 */
+	public boolean probe(long key, long[] entry) {
+		countProbe();
+		final int base = index(key);
+		long check = table[base];
+		for (int i = 0; i < ENTRY_SIZE; i++) {
+			entry[i] = table[base + 1 + i];
+			check ^= entry[i];
+		}
+		// an empty slot only matches the key of a position without pawns, whose data is all zeros anyway
+		if (check != key)
+			return false;
+		countHit();
+		return true;
+	}
+
+	private int index(long key) {
+		return ((int) (key ^ (key >>> 32)) & slotMask) * ENTRY_WORDS;
+	}
+}
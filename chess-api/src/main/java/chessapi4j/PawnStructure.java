@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static chessapi4j.EvaluatorImp.*;
+
+/**
+ * Computes the pawn structure data stored in a {@link PawnHashTable} entry,
+ * and looks it up for the evaluators.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class PawnStructure {
+	private static final long FILE_A = 0x0101010101010101L;
+	private static final long FILE_H = FILE_A << 7;
+	// indexed by the rank of the pawn as seen from its own side
+	private static final int[] PASSED_BONUS = { 0, 5, 10, 20, 35, 60, 100, 0 };
+	private static final int ISOLATED_PENALTY = 15;
+	private static final int DOUBLED_PENALTY = 10;
+	private static final ThreadLocal<long[]> buffers = ThreadLocal
+			.withInitial(() -> new long[PawnHashTable.ENTRY_SIZE]);
+
+	/**
+	 * Returns the pawn data of the given position, from the table when the
+	 * structure is there and computed (and stored) otherwise. The returned array
+	 * belongs to the calling thread and is overwritten by the next call.
+	 *
+	 * @param table    the table, null to always compute
+	 * @param position the position
+	 * @return the data words of the position pawn structure
+	 */
+	static long[] lookup(PawnHashTable table, Position position) {
+		final long[] entry = buffers.get();
+		final long[] bits = position.getBits();
+		if (table == null) {
+			compute(bits[0], bits[6], entry);
+			return entry;
+		}
+		final long key = position.pawnHash();
+		if (!table.probe(key, entry)) {
+			compute(bits[0], bits[6], entry);
+			table.store(key, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Fills the data words of a {@link PawnHashTable} entry.
+	 *
+	 * @param white the white pawns
+	 * @param black the black pawns
+	 * @param entry the array to fill
+	 */
+	static void compute(long white, long black, long[] entry) {
+		final long whiteFront = northFill(white << 8);
+		final long blackFront = southFill(black >>> 8);
+		final long whiteSpan = northFill(sides(white) << 8);
+		final long blackSpan = southFill(sides(black) >>> 8);
+		final long whitePassed = white & ~(blackFront | blackSpan);
+		final long blackPassed = black & ~(whiteFront | whiteSpan);
+
+		int structure = 0;
+		for (long j = whitePassed; j != 0L; j &= j - 1)
+			structure += PASSED_BONUS[Long.numberOfTrailingZeros(j) >>> 3];
+		for (long j = blackPassed; j != 0L; j &= j - 1)
+			structure -= PASSED_BONUS[7 - (Long.numberOfTrailingZeros(j) >>> 3)];
+		structure -= ISOLATED_PENALTY * (Long.bitCount(isolated(white)) - Long.bitCount(isolated(black)));
+		structure -= DOUBLED_PENALTY * (Long.bitCount(white & southFill(white >>> 8))
+				- Long.bitCount(black & northFill(black << 8)));
+
+		entry[PawnHashTable.PAWN_TERMS] = pawnTerms(white, black);
+		entry[PawnHashTable.STRUCTURE] = structure;
+		entry[PawnHashTable.PASSED] = whitePassed | blackPassed;
+		entry[PawnHashTable.WHITE_ATTACK_SPAN] = whiteSpan;
+		entry[PawnHashTable.BLACK_ATTACK_SPAN] = blackSpan;
+	}
+
+	// the part of the MagicEvaluator pawn value that does not depend on the kings
+	private static int pawnTerms(long white, long black) {
+		int e = 0;
+		for (long j = white; j != 0L; j &= j - 1) {
+			final int square = Long.numberOfTrailingZeros(j);
+			final long captures = Generator.PAWN_ATTACKS[1][square];
+			e += (Long.bitCount(captures & CENTER_MASK) << CENTER_PLUS)
+					+ (((square >> 3) - BLACK_8_ROW) << PROMOTION_PLUS)
+					+ (Long.bitCount(captures) << PAWN_CAPTURE_PLUS)
+					+ (Long.bitCount(WP_ADVANCES[square]) << PAWN_ADVANCE_PLUS);
+		}
+		for (long j = black; j != 0L; j &= j - 1) {
+			final int square = Long.numberOfTrailingZeros(j);
+			final long captures = Generator.PAWN_ATTACKS[0][square];
+			e -= (Long.bitCount(captures & CENTER_MASK) << CENTER_PLUS)
+					+ ((WHITE_8_ROW - (square >> 3)) << PROMOTION_PLUS)
+					+ (Long.bitCount(captures) << PAWN_CAPTURE_PLUS)
+					+ (Long.bitCount(BP_ADVANCES[square]) << PAWN_ADVANCE_PLUS);
+		}
+		return e;
+	}
+
+	/**
+	 * Squares attacked by the given white pawns, the same as the union of
+	 * {@code Generator.PAWN_ATTACKS[1]} over their squares.
+	 */
+	static long whiteAttacks(long pawns) {
+		return ((pawns << 7) & ~FILE_H) | ((pawns << 9) & ~FILE_A);
+	}
+
+	/**
+	 * Squares attacked by the given black pawns, the same as the union of
+	 * {@code Generator.PAWN_ATTACKS[0]} over their squares.
+	 */
+	static long blackAttacks(long pawns) {
+		return ((pawns >>> 9) & ~FILE_H) | ((pawns >>> 7) & ~FILE_A);
+	}
+
+	/**
+	 * Sum over the given white pawns of the attacked squares inside the mask.
+	 */
+	static int whiteAttackCount(long pawns, long mask) {
+		return Long.bitCount((pawns << 7) & ~FILE_H & mask) + Long.bitCount((pawns << 9) & ~FILE_A & mask);
+	}
+
+	/**
+	 * Sum over the given black pawns of the attacked squares inside the mask.
+	 */
+	static int blackAttackCount(long pawns, long mask) {
+		return Long.bitCount((pawns >>> 9) & ~FILE_H & mask) + Long.bitCount((pawns >>> 7) & ~FILE_A & mask);
+	}
+
+	private static long sides(long pawns) {
+		return ((pawns << 1) & ~FILE_A) | ((pawns >>> 1) & ~FILE_H);
+	}
+
+	private static long isolated(long pawns) {
+		return pawns & ~sides(northFill(southFill(pawns)));
+	}
+
+	private static long northFill(long b) {
+		b |= b << 8;
+		b |= b << 16;
+		return b | b << 32;
+	}
+
+	private static long southFill(long b) {
+		b |= b >>> 8;
+		b |= b >>> 16;
+		return b | b >>> 32;
+	}
+
+	private PawnStructure() {
+	}
+}
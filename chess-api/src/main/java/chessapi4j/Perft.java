@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for performance tests (perft) over the move generator. A perft
+ * counts the leaf nodes of the legal move tree up to a fixed depth and is the
+ * usual way to validate and benchmark a move generator. See
+ * <a href="https://www.chessprogramming.org/Perft">Perft</a>.
+ * <p>
+ * The last ply is bulk counted: the legal moves of the nodes at depth - 1 are
+ * counted without building the child positions.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class Perft {
+
+	/**
+	 * Counts the leaf nodes of the legal move tree and measures the elapsed time.
+	 *
+	 * @param position the root position
+	 * @param depth    the depth, zero or greater
+	 * @return the result with the nodes count and the nodes per second rate
+	 * @throws IllegalArgumentException if depth is negative
+	 */
+	public static PerftResult run(Position position, int depth) {
+		final long start = System.nanoTime();
+		final long nodes = nodes(position, depth);
+		return new PerftResult(depth, nodes, System.nanoTime() - start);
+	}
+
+	/**
+	 * Counts the leaf nodes of the legal move tree.
+	 *
+	 * @param position the root position
+	 * @param depth    the depth, zero or greater
+	 * @return the number of leaf nodes
+	 * @throws IllegalArgumentException if depth is negative
+	 */
+	public static long nodes(Position position, int depth) {
+		if (depth < 0)
+			throw new IllegalArgumentException("depth must be zero or greater");
+		return perft(GeneratorFactory.instance(), position, depth);
+	}
+
+	/**
+	 * Counts the leaf nodes below each legal move of the root position.
+	 *
+	 * @param position the root position
+	 * @param depth    the depth, one or greater
+	 * @return the nodes count for each root move, in generation order
+	 * @throws IllegalArgumentException if depth is lower than one
+	 */
+	public static Map<Move, Long> divide(Position position, int depth) {
+		if (depth < 1)
+			throw new IllegalArgumentException("depth must be one or greater");
+		final Generator generator = GeneratorFactory.instance();
+		final List<Position> children = generator.generateChildren(position);
+		final List<Move> moves = generator.generateMoves(position, children);
+		final Map<Move, Long> result = new LinkedHashMap<>();
+		for (int i = 0; i < children.size(); i++) {
+			result.put(moves.get(i), perft(generator, children.get(i), depth - 1));
+		}
+		return result;
+	}
+
+	static long perft(Generator generator, Position position, int depth) {
+		if (depth == 0)
+			return 1L;
+		if (depth == 1)
+			return generator.countLegalMoves(position);
+		long nodes = 0L;
+		for (Position child : generator.generateChildren(position)) {
+			nodes += perft(generator, child, depth - 1);
+		}
+		return nodes;
+	}
+
+	private Perft() {}
+}
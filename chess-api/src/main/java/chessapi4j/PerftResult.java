@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Outcome of a perft run: the number of leaf nodes found at the requested depth
+ * and the time it took to count them.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class PerftResult {
+	private final int depth;
+	private final long nodes;
+	private final long nanos;
+
+	/**
+	 * Creates a new result.
+	 *
+	 * @param depth the depth that was searched
+	 * @param nodes the number of leaf nodes
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public PerftResult(int depth, long nodes, long nanos) {
+		this.depth = depth;
+		this.nodes = nodes;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * The depth that was searched.
+	 *
+	 * @return the depth
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * The number of leaf nodes at the searched depth.
+	 *
+	 * @return the leaf nodes count
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * The elapsed time in nanoseconds.
+	 *
+	 * @return the elapsed time
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Leaf nodes counted per second.
+	 *
+	 * @return the nodes per second rate
+	 */
+	public long nodesPerSecond() {
+		return nanos == 0L ? 0L : (long) (nodes * 1_000_000_000.0 / nanos);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("depth %d nodes %d time %d ms nps %d", depth, nodes, nanos / 1_000_000L,
+				nodesPerSecond());
+	}
+}
@@ -23,59 +23,62 @@ public enum Piece {
 	/**
 	 * Special value for representing empty squares
 	 */
-	EMPTY(null),
+	EMPTY(null, 0),
 	/**
 	 * White pawn
 	 */
-	WP(Side.WHITE),
+	WP(Side.WHITE, 100),
 	/**
 	 * White knight
 	 */
-	WN(Side.WHITE),
+	WN(Side.WHITE, 320),
 	/**
 	 * White bishop
 	 */
-	WB(Side.WHITE),
+	WB(Side.WHITE, 330),
 	/**
 	 * White rook
 	 */
-	WR(Side.WHITE),
+	WR(Side.WHITE, 500),
 	/**
 	 * White queen
 	 */
-	WQ(Side.WHITE),
+	WQ(Side.WHITE, 900),
 	/**
 	 * White king
 	 */
-	WK(Side.WHITE),
+	WK(Side.WHITE, 20000),
 	/**
 	 * Black pawn
 	 */
-	BP(Side.BLACK),
+	BP(Side.BLACK, 100),
 	/**
 	 * Black knight
 	 */
-	BN(Side.BLACK),
+	BN(Side.BLACK, 320),
 	/**
 	 * Black bishop
 	 */
-	BB(Side.BLACK),
+	BB(Side.BLACK, 330),
 	/**
 	 * Black rook
 	 */
-	BR(Side.BLACK),
+	BR(Side.BLACK, 500),
 	/**
 	 * Black queen
 	 */
-	BQ(Side.BLACK),
+	BQ(Side.BLACK, 900),
 	/**
 	 * Black king
 	 */
-	BK(Side.BLACK);
+	BK(Side.BLACK, 20000);
+	private static final Piece[] PIECES = values();
 	private final Side side;
+	private final int value;
 
-	Piece(Side side) {
+	Piece(Side side, int value) {
 		this.side = side;
+		this.value = value;
 	}
 
 	/**
@@ -87,6 +90,17 @@ public enum Piece {
 		return side;
 	}
 
+	/**
+	 * Returns the material value of the piece in centipawns: pawn 100, knight
+	 * 320, bishop 330, rook 500 and queen 900. The king is worth 20000, more than
+	 * everything else together, and {@code EMPTY} is worth zero.
+	 * @return the value
+	 * @since 1.2.11
+	 */
+	public int value() {
+		return value;
+	}
+
 	/**
 	 * Retrieves the piece object for the given piece index
 	 * @param pieceIndex the piece index
@@ -95,6 +109,6 @@ public enum Piece {
 	 * @since 1.2.9
 	 */
 	public static Piece get(int pieceIndex){
-		return Piece.values()[pieceIndex];
+		return PIECES[pieceIndex];
 	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Material values and piece-square tables indexed by piece ordinal, signed
+ * from the point of view of white. The tables are the classic simplified
+ * evaluation ones, mirrored for black. They back the evaluation terms that
+ * {@link Position} keeps up to date across moves.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class PieceSquareTables {
+	// rank 8 first, as usually written
+	private static final int[] PAWN = {
+			0, 0, 0, 0, 0, 0, 0, 0,
+			50, 50, 50, 50, 50, 50, 50, 50,
+			10, 10, 20, 30, 30, 20, 10, 10,
+			5, 5, 10, 25, 25, 10, 5, 5,
+			0, 0, 0, 20, 20, 0, 0, 0,
+			5, -5, -10, 0, 0, -10, -5, 5,
+			5, 10, 10, -20, -20, 10, 10, 5,
+			0, 0, 0, 0, 0, 0, 0, 0 };
+	private static final int[] KNIGHT = {
+			-50, -40, -30, -30, -30, -30, -40, -50,
+			-40, -20, 0, 0, 0, 0, -20, -40,
+			-30, 0, 10, 15, 15, 10, 0, -30,
+			-30, 5, 15, 20, 20, 15, 5, -30,
+			-30, 0, 15, 20, 20, 15, 0, -30,
+			-30, 5, 10, 15, 15, 10, 5, -30,
+			-40, -20, 0, 5, 5, 0, -20, -40,
+			-50, -40, -30, -30, -30, -30, -40, -50 };
+	private static final int[] BISHOP = {
+			-20, -10, -10, -10, -10, -10, -10, -20,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-10, 0, 5, 10, 10, 5, 0, -10,
+			-10, 5, 5, 10, 10, 5, 5, -10,
+			-10, 0, 10, 10, 10, 10, 0, -10,
+			-10, 10, 10, 10, 10, 10, 10, -10,
+			-10, 5, 0, 0, 0, 0, 5, -10,
+			-20, -10, -10, -10, -10, -10, -10, -20 };
+	private static final int[] ROOK = {
+			0, 0, 0, 0, 0, 0, 0, 0,
+			5, 10, 10, 10, 10, 10, 10, 5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			-5, 0, 0, 0, 0, 0, 0, -5,
+			0, 0, 0, 5, 5, 0, 0, 0 };
+	private static final int[] QUEEN = {
+			-20, -10, -10, -5, -5, -10, -10, -20,
+			-10, 0, 0, 0, 0, 0, 0, -10,
+			-10, 0, 5, 5, 5, 5, 0, -10,
+			-5, 0, 5, 5, 5, 5, 0, -5,
+			0, 0, 5, 5, 5, 5, 0, -5,
+			-10, 5, 5, 5, 5, 5, 0, -10,
+			-10, 0, 5, 0, 0, 0, 0, -10,
+			-20, -10, -10, -5, -5, -10, -10, -20 };
+	private static final int[] KING = {
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-30, -40, -40, -50, -50, -40, -40, -30,
+			-20, -30, -30, -40, -40, -30, -30, -20,
+			-10, -20, -20, -20, -20, -20, -20, -10,
+			20, 20, 0, 0, 0, 0, 20, 20,
+			20, 30, 10, 0, 0, 10, 30, 20 };
+
+	/**
+	 * Material value of each piece ordinal, negative for black. The values of
+	 * {@code EMPTY} and of the kings are zero.
+	 */
+	static final int[] MATERIAL = new int[13];
+
+	/**
+	 * Piece-square value of each piece ordinal on each square, negative for
+	 * black. The row of {@code EMPTY} is all zeros.
+	 */
+	static final int[][] SQUARE = new int[13][64];
+
+	static {
+		final int[][] tables = { PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING };
+		for (int piece = 0; piece < 5; piece++) {
+			MATERIAL[piece + 1] = Piece.get(piece + 1).value();
+			MATERIAL[piece + 7] = -Piece.get(piece + 7).value();
+		}
+		for (int piece = 0; piece < 6; piece++) {
+			for (int square = 0; square < 64; square++) {
+				// white reads the table upside down, black reads it as written
+				SQUARE[piece + 1][square] = tables[piece][(7 - (square >>> 3)) * 8 + (square & 7)];
+				SQUARE[piece + 7][square] = -tables[piece][square];
+			}
+		}
+	}
+
+	/**
+	 * Computes the material sum of the given bitboards from scratch.
+	 *
+	 * @param bits the bitboards in ordinal order excluding {@code EMPTY}
+	 * @return the material sum
+	 */
+	static int material(long[] bits) {
+		int material = 0;
+		for (int i = 0; i < 12; i++)
+			material += MATERIAL[i + 1] * Long.bitCount(bits[i]);
+		return material;
+	}
+
+	/**
+	 * Computes the piece-square sum of the given bitboards from scratch.
+	 *
+	 * @param bits the bitboards in ordinal order excluding {@code EMPTY}
+	 * @return the piece-square sum
+	 */
+	static int pieceSquare(long[] bits) {
+		int sum = 0;
+		for (int i = 0; i < 12; i++) {
+			final int[] table = SQUARE[i + 1];
+			for (long b = bits[i]; b != 0L; b &= b - 1)
+				sum += table[Long.numberOfTrailingZeros(b)];
+		}
+		return sum;
+	}
+
+	private PieceSquareTables() {
+	}
+}
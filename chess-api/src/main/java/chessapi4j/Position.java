@@ -33,6 +33,10 @@ import static chessapi4j.Square.*;
  */
 public final class Position implements Serializable {
 	private static final long serialVersionUID = -3129022190813874561L;
+	private static final int UNDO_WORDS = 3;
+	private static final int INITIAL_UNDO_PLIES = 64;
+	private static final long PROMOTION_RANKS = 0xFF000000000000FFL;
+	private static final int[] EP_OFFSET = new int[] { 8, -8 };
 
 	private static StringBuilder getStringBuilder(int i, int[] squares) {
 		var rowFenSB = new StringBuilder();
@@ -101,6 +105,16 @@ public final class Position implements Serializable {
     private transient boolean fiftyMoves;
     private transient boolean repetitions;
     private transient boolean lackOfMaterial;
+	private transient long[] undoStack;
+	private transient int undoSize;
+	private transient long zobristKey;
+	private transient boolean zobristKeyPresent;
+	private transient int materialScore;
+	private transient int pieceSquareScore;
+	private transient boolean evaluationTermsPresent;
+	private transient long pawnKey;
+	private transient boolean pawnKeyPresent;
+	private transient AttackMap attackMap;
 
 	/**
 	 * Creates a new position with the started position.
@@ -189,6 +203,9 @@ public final class Position implements Serializable {
 	 */
 	public void changeColorToMove() {
 		whiteMoveNumeric = ~whiteMoveNumeric & 1L;
+		attackMap = null;
+		if (zobristKeyPresent)
+			zobristKey ^= ZobristHasherFactory.instance().turnKey();
 	}
 
 	//zobrist hash most change
@@ -202,6 +219,10 @@ public final class Position implements Serializable {
 	 */
 	public void changePieceBit(long bitRepresentation, int piece) {
 		getBits()[piece - 1] = bitRepresentation;
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 	}
 
 	@Override
@@ -389,7 +410,7 @@ public final class Position implements Serializable {
 
 	@Override
 	public int hashCode() {
-		return zobristHash().hashCode();
+		return Long.hashCode(zobristKey());
 	}
 
 	/**
@@ -463,10 +484,19 @@ public final class Position implements Serializable {
 	public Position makeClone() {
 		var newBitboards = new long[12];
 		System.arraycopy(bits, 0, newBitboards, 0, bits.length);
-		return new Position(newBitboards, getEnPassant(), whiteMoveNumeric, shortCastleWhiteNumeric,
+		final Position clone = new Position(newBitboards, getEnPassant(), whiteMoveNumeric, shortCastleWhiteNumeric,
 				shortCastleBlackNumeric, longCastleWhiteNumeric, longCastleBlackNumeric, getMovesCounter(),
 				getHalfMovesCounter(), isCheckmate(), isStalemate(), isFiftyMoves(), isRepetitions(),
 				isLackOfMaterial());
+		clone.zobristKey = zobristKey;
+		clone.zobristKeyPresent = zobristKeyPresent;
+		clone.materialScore = materialScore;
+		clone.pieceSquareScore = pieceSquareScore;
+		clone.evaluationTermsPresent = evaluationTermsPresent;
+		clone.pawnKey = pawnKey;
+		clone.pawnKeyPresent = pawnKeyPresent;
+		clone.attackMap = attackMap;
+		return clone;
 	}
 
     void makeMove(int from, long move, int pieceType){
@@ -474,6 +504,10 @@ public final class Position implements Serializable {
             bits[index] = bits[index] & (~move);
         }
         bits[pieceType - 1] = (bits[pieceType - 1] & (~(1L << from))) | move;
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 		changeColorToMove();
 	}
 
@@ -502,6 +536,10 @@ public final class Position implements Serializable {
 		}
 		bits[rookType - 1] = (bits[rookType - 1] & (~rookOrigin)) | rookMove;
 		
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 		changeColorToMove();
 	}
 
@@ -513,6 +551,10 @@ public final class Position implements Serializable {
 		bits[pieceType - 1] = (bits[pieceType - 1] & (~(1L << originSquare)));
 		bits[pieceToCrown - 1] = bits[pieceToCrown - 1] | move;
 		
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 		changeColorToMove();
 	}
 
@@ -523,6 +565,10 @@ public final class Position implements Serializable {
 		}
 		bits[pieceType - 1] = (bits[pieceType - 1] & (~(1L << originSquare))) | move;
 
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 		changeColorToMove();
 	}
 
@@ -536,6 +582,7 @@ public final class Position implements Serializable {
 	 */
 	public final void setBK(long bk) {
 		this.shortCastleBlackNumeric = bk;
+		zobristKeyPresent = false;
 	}
 
 
@@ -549,6 +596,7 @@ public final class Position implements Serializable {
 	 */
 	public void setBQ(long bq) {
 		this.longCastleBlackNumeric = bq;
+		zobristKeyPresent = false;
 	}
 
 
@@ -561,6 +609,7 @@ public final class Position implements Serializable {
 	 */
 	public void setLongCastleBlack(boolean longCastleBlack) {
 		longCastleBlackNumeric = longCastleBlack ? 1L : 0L;
+		zobristKeyPresent = false;
 	}
 
 
@@ -573,6 +622,7 @@ public final class Position implements Serializable {
 	 */
 	public void setLongCastleWhite(boolean longCastleWhite) {
 		longCastleWhiteNumeric = longCastleWhite ? 1L : 0L;
+		zobristKeyPresent = false;
 	}
 
 
@@ -585,6 +635,7 @@ public final class Position implements Serializable {
 	 */
 	public void setShortCastleBlack(boolean shortCastleBlack) {
 		shortCastleBlackNumeric = shortCastleBlack ? 1L : 0L;
+		zobristKeyPresent = false;
 	}
 
 
@@ -597,6 +648,7 @@ public final class Position implements Serializable {
 	 */
 	public void setShortCastleWhite(boolean shortCastleWhite) {
 		shortCastleWhiteNumeric = shortCastleWhite ? 1L : 0L;
+		zobristKeyPresent = false;
 	}
 
 
@@ -614,6 +666,10 @@ public final class Position implements Serializable {
 				bits[squares[i] - 1] = bits[squares[i] - 1] | (1L << i);
 			}
 		}
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 	}
 
 
@@ -639,6 +695,7 @@ public final class Position implements Serializable {
 	 */
 	public void setWK(long wk) {
 		this.shortCastleWhiteNumeric = wk;
+		zobristKeyPresent = false;
 	}
 
 
@@ -652,6 +709,8 @@ public final class Position implements Serializable {
 	 */
 	public void setWM(long wm) {
 		this.whiteMoveNumeric = wm;
+		zobristKeyPresent = false;
+		attackMap = null;
 	}
 
 
@@ -664,6 +723,7 @@ public final class Position implements Serializable {
 	 */
 	public void setWQ(long wq) {
 		this.longCastleWhiteNumeric = wq;
+		zobristKeyPresent = false;
 	}
 
 	/**
@@ -826,6 +886,250 @@ public final class Position implements Serializable {
 		return Optional.empty();
 	}
 
+	/**
+	 * Applies the given move to this position in place. Bitboards, castle
+	 * rights, en passant square, clocks and the zobrist key are updated and the
+	 * previous state is kept in an internal stack, so the move can be taken back
+	 * with {@link #unmakeMove()}.
+	 * <p>
+	 * The move is assumed to be legal, no legality check is done. Promotions
+	 * without promotion piece are made as queen promotions. Status values like
+	 * checkmate or stalemate are not updated, use {@link Rules#setStatus(Position)}
+	 * if needed. Setting values manually between a call to this method and its
+	 * {@link #unmakeMove()} could potentially lead to inconsistencies.
+	 * </p>
+	 *
+	 * @param move the move to make
+	 * @throws IllegalArgumentException if there is no piece on the origin square
+	 *
+	 * @since 1.2.11
+	 */
+	public void makeMove(Move move) {
+		applyMove(move.getOrigin(), move.getTarget(), move.getPromotionPiece());
+	}
+
+	/**
+	 * Applies the given packed move (see {@link MoveEncoding}) to this position
+	 * in place. The behavior is the same as {@link #makeMove(Move)}, without the
+	 * need of a {@code Move} instance.
+	 *
+	 * @param move the packed move to make
+	 * @throws IllegalArgumentException if there is no piece on the origin square
+	 *
+	 * @since 1.2.11
+	 */
+	public void makeMove(int move) {
+		applyMove(MoveEncoding.origin(move), MoveEncoding.target(move), MoveEncoding.promotion(move));
+	}
+
+	private void applyMove(int from, int to, int promotionPiece) {
+		final long fromBit = 1L << from;
+		final long toBit = 1L << to;
+		final int moved = pieceAt(bits, fromBit);
+		if (moved == 0)
+			throw new IllegalArgumentException(String.format("There is no piece on %s", Square.values()[from]));
+		final ZobristHasher hasher = ZobristHasherFactory.instance();
+		final long parentKey = zobristKey();
+		final boolean pawn = moved == Piece.WP.ordinal() || moved == Piece.BP.ordinal();
+		int captured = pieceAt(bits, toBit);
+		int captureSquare = to;
+		if (pawn && captured == 0 && ((from ^ to) & 7) != 0) {
+			captureSquare = to + EP_OFFSET[(int) whiteMoveNumeric];
+			captured = pieceAt(bits, 1L << captureSquare);
+		}
+		int placed = moved;
+		if (pawn && (toBit & PROMOTION_RANKS) != 0L)
+			placed = promotionPiece > 0 ? promotionPiece : moved + 4;
+
+		pushState(from, to, moved, captured, captureSquare, placed);
+		if (evaluationTermsPresent || pawnKeyPresent)
+			updateEvaluationTerms(1, from, to, moved, captured, captureSquare, placed);
+
+		long key = parentKey ^ castleKey(hasher) ^ hasher.turnKey();
+		if (enPassant != -1)
+			key ^= hasher.enPassantKey(enPassant);
+		bits[moved - 1] &= ~fromBit;
+		key ^= hasher.pieceKey(moved - 1, from);
+		if (captured != 0) {
+			bits[captured - 1] &= ~(1L << captureSquare);
+			key ^= hasher.pieceKey(captured - 1, captureSquare);
+		}
+		bits[placed - 1] |= toBit;
+		key ^= hasher.pieceKey(placed - 1, to);
+		if (isCastle(moved, from, to))
+			key ^= moveCastleRook(hasher, moved, to);
+
+		updateCastleRights();
+		enPassant = pawn && Math.abs(to - from) == 16 ? to : -1;
+		halfMovesCounter = pawn || captured != 0 ? 0 : halfMovesCounter + 1;
+		changeColorToMove();
+		increaseMovesCounter();
+
+		key ^= castleKey(hasher);
+		if (enPassant != -1)
+			key ^= hasher.enPassantKey(enPassant);
+		zobristKey = key;
+		zobristKeyPresent = true;
+	}
+
+	/**
+	 * Takes back the last move made with {@link #makeMove(Move)}, restoring the
+	 * exact previous state.
+	 *
+	 * @throws IllegalStateException if there is no move to unmake
+	 *
+	 * @since 1.2.11
+	 */
+	public void unmakeMove() {
+		if (undoSize == 0)
+			throw new IllegalStateException("There is no move to unmake");
+		undoSize--;
+		final int base = undoSize * UNDO_WORDS;
+		final long state = undoStack[base + 1];
+		final int from = (int) (state & 63L);
+		final int to = (int) ((state >>> 6) & 63L);
+		final int moved = (int) ((state >>> 12) & 15L);
+		final int captured = (int) ((state >>> 16) & 15L);
+		final int captureSquare = (int) ((state >>> 20) & 63L);
+		final int placed = (int) ((state >>> 26) & 15L);
+		if (evaluationTermsPresent || pawnKeyPresent)
+			updateEvaluationTerms(-1, from, to, moved, captured, captureSquare, placed);
+
+		bits[placed - 1] &= ~(1L << to);
+		bits[moved - 1] |= 1L << from;
+		if (captured != 0)
+			bits[captured - 1] |= 1L << captureSquare;
+		if (isCastle(moved, from, to))
+			moveCastleRook(ZobristHasherFactory.instance(), moved, to);
+
+		shortCastleWhiteNumeric = (state >>> 32) & 1L;
+		longCastleWhiteNumeric = (state >>> 33) & 1L;
+		shortCastleBlackNumeric = (state >>> 34) & 1L;
+		longCastleBlackNumeric = (state >>> 35) & 1L;
+		enPassant = (int) ((state >>> 36) & 127L) - 1;
+		final long clocks = undoStack[base + 2];
+		halfMovesCounter = (int) clocks;
+		movesCounter = (int) (clocks >>> 32);
+		changeColorToMove();
+		zobristKey = undoStack[base];
+		zobristKeyPresent = true;
+	}
+
+	// null move for the search, the previous en passant square has to be given back to unmakeNullMove
+	int makeNullMove() {
+		final int previous = enPassant;
+		final ZobristHasher hasher = ZobristHasherFactory.instance();
+		long key = zobristKey() ^ hasher.turnKey();
+		if (previous != -1)
+			key ^= hasher.enPassantKey(previous);
+		whiteMoveNumeric = ~whiteMoveNumeric & 1L;
+		enPassant = -1;
+		attackMap = null;
+		zobristKey = key;
+		return previous;
+	}
+
+	void unmakeNullMove(int previousEnPassant) {
+		final ZobristHasher hasher = ZobristHasherFactory.instance();
+		long key = zobristKey ^ hasher.turnKey();
+		if (previousEnPassant != -1)
+			key ^= hasher.enPassantKey(previousEnPassant);
+		whiteMoveNumeric = ~whiteMoveNumeric & 1L;
+		enPassant = previousEnPassant;
+		attackMap = null;
+		zobristKey = key;
+	}
+
+	// piece ordinal on the square of the given bit, zero for an empty square
+	static int pieceAt(long[] bits, long bit) {
+		for (int i = 0; i < 12; i++) {
+			if ((bits[i] & bit) != 0L)
+				return i + 1;
+		}
+		return 0;
+	}
+
+	private void pushState(int from, int to, int moved, int captured, int captureSquare, int placed) {
+		final int base = undoSize * UNDO_WORDS;
+		if (undoStack == null)
+			undoStack = new long[INITIAL_UNDO_PLIES * UNDO_WORDS];
+		else if (base + UNDO_WORDS > undoStack.length)
+			undoStack = Arrays.copyOf(undoStack, undoStack.length << 1);
+		undoStack[base] = zobristKey;
+		undoStack[base + 1] = from | (long) to << 6 | (long) moved << 12 | (long) captured << 16
+				| (long) captureSquare << 20 | (long) placed << 26 | shortCastleWhiteNumeric << 32
+				| longCastleWhiteNumeric << 33 | shortCastleBlackNumeric << 34 | longCastleBlackNumeric << 35
+				| (long) (enPassant + 1) << 36;
+		undoStack[base + 2] = (halfMovesCounter & 0xFFFFFFFFL) | (long) movesCounter << 32;
+		undoSize++;
+	}
+
+	private static boolean isCastle(int moved, int from, int to) {
+		return (moved == Piece.WK.ordinal() || moved == Piece.BK.ordinal()) && Math.abs(to - from) == 2;
+	}
+
+	private long moveCastleRook(ZobristHasher hasher, int king, int kingTarget) {
+		final int rook = king - 2;
+		final int rookOrigin = castleRookOrigin(kingTarget);
+		final int rookTarget = castleRookTarget(kingTarget);
+		bits[rook - 1] ^= (1L << rookOrigin) | (1L << rookTarget);
+		return hasher.pieceKey(rook - 1, rookOrigin) ^ hasher.pieceKey(rook - 1, rookTarget);
+	}
+
+	private static int castleRookOrigin(int kingTarget) {
+		return kingTarget > (kingTarget & ~7) + 4 ? kingTarget + 1 : kingTarget - 2;
+	}
+
+	private static int castleRookTarget(int kingTarget) {
+		return (kingTarget + (kingTarget & ~7) + 4) >>> 1;
+	}
+
+	// sign is 1 to make the move and -1 to take it back
+	private void updateEvaluationTerms(int sign, int from, int to, int moved, int captured, int captureSquare,
+			int placed) {
+		if (evaluationTermsPresent) {
+			final int[] material = PieceSquareTables.MATERIAL;
+			final int[][] square = PieceSquareTables.SQUARE;
+			int squareDelta = square[placed][to] - square[moved][from] - square[captured][captureSquare];
+			if (isCastle(moved, from, to)) {
+				final int[] rook = square[moved - 2];
+				squareDelta += rook[castleRookTarget(to)] - rook[castleRookOrigin(to)];
+			}
+			materialScore += sign * (material[placed] - material[moved] - material[captured]);
+			pieceSquareScore += sign * squareDelta;
+		}
+		if (!pawnKeyPresent)
+			return;
+		// xor undoes itself, the same keys are used in both directions
+		final ZobristHasher hasher = ZobristHasherFactory.instance();
+		if (isPawn(moved))
+			pawnKey ^= hasher.pieceKey(moved - 1, from);
+		if (isPawn(placed))
+			pawnKey ^= hasher.pieceKey(placed - 1, to);
+		if (isPawn(captured))
+			pawnKey ^= hasher.pieceKey(captured - 1, captureSquare);
+	}
+
+	private static boolean isPawn(int piece) {
+		return piece == Piece.WP.ordinal() || piece == Piece.BP.ordinal();
+	}
+
+	private void updateCastleRights() {
+		final long whiteKing = bits[Piece.WK.ordinal() - 1] >>> 4;
+		final long whiteRooks = bits[Piece.WR.ordinal() - 1];
+		final long blackKing = bits[Piece.BK.ordinal() - 1] >>> 60;
+		final long blackRooks = bits[Piece.BR.ordinal() - 1];
+		shortCastleWhiteNumeric &= whiteKing & (whiteRooks >>> 7) & 1L;
+		longCastleWhiteNumeric &= whiteKing & whiteRooks & 1L;
+		shortCastleBlackNumeric &= blackKing & (blackRooks >>> 63) & 1L;
+		longCastleBlackNumeric &= blackKing & (blackRooks >>> 56) & 1L;
+	}
+
+	private long castleKey(ZobristHasher hasher) {
+		return (-shortCastleWhiteNumeric & hasher.castleKey(0)) ^ (-longCastleWhiteNumeric & hasher.castleKey(1))
+				^ (-shortCastleBlackNumeric & hasher.castleKey(2)) ^ (-longCastleBlackNumeric & hasher.castleKey(3));
+	}
+
 	/**
 	 * Retrieves the {@code Piece} object that represent the piece present in the
 	 * given {@code Square} object given as argument
@@ -920,6 +1224,10 @@ public final class Position implements Serializable {
 	 */
 	public void setBitboard(Piece piece, Bitboard bitboard) {
 		bits[piece.ordinal() - 1] = bitboard.getValue();
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 		
 	}
 
@@ -933,16 +1241,157 @@ public final class Position implements Serializable {
 	 */
 	public void setBitboard(Piece piece, Square... squares) {
 		bits[piece.ordinal() - 1] = new Bitboard(squares).getValue();
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 		
 	}
 
 	/**
 	 * Returns the zobrist hash of the position.
+	 * <p>
+	 * The key is computed once and then kept up to date incrementally by
+	 * {@link #makeMove(Move)}, {@link #unmakeMove()} and the generator, so
+	 * repeated calls are cheap. Setters invalidate it, but writing directly into
+	 * the array returned by {@link #getBits()} does not.
+	 * </p>
 	 * @return the zobrist hash
 	 * @since 1.2.9
 	 */
 	public Long zobristHash() {
-		return ZobristHasherFactory.instance().computeZobristHash(this);
+		return zobristKey();
+	}
+
+	long zobristKey() {
+		if (!zobristKeyPresent) {
+			zobristKey = ZobristHasherFactory.instance().computeZobristHash(this);
+			zobristKeyPresent = true;
+		}
+		return zobristKey;
+	}
+
+	/**
+	 * Returns the material balance of the position from the point of view of
+	 * white, using the values pawn 100, knight 320, bishop 330, rook 500 and
+	 * queen 900.
+	 * <p>
+	 * Like the zobrist hash, the value is computed once and then kept up to date
+	 * incrementally by {@link #makeMove(Move)}, {@link #unmakeMove()} and the
+	 * generator, from the pieces each move removes and places.
+	 * </p>
+	 *
+	 * @return the material balance
+	 * @see IncrementalEvaluator
+	 *
+	 * @since 1.2.11
+	 */
+	public int materialScore() {
+		ensureEvaluationTerms();
+		return materialScore;
+	}
+
+	/**
+	 * Returns the piece-square balance of the position from the point of view of
+	 * white. It is kept up to date the same way as {@link #materialScore()}.
+	 *
+	 * @return the piece-square balance
+	 * @see IncrementalEvaluator
+	 *
+	 * @since 1.2.11
+	 */
+	public int pieceSquareScore() {
+		ensureEvaluationTerms();
+		return pieceSquareScore;
+	}
+
+	/**
+	 * Returns the pawn hash of the position, a zobrist key computed only from the
+	 * squares of the pawns of both colors. Positions with the same pawn structure
+	 * share it, which makes it the key of a {@link PawnHashTable}. It is kept up
+	 * to date the same way as {@link #materialScore()}.
+	 *
+	 * @return the pawn hash
+	 *
+	 * @since 1.2.11
+	 */
+	public long pawnHash() {
+		if (!pawnKeyPresent) {
+			pawnKey = ZobristHasherFactory.instance().computePawnHash(bits);
+			pawnKeyPresent = true;
+		}
+		return pawnKey;
+	}
+
+	/**
+	 * Returns the attack information of the position: attacked squares, checkers
+	 * and pins. It is computed the first time it is requested and kept until the
+	 * position changes, so the generator, the check detection and the status
+	 * rules share it. Like the zobrist hash, writing directly into the array
+	 * returned by {@link #getBits()} does not invalidate it.
+	 *
+	 * @return the attack map of the position
+	 *
+	 * @since 1.2.11
+	 */
+	public AttackMap attackMap() {
+		if (attackMap == null)
+			attackMap = new AttackMap(bits, whiteMoveNumeric, GeneratorFactory.container.visibleMagic);
+		return attackMap;
+	}
+
+	// drops the cached attack map, so the next call to attackMap() builds it again
+	void clearAttackMap() {
+		attackMap = null;
+	}
+
+	private void ensureEvaluationTerms() {
+		if (!evaluationTermsPresent) {
+			materialScore = PieceSquareTables.material(bits);
+			pieceSquareScore = PieceSquareTables.pieceSquare(bits);
+			evaluationTermsPresent = true;
+		}
+	}
+
+	// the child differs from the parent by one move, only the changed bits are looked at
+	void inheritEvaluationTerms(Position parent) {
+		final long[] parentBits = parent.bits;
+		if (parent.pawnKeyPresent) {
+			final ZobristHasher hasher = ZobristHasherFactory.instance();
+			long pawns = parent.pawnKey;
+			for (long b = bits[0] ^ parentBits[0]; b != 0L; b &= b - 1)
+				pawns ^= hasher.pieceKey(0, Long.numberOfTrailingZeros(b));
+			for (long b = bits[6] ^ parentBits[6]; b != 0L; b &= b - 1)
+				pawns ^= hasher.pieceKey(6, Long.numberOfTrailingZeros(b));
+			pawnKey = pawns;
+			pawnKeyPresent = true;
+		}
+		if (!parent.evaluationTermsPresent)
+			return;
+		int material = parent.materialScore;
+		int pieceSquare = parent.pieceSquareScore;
+		for (int i = 0; i < 12; i++) {
+			final long changed = bits[i] ^ parentBits[i];
+			if (changed == 0L)
+				continue;
+			final int[] table = PieceSquareTables.SQUARE[i + 1];
+			for (long b = changed & bits[i]; b != 0L; b &= b - 1) {
+				material += PieceSquareTables.MATERIAL[i + 1];
+				pieceSquare += table[Long.numberOfTrailingZeros(b)];
+			}
+			for (long b = changed & parentBits[i]; b != 0L; b &= b - 1) {
+				material -= PieceSquareTables.MATERIAL[i + 1];
+				pieceSquare -= table[Long.numberOfTrailingZeros(b)];
+			}
+		}
+		materialScore = material;
+		pieceSquareScore = pieceSquare;
+		evaluationTermsPresent = true;
+	}
+
+	void setZobristKey(long zobristKey) {
+		this.zobristKey = zobristKey;
+		zobristKeyPresent = true;
 	}
 
 	/**
@@ -952,6 +1401,10 @@ public final class Position implements Serializable {
 	 */
 	public void setBits(long[] bits) {
 		this.bits = bits;
+		zobristKeyPresent = false;
+		evaluationTermsPresent = false;
+		pawnKeyPresent = false;
+		attackMap = null;
 	}
 
 	/**
@@ -974,6 +1427,7 @@ public final class Position implements Serializable {
 	 */
 	public void setEnPassant(int enPassant) {
 		this.enPassant = enPassant;
+		zobristKeyPresent = false;
 	}
 
 	/**
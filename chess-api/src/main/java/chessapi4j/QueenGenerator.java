@@ -35,11 +35,7 @@ final class QueenGenerator {
 
     public void queenMoves(long br, int square, int pieceType, int kingSquare, long friends, long enemies,
             Position position, long checkMask, long inCheckMask, List<Position> children) {
-        final long defense = generatorUtil.defenseDirection(kingSquare, square);
-        final long pseudoLegalMoves = visibleMetrics.visibleSquaresQueen(square, friends, enemies);
-        final long[] pin = new long[] { -1L, pseudoLegalMoves & checkMask & defense };
-        final long pinMask = pin[(int) ((br & checkMask) >>> generatorUtil.squaresMap(br & checkMask))];
-        long legalMoves = pseudoLegalMoves & pinMask & inCheckMask;
+        long legalMoves = queenLegalMoves(br, square, kingSquare, friends, enemies, checkMask, inCheckMask);
         while (legalMoves != 0L) {
             final long move = legalMoves & -legalMoves;
             final Position newPosition = position.makeClone();
@@ -49,4 +45,12 @@ final class QueenGenerator {
         }
 
     }
+
+    long queenLegalMoves(long br, int square, int kingSquare, long friends, long enemies, long checkMask,
+            long inCheckMask) {
+        final long pseudoLegalMoves = visibleMetrics.visibleSquaresQueen(square, friends, enemies);
+        final long pinMask = (br & checkMask) == 0L ? -1L
+                : checkMask & generatorUtil.defenseDirection(kingSquare, square);
+        return pseudoLegalMoves & pinMask & inCheckMask;
+    }
 }
@@ -35,11 +35,7 @@ final class RookGenerator {
 
     public void rookMoves(long br, int square, int pieceType, int kingSquare, long enemies,
             long friends, Position position, long checkMask, long inCheckMask, List<Position> children) {
-        final long defense = generatorUtil.defenseDirection(kingSquare, square);
-        final long pseudoLegalMoves = visibleMetrics.visibleSquaresRook(square, friends, enemies);
-        final long[] pin = new long[] { -1L, pseudoLegalMoves & checkMask & defense };
-        final long pinMask = pin[(int) ((br & checkMask) >>> generatorUtil.squaresMap(br))];
-        long legalMoves = pseudoLegalMoves & pinMask & inCheckMask;
+        long legalMoves = rookLegalMoves(br, square, kingSquare, enemies, friends, checkMask, inCheckMask);
 
         while (legalMoves != 0L) {
             long move = legalMoves & -legalMoves;
@@ -52,4 +48,12 @@ final class RookGenerator {
             legalMoves = legalMoves & ~move;
         }
     }
+
+    long rookLegalMoves(long br, int square, int kingSquare, long enemies, long friends, long checkMask,
+            long inCheckMask) {
+        final long pseudoLegalMoves = visibleMetrics.visibleSquaresRook(square, friends, enemies);
+        final long pinMask = (br & checkMask) == 0L ? -1L
+                : checkMask & generatorUtil.defenseDirection(kingSquare, square);
+        return pseudoLegalMoves & pinMask & inCheckMask;
+    }
 }
@@ -34,10 +34,6 @@ public class Rules {
 	private static final Pattern VALID_FULL_MOVE_COUNTER_PATTERN = Pattern.compile("^[1-9][0-9]*$");
 
 
-	private static int movesCounter(Position position) {
-		return GeneratorFactory.instance().generateChildren(position).size();
-	}
-
 	/**
 	 * Set the internal variables checkmate, stalemate, fiftyMoves and
 	 * lackOfMaterial
@@ -48,8 +44,8 @@ public class Rules {
 	public static void setStatus(Position position) {
 		position.setLackOfMaterial(AdvanceUtil.lackOfMaterial(position) == 1);
 		position.setFiftyMoves(position.getHalfMovesCounter() == 50);
-		boolean inCheck = GeneratorFactory.container.generatorUtil.isInCheck(position) == 1;
-		boolean noMoves = movesCounter(position) == 0;
+		boolean inCheck = position.attackMap().inCheck();
+		boolean noMoves = !GeneratorFactory.instance().hasAnyLegalMove(position);
 		position.setCheckmate(noMoves && inCheck);
 		position.setStalemate(noMoves && !inCheck);
 	}
@@ -107,7 +103,7 @@ public class Rules {
 
 		// side to move in check
 		position.changeColorToMove();
-		var validCheck = !(GeneratorFactory.container.generatorUtil.isInCheck(position) == 1);
+		var validCheck = !position.attackMap().inCheck();
 
 		// pawns in 8th rank
 		var wpBitboards = bitboards[Piece.WP.ordinal() - 1];
@@ -15,7 +15,11 @@
  */
 package chessapi4j;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -68,5 +72,144 @@ public interface Search {
 	 */
 	Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, int depth, int sampleSize, String searchMoves);
 
+	/**
+	 * Seek for the best move within the given limits. The search can be stopped
+	 * at any time with the handle, in which case the best move found so far is
+	 * returned.
+	 * <p>
+	 * The default implementation only honours the depth and the search moves of
+	 * the limits and ignores the handle.
+	 * </p>
+	 *
+	 * @param p                initial position
+	 * @param evaluatorFactory factory for evaluator implementation
+	 * @param limits           the search limits
+	 * @param handle           handle to cancel the search
+	 * @return an optional with the best move if any
+	 *
+	 * @since 1.2.11
+	 */
+	default Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, SearchLimits limits,
+			SearchHandle handle) {
+		return seekBestMove(p, evaluatorFactory, limits.getDepth(), 3, limits.getSearchMoves());
+	}
+
+	/**
+	 * Seek for the best move within the given limits.
+	 *
+	 * @param p                initial position
+	 * @param evaluatorFactory factory for evaluator implementation
+	 * @param limits           the search limits
+	 * @return an optional with the best move if any
+	 *
+	 * @since 1.2.11
+	 */
+	default Optional<Move> seekBestMove(Position p, Supplier<Evaluator> evaluatorFactory, SearchLimits limits) {
+		return seekBestMove(p, evaluatorFactory, limits, new SearchHandle());
+	}
+
+	/**
+	 * Searches within the given limits and returns the full result. The search
+	 * can be stopped at any time with the handle, in which case the result of
+	 * the last completed iteration is returned.
+	 * <p>
+	 * The default implementation delegates to
+	 * {@link #seekBestMove(Position, Supplier, SearchLimits, SearchHandle)}, its
+	 * principal variation only holds the best move and its score and node count
+	 * are 0.
+	 * </p>
+	 *
+	 * @param p                initial position
+	 * @param evaluatorFactory factory for evaluator implementation
+	 * @param limits           the search limits
+	 * @param handle           handle to cancel the search
+	 * @return the search result
+	 *
+	 * @since 1.2.11
+	 */
+	default SearchResult analyze(Position p, Supplier<Evaluator> evaluatorFactory, SearchLimits limits,
+			SearchHandle handle) {
+		final Optional<Move> move = seekBestMove(p, evaluatorFactory, limits, handle);
+		return new SearchResult(move.orElse(null), 0, move.map(List::of).orElse(List.of()), limits.getDepth(), 0L);
+	}
+
+	/**
+	 * Runs {@link #analyze(Position, Supplier, SearchLimits, SearchHandle)} on
+	 * the given executor. The position is copied before returning, so the caller
+	 * may keep using it. Cancelling the returned future stops the search, a
+	 * search cancelled before it started is not run at all.
+	 * <p>
+	 * The calling thread never blocks. Any executor works, on Java 21 a
+	 * {@code Executors.newVirtualThreadPerTaskExecutor()} runs each search on its
+	 * own virtual thread.
+	 * </p>
+	 *
+	 * @param p                initial position
+	 * @param evaluatorFactory factory for evaluator implementation
+	 * @param limits           the search limits
+	 * @param executor         the executor that runs the search
+	 * @return a future completed with the search result
+	 *
+	 * @since 1.2.11
+	 */
+	default CompletableFuture<SearchResult> seekBestMoveAsync(Position p, Supplier<Evaluator> evaluatorFactory,
+			SearchLimits limits, Executor executor) {
+		final Position position = p.makeClone();
+		final SearchHandle handle = new SearchHandle();
+		final CompletableFuture<SearchResult> future = new CompletableFuture<>();
+		future.whenComplete((result, throwable) -> {
+			if (throwable instanceof CancellationException)
+				handle.cancel();
+		});
+		executor.execute(() -> {
+			if (future.isDone())
+				return;
+			try {
+				future.complete(analyze(position, evaluatorFactory, limits, handle));
+			} catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Same as {@link #seekBestMoveAsync(Position, Supplier, SearchLimits, Executor)}
+	 * with the default evaluator.
+	 *
+	 * @param p        initial position
+	 * @param limits   the search limits
+	 * @param executor the executor that runs the search
+	 * @return a future completed with the search result
+	 *
+	 * @since 1.2.11
+	 */
+	default CompletableFuture<SearchResult> seekBestMoveAsync(Position p, SearchLimits limits, Executor executor) {
+		return seekBestMoveAsync(p, EvaluatorFactory::getImpl, limits, executor);
+	}
+
+	/**
+	 * Sets the transposition table used by this search. The same table can be
+	 * shared by several searches running at the same time. Implementations that
+	 * do not use a table ignore it.
+	 *
+	 * @param transpositionTable the table, null to search without one
+	 *
+	 * @since 1.2.11
+	 */
+	default void setTranspositionTable(TranspositionTable transpositionTable) {
+	}
+
+	/**
+	 * Sets the number of threads used by each search. Implementations that can
+	 * not search in parallel ignore it.
+	 *
+	 * @param threads the number of threads, 1 by default
+	 *
+	 * @since 1.2.11
+	 */
+	default void setThreads(int threads) {
+	}
+
 
 }
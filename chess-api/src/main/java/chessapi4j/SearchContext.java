@@ -0,0 +1,479 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * State of one alpha-beta search call: the position being searched, the move
+ * buffers per ply, killers, history, limits and statistics, together with the
+ * search routines that work on them.
+ * <p>
+ * A context is used by one thread at a time. Contexts are reused across calls
+ * through a {@link SearchContextPool}, so the buffers are allocated once.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class SearchContext {
+	static final int MATE = SearchResult.MATE;
+	static final int INFINITY = MATE + 1;
+	static final int MAX_PLY = 128;
+	private static final int MATE_BOUND = MATE - MAX_PLY;
+	private static final int ASPIRATION_WINDOW = 50;
+	private static final int ASPIRATION_DEPTH = 4;
+	private static final int NULL_MOVE_REDUCTION = 2;
+	private static final int NULL_MOVE_DEPTH = 3;
+	private static final int TT_MOVE_SCORE = 1 << 30;
+	private static final int CAPTURE_SCORE = 1 << 20;
+	private static final int FIRST_KILLER_SCORE = 1 << 19;
+	private static final int SECOND_KILLER_SCORE = 1 << 18;
+	private static final int HISTORY_LIMIT = 1 << 17;
+	private static final int MOVE_MASK = 0xFFFF;
+	private static final long CHECK_INTERVAL_MASK = 1023L;
+
+	private Position position;
+	private Evaluator evaluator;
+	private TranspositionTable table;
+	private final Generator generator = GeneratorFactory.instance();
+	private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+	private final int[][] orderScores = new int[MAX_PLY + 1][];
+	private final StagedMoveGenerator[] stagedGenerators = new StagedMoveGenerator[MAX_PLY + 1];
+	private final int[][] killers = new int[MAX_PLY + 1][2];
+	private final int[][][] history = new int[2][64][64];
+	private final long[] keys = new long[MAX_PLY + 1];
+	private final int[] rootMoves = new int[MoveList.CAPACITY];
+	// triangular table, the line found at each ply starts at index ply of its row
+	private final int[][] pv = new int[MAX_PLY + 1][MAX_PLY + 1];
+	private final int[] pvLength = new int[MAX_PLY + 1];
+	private final int[] bestLine = new int[MAX_PLY + 1];
+	private int bestLineLength;
+	private SearchHandle handle;
+	private long hardDeadline;
+	private long softDeadline;
+	private long nodeLimit;
+	private boolean stopped;
+	private int rootSize;
+	private long nodes;
+	private int bestScore;
+	private int completedDepth;
+	private int bestMove = MoveEncoding.NONE;
+
+	/**
+	 * Prepares this context for a new search. Killers, history and statistics
+	 * are cleared, the buffers are kept.
+	 *
+	 * @param position  the position to search, it is modified during the search
+	 *                  and left as it was at the end
+	 * @param evaluator the evaluator
+	 * @param table     the shared transposition table, null for none
+	 * @param limits    the search limits
+	 * @param handle    the handle checked to stop the search
+	 */
+	void reset(Position position, Evaluator evaluator, TranspositionTable table, SearchLimits limits,
+			SearchHandle handle) {
+		this.position = position;
+		this.evaluator = evaluator;
+		this.table = table;
+		this.handle = handle;
+		final long budget = limits.timeBudget(position.isWhiteMove());
+		final long now = System.nanoTime();
+		// no new iteration is started once half of the budget is gone
+		hardDeadline = budget > 0L ? now + budget * 1_000_000L : Long.MAX_VALUE;
+		softDeadline = budget > 0L ? now + budget * 500_000L : Long.MAX_VALUE;
+		nodeLimit = limits.getNodes() > 0L ? limits.getNodes() : Long.MAX_VALUE;
+		stopped = false;
+		rootSize = 0;
+		nodes = 0L;
+		bestScore = 0;
+		completedDepth = 0;
+		bestMove = MoveEncoding.NONE;
+		bestLineLength = 0;
+		for (int[] plyKillers : killers)
+			Arrays.fill(plyKillers, MoveEncoding.NONE);
+		for (int[][] sideHistory : history) {
+			for (int[] row : sideHistory)
+				Arrays.fill(row, 0);
+		}
+	}
+
+	// drops the references to the last search objects, so a pooled context does not retain them
+	void release() {
+		position = null;
+		evaluator = null;
+		table = null;
+		handle = null;
+	}
+
+	long nodes() {
+		return nodes;
+	}
+
+	int bestScore() {
+		return bestScore;
+	}
+
+	int completedDepth() {
+		return completedDepth;
+	}
+
+	int bestMove() {
+		return bestMove;
+	}
+
+	// the principal variation of the last completed iteration
+	List<Move> principalVariation() {
+		final List<Move> line = new ArrayList<>(bestLineLength);
+		for (int i = 0; i < bestLineLength; i++)
+			line.add(MoveEncoding.toMove(bestLine[i]));
+		return line;
+	}
+
+	int iterate(int startDepth, int maxDepth, List<Move> searchMoves) {
+		final MoveList legal = moveList(0);
+		generator.generateMoves(position, legal);
+		rootSize = 0;
+		for (int i = 0; i < legal.size(); i++) {
+			final int move = legal.get(i);
+			if (searchMoves.isEmpty() || searchMoves.contains(MoveEncoding.toMove(move)))
+				rootMoves[rootSize++] = move;
+		}
+		if (rootSize == 0)
+			return MoveEncoding.NONE;
+		keys[0] = position.zobristKey();
+		bestMove = rootMoves[0];
+		bestLine[0] = bestMove;
+		bestLineLength = 1;
+		for (int depth = startDepth; depth <= maxDepth; depth++) {
+			if (handle.isCancelled() || (depth > startDepth && System.nanoTime() >= softDeadline))
+				break;
+			int alpha = -INFINITY;
+			int beta = INFINITY;
+			if (depth >= ASPIRATION_DEPTH) {
+				alpha = Math.max(bestScore - ASPIRATION_WINDOW, -INFINITY);
+				beta = Math.min(bestScore + ASPIRATION_WINDOW, INFINITY);
+			}
+			int score = searchRoot(depth, alpha, beta);
+			while (!stopped && (score <= alpha || score >= beta)) {
+				if (score <= alpha)
+					alpha = -INFINITY;
+				else
+					beta = INFINITY;
+				score = searchRoot(depth, alpha, beta);
+			}
+			if (stopped)
+				break;
+			bestScore = score;
+			bestMove = rootMoves[0];
+			bestLineLength = pvLength[0];
+			System.arraycopy(pv[0], 0, bestLine, 0, bestLineLength);
+			completedDepth = depth;
+			if (Math.abs(score) >= MATE_BOUND)
+				break;
+		}
+		return bestMove;
+	}
+
+	// searches the root moves and moves the best one to the front
+	private int searchRoot(int depth, int alpha, int beta) {
+		int best = -INFINITY;
+		int bestIndex = 0;
+		pvLength[0] = 0;
+		for (int i = 0; i < rootSize; i++) {
+			final int move = rootMoves[i];
+			position.makeMove(move);
+			keys[1] = position.zobristKey();
+			int score;
+			if (i == 0) {
+				score = -search(depth - 1, -beta, -alpha, 1, true);
+			} else {
+				score = -search(depth - 1, -alpha - 1, -alpha, 1, true);
+				if (score > alpha && score < beta)
+					score = -search(depth - 1, -beta, -alpha, 1, true);
+			}
+			position.unmakeMove();
+			if (stopped)
+				return 0;
+			if (score > best) {
+				best = score;
+				bestIndex = i;
+				if (score > alpha) {
+					alpha = score;
+					updatePv(0, move);
+					if (alpha >= beta)
+						break;
+				}
+			}
+		}
+		final int bestMove = rootMoves[bestIndex];
+		System.arraycopy(rootMoves, 0, rootMoves, 1, bestIndex);
+		rootMoves[0] = bestMove;
+		return best;
+	}
+
+	private int search(int depth, int alpha, int beta, int ply, boolean nullAllowed) {
+		pvLength[ply] = ply;
+		if (isDraw(ply))
+			return 0;
+		final boolean inCheck = position.attackMap().inCheck();
+		if (inCheck)
+			depth++;
+		if (depth <= 0 || ply >= MAX_PLY)
+			return quiescence(alpha, beta, ply);
+		if (countNode())
+			return 0;
+		final boolean pvNode = beta - alpha > 1;
+		final long key = keys[ply];
+		int ttMove = MoveEncoding.NONE;
+		if (table != null) {
+			final long entry = table.probe(key);
+			if (entry != TranspositionTable.NO_ENTRY) {
+				ttMove = TranspositionTable.move(entry);
+				if (!pvNode && TranspositionTable.depth(entry) >= depth) {
+					final int score = fromTable(TranspositionTable.score(entry), ply);
+					final int bound = TranspositionTable.bound(entry);
+					if (bound == TranspositionTable.EXACT
+							|| (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+							|| (bound == TranspositionTable.UPPER_BOUND && score <= alpha))
+						return score;
+				}
+			}
+		}
+
+		if (nullAllowed && !pvNode && !inCheck && depth >= NULL_MOVE_DEPTH && hasPieces()
+				&& evaluate() >= beta) {
+			final int enPassant = position.makeNullMove();
+			keys[ply + 1] = position.zobristKey();
+			final int score = -search(depth - 1 - NULL_MOVE_REDUCTION, -beta, -beta + 1, ply + 1, false);
+			position.unmakeNullMove(enPassant);
+			if (stopped)
+				return 0;
+			if (score >= beta)
+				return score >= MATE_BOUND ? beta : score;
+		}
+
+		final MoveList moves = moveList(ply);
+		generator.generateMoves(position, moves);
+		if (moves.isEmpty())
+			return inCheck ? -MATE + ply : 0;
+		final int[] scores = orderScores[ply];
+		scoreMoves(moves, scores, ttMove, ply);
+
+		final int originalAlpha = alpha;
+		int best = -INFINITY;
+		int bestMove = MoveEncoding.NONE;
+		for (int i = 0; i < moves.size(); i++) {
+			final int move = pickMove(moves, scores, i);
+			position.makeMove(move);
+			keys[ply + 1] = position.zobristKey();
+			int score;
+			if (i == 0) {
+				score = -search(depth - 1, -beta, -alpha, ply + 1, true);
+			} else {
+				score = -search(depth - 1, -alpha - 1, -alpha, ply + 1, true);
+				if (score > alpha && score < beta)
+					score = -search(depth - 1, -beta, -alpha, ply + 1, true);
+			}
+			position.unmakeMove();
+			if (stopped)
+				return 0;
+			if (score > best) {
+				best = score;
+				bestMove = move;
+				if (score > alpha) {
+					alpha = score;
+					updatePv(ply, move);
+					if (alpha >= beta) {
+						if (!isTactical(move))
+							updateQuietStats(move, depth, ply);
+						break;
+					}
+				}
+			}
+		}
+
+		if (table != null) {
+			final int bound = best >= beta ? TranspositionTable.LOWER_BOUND
+					: best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+			table.store(key, bestMove, toTable(best, ply), depth, bound);
+		}
+		return best;
+	}
+
+	private int quiescence(int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+		if (countNode())
+			return 0;
+		final int standPat = evaluate();
+		if (ply >= MAX_PLY || standPat >= beta)
+			return standPat;
+		if (standPat > alpha)
+			alpha = standPat;
+		final StagedMoveGenerator captures = stagedGenerator(ply);
+		captures.resetCaptures(position);
+		int best = standPat;
+		for (int move = captures.next(); move != MoveEncoding.NONE; move = captures.next()) {
+			position.makeMove(move);
+			final int score = -quiescence(-beta, -alpha, ply + 1);
+			position.unmakeMove();
+			if (stopped)
+				return 0;
+			if (score > best) {
+				best = score;
+				if (score > alpha) {
+					alpha = score;
+					if (alpha >= beta)
+						break;
+				}
+			}
+		}
+		return best;
+	}
+
+	// the line of the ply is the move followed by the line of the next ply
+	private void updatePv(int ply, int move) {
+		pv[ply][ply] = move;
+		final int length = pvLength[ply + 1];
+		System.arraycopy(pv[ply + 1], ply + 1, pv[ply], ply + 1, length - ply - 1);
+		pvLength[ply] = length;
+	}
+
+	// counts the node and tells whether the search has to stop, the clock and the handle are
+	// only looked at every 1024 nodes
+	private boolean countNode() {
+		nodes++;
+		if (nodes >= nodeLimit || ((nodes & CHECK_INTERVAL_MASK) == 0L
+				&& (handle.isCancelled() || System.nanoTime() >= hardDeadline)))
+			stopped = true;
+		return stopped;
+	}
+
+	private int evaluate() {
+		final int score = evaluator.evaluate(position);
+		return position.isWhiteMove() ? score : -score;
+	}
+
+	// repetitions inside the search tree and fifty moves rule
+	private boolean isDraw(int ply) {
+		if (position.getHalfMovesCounter() >= 100)
+			return true;
+		final long key = keys[ply];
+		final int limit = Math.max(0, ply - position.getHalfMovesCounter());
+		for (int i = ply - 2; i >= limit; i -= 2) {
+			if (keys[i] == key)
+				return true;
+		}
+		return false;
+	}
+
+	private boolean hasPieces() {
+		final long[] bits = position.getBits();
+		final int offset = position.isWhiteMove() ? 0 : 6;
+		return (bits[Piece.WN.ordinal() - 1 + offset] | bits[Piece.WB.ordinal() - 1 + offset]
+				| bits[Piece.WR.ordinal() - 1 + offset] | bits[Piece.WQ.ordinal() - 1 + offset]) != 0L;
+	}
+
+	private void scoreMoves(MoveList moves, int[] scores, int ttMove, int ply) {
+		final long[] bits = position.getBits();
+		final int side = position.isWhiteMove() ? 1 : 0;
+		for (int i = 0; i < moves.size(); i++) {
+			final int move = moves.get(i);
+			final int origin = MoveEncoding.origin(move);
+			final int target = MoveEncoding.target(move);
+			int score;
+			if (ttMove != MoveEncoding.NONE && (move & MOVE_MASK) == (ttMove & MOVE_MASK)) {
+				score = TT_MOVE_SCORE;
+			} else if (isTactical(move)) {
+				final int victim = (MoveEncoding.flags(move) & MoveEncoding.EN_PASSANT) != 0 ? Piece.WP.ordinal()
+						: Position.pieceAt(bits, 1L << target);
+				final int promotion = Math.max(0, MoveEncoding.promotion(move));
+				score = CAPTURE_SCORE + (Piece.get(victim).value() + Piece.get(promotion).value()) * 16
+						- Piece.get(Position.pieceAt(bits, 1L << origin)).value() / 100;
+			} else if ((move & MOVE_MASK) == killers[ply][0]) {
+				score = FIRST_KILLER_SCORE;
+			} else if ((move & MOVE_MASK) == killers[ply][1]) {
+				score = SECOND_KILLER_SCORE;
+			} else {
+				score = history[side][origin][target];
+			}
+			scores[i] = score;
+		}
+	}
+
+	// selection sort step, brings the best remaining move to the given index
+	private static int pickMove(MoveList moves, int[] scores, int index) {
+		int best = index;
+		for (int i = index + 1; i < moves.size(); i++) {
+			if (scores[i] > scores[best])
+				best = i;
+		}
+		if (best != index) {
+			moves.swap(index, best);
+			final int score = scores[index];
+			scores[index] = scores[best];
+			scores[best] = score;
+		}
+		return moves.get(index);
+	}
+
+	private void updateQuietStats(int move, int depth, int ply) {
+		final int masked = move & MOVE_MASK;
+		if (killers[ply][0] != masked) {
+			killers[ply][1] = killers[ply][0];
+			killers[ply][0] = masked;
+		}
+		final int[][] sideHistory = history[position.isWhiteMove() ? 1 : 0];
+		final int origin = MoveEncoding.origin(move);
+		final int target = MoveEncoding.target(move);
+		sideHistory[origin][target] += depth * depth;
+		if (sideHistory[origin][target] >= HISTORY_LIMIT) {
+			for (int[] row : sideHistory) {
+				for (int i = 0; i < row.length; i++)
+					row[i] >>= 1;
+			}
+		}
+	}
+
+	private MoveList moveList(int ply) {
+		if (moveLists[ply] == null) {
+			moveLists[ply] = new MoveList();
+			orderScores[ply] = new int[MoveList.CAPACITY];
+		}
+		return moveLists[ply];
+	}
+
+	private StagedMoveGenerator stagedGenerator(int ply) {
+		if (stagedGenerators[ply] == null)
+			stagedGenerators[ply] = new StagedMoveGenerator(generator);
+		return stagedGenerators[ply];
+	}
+
+	private static boolean isTactical(int move) {
+		return MoveEncoding.isCapture(move) || MoveEncoding.isPromotion(move);
+	}
+
+	// mate scores are stored relative to the node, not to the root
+	private static int toTable(int score, int ply) {
+		return score >= MATE_BOUND ? score + ply : score <= -MATE_BOUND ? score - ply : score;
+	}
+
+	private static int fromTable(int score, int ply) {
+		return score >= MATE_BOUND ? score - ply : score <= -MATE_BOUND ? score + ply : score;
+	}
+}
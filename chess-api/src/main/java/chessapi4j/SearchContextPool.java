@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of idle {@link SearchContext} instances. When it is empty a new
+ * context is created, when it is full released contexts are dropped.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class SearchContextPool {
+	private final ConcurrentLinkedQueue<SearchContext> idle = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final int capacity;
+
+	SearchContextPool(int capacity) {
+		this.capacity = capacity;
+	}
+
+	SearchContext acquire() {
+		final SearchContext context = idle.poll();
+		if (context == null)
+			return new SearchContext();
+		size.decrementAndGet();
+		return context;
+	}
+
+	void release(SearchContext context) {
+		context.release();
+		if (size.incrementAndGet() <= capacity)
+			idle.offer(context);
+		else
+			size.decrementAndGet();
+	}
+}
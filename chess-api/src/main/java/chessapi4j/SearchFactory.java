@@ -22,6 +22,12 @@ package chessapi4j;
  * @since 1.2.0
  */
 public class SearchFactory {
+	/**
+	 * Size of the transposition table created by {@link #alphaBetaImpl()}.
+	 *
+	 * @since 1.2.11
+	 */
+	public static final int DEFAULT_TABLE_MEGABYTES = 16;
 
 	/**
 	 * An experimental implementation. It may not work correctly.
@@ -31,5 +37,42 @@ public class SearchFactory {
 		return new MontecarloSearch();
 	}
 
+	/**
+	 * An experimental implementation that shares the given transposition table.
+	 * @param transpositionTable the table to use
+	 * @return an implementation of Search interface
+	 *
+	 * @since 1.2.11
+	 */
+	public static Search searchImpl(TranspositionTable transpositionTable) {
+		Search search = searchImpl();
+		search.setTranspositionTable(transpositionTable);
+		return search;
+	}
+
+	/**
+	 * Alpha-beta implementation with iterative deepening. The result for a given
+	 * position and depth is deterministic. It comes with its own transposition
+	 * table of {@value #DEFAULT_TABLE_MEGABYTES} megabytes.
+	 * @return an implementation of Search interface
+	 *
+	 * @since 1.2.11
+	 */
+	public static Search alphaBetaImpl() {
+		return new AlphaBetaSearch(new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+	}
+
+	/**
+	 * Alpha-beta implementation with iterative deepening that uses the given
+	 * transposition table, null to search without one.
+	 * @param transpositionTable the table to use
+	 * @return an implementation of Search interface
+	 *
+	 * @since 1.2.11
+	 */
+	public static Search alphaBetaImpl(TranspositionTable transpositionTable) {
+		return new AlphaBetaSearch(transpositionTable);
+	}
+
 	private SearchFactory() {}
 }
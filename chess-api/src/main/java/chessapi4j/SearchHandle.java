@@ -15,34 +15,38 @@
  */
 package chessapi4j;
 
-import java.util.Iterator;
-
-//bean
 /**
+ * Handle to stop a running search from another thread. The search checks it
+ * periodically and returns the best result found so far as soon as it sees
+ * the cancellation.
+ * <p>
+ * A handle is meant for one search, once cancelled it stays cancelled.
+ * </p>
+ *
  * @author lunalobos
- * @since 1.2.8
+ * @since 1.2.11
  */
-final class BitIterator implements Iterator<Integer> {
+public final class SearchHandle {
+	private volatile boolean cancelled;
 
-	private final int bits;
-	private int pointer = 0;
-	private final int bitsLength;
+	/**
+	 * Creates a new handle.
+	 */
+	public SearchHandle() {}
 
-	public BitIterator(int bits) {
-		this.bits = bits;
-		bitsLength = 32 - Integer.numberOfLeadingZeros(bits);
+	/**
+	 * Asks the search to stop.
+	 */
+	public void cancel() {
+		cancelled = true;
 	}
 
-	@Override
-	public boolean hasNext() {
-		return pointer < bitsLength;
+	/**
+	 * Returns whether {@link #cancel()} was called.
+	 *
+	 * @return true if the search has to stop
+	 */
+	public boolean isCancelled() {
+		return cancelled;
 	}
-
-	@Override
-	public Integer next() {
-		var currentPointer = pointer;
-		pointer++;
-		return (bits & (1 << currentPointer)) >>> currentPointer;
-	}
-
 }
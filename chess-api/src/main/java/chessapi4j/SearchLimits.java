@@ -0,0 +1,317 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Immutable set of limits for a search, modeled after the parameters of the
+ * UCI {@code go} command. Times are in milliseconds and a value of 0 means the
+ * limit is not set. A search with no limit at all runs until it is cancelled
+ * through its {@link SearchHandle}.
+ * <p>
+ * Instances are created with {@link #builder()} or with the shortcuts
+ * {@link #depth(int)} and {@link #moveTime(long)}.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class SearchLimits {
+	private static final int DEFAULT_MOVES_TO_GO = 30;
+
+	/**
+	 * Builder for {@code SearchLimits} instances.
+	 */
+	public static class Builder {
+		private int depth;
+		private long moveTime;
+		private long whiteTime;
+		private long blackTime;
+		private long whiteIncrement;
+		private long blackIncrement;
+		private int movesToGo;
+		private long nodes;
+		private boolean infinite;
+		private String searchMoves;
+
+		/**
+		 * Creates a new {@code Builder} instance.
+		 */
+		public Builder() {}
+
+		/**
+		 * Sets the maximum depth.
+		 * @param depth the depth in plies
+		 * @return this builder
+		 */
+		public Builder depth(int depth) {
+			this.depth = depth;
+			return this;
+		}
+
+		/**
+		 * Sets the exact time to search.
+		 * @param moveTime the time in milliseconds
+		 * @return this builder
+		 */
+		public Builder moveTime(long moveTime) {
+			this.moveTime = moveTime;
+			return this;
+		}
+
+		/**
+		 * Sets the remaining time of white.
+		 * @param whiteTime the time in milliseconds
+		 * @return this builder
+		 */
+		public Builder whiteTime(long whiteTime) {
+			this.whiteTime = whiteTime;
+			return this;
+		}
+
+		/**
+		 * Sets the remaining time of black.
+		 * @param blackTime the time in milliseconds
+		 * @return this builder
+		 */
+		public Builder blackTime(long blackTime) {
+			this.blackTime = blackTime;
+			return this;
+		}
+
+		/**
+		 * Sets the increment per move of white.
+		 * @param whiteIncrement the increment in milliseconds
+		 * @return this builder
+		 */
+		public Builder whiteIncrement(long whiteIncrement) {
+			this.whiteIncrement = whiteIncrement;
+			return this;
+		}
+
+		/**
+		 * Sets the increment per move of black.
+		 * @param blackIncrement the increment in milliseconds
+		 * @return this builder
+		 */
+		public Builder blackIncrement(long blackIncrement) {
+			this.blackIncrement = blackIncrement;
+			return this;
+		}
+
+		/**
+		 * Sets the number of moves until the next time control.
+		 * @param movesToGo the number of moves
+		 * @return this builder
+		 */
+		public Builder movesToGo(int movesToGo) {
+			this.movesToGo = movesToGo;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of nodes to search.
+		 * @param nodes the node budget
+		 * @return this builder
+		 */
+		public Builder nodes(long nodes) {
+			this.nodes = nodes;
+			return this;
+		}
+
+		/**
+		 * Makes the search ignore time and depth limits, it will run until it is
+		 * cancelled.
+		 * @param infinite true for an infinite search
+		 * @return this builder
+		 */
+		public Builder infinite(boolean infinite) {
+			this.infinite = infinite;
+			return this;
+		}
+
+		/**
+		 * Restricts the search to the given moves in uci notation separated by
+		 * spaces, for example {@code "e2e4 d2d4"}.
+		 * @param searchMoves the moves to search
+		 * @return this builder
+		 */
+		public Builder searchMoves(String searchMoves) {
+			this.searchMoves = searchMoves;
+			return this;
+		}
+
+		/**
+		 * Builds the {@code SearchLimits} instance.
+		 * @return the built {@code SearchLimits} instance
+		 * @throws IllegalArgumentException if any value is negative
+		 */
+		public SearchLimits build() {
+			if (depth < 0 || moveTime < 0 || whiteTime < 0 || blackTime < 0 || whiteIncrement < 0
+					|| blackIncrement < 0 || movesToGo < 0 || nodes < 0)
+				throw new IllegalArgumentException("Search limits can not be negative");
+			return new SearchLimits(this);
+		}
+	}
+
+	/**
+	 * Creates a new {@code Builder} instance.
+	 * @return a new {@code Builder} instance
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Limits the search to the given depth.
+	 * @param depth the depth in plies
+	 * @return the limits
+	 */
+	public static SearchLimits depth(int depth) {
+		return builder().depth(depth).build();
+	}
+
+	/**
+	 * Limits the search to the given time.
+	 * @param moveTime the time in milliseconds
+	 * @return the limits
+	 */
+	public static SearchLimits moveTime(long moveTime) {
+		return builder().moveTime(moveTime).build();
+	}
+
+	private final int depth;
+	private final long moveTime;
+	private final long whiteTime;
+	private final long blackTime;
+	private final long whiteIncrement;
+	private final long blackIncrement;
+	private final int movesToGo;
+	private final long nodes;
+	private final boolean infinite;
+	private final String searchMoves;
+
+	private SearchLimits(Builder builder) {
+		depth = builder.depth;
+		moveTime = builder.moveTime;
+		whiteTime = builder.whiteTime;
+		blackTime = builder.blackTime;
+		whiteIncrement = builder.whiteIncrement;
+		blackIncrement = builder.blackIncrement;
+		movesToGo = builder.movesToGo;
+		nodes = builder.nodes;
+		infinite = builder.infinite;
+		searchMoves = builder.searchMoves;
+	}
+
+	/**
+	 * Returns the time this search may use for the side to move. When there is
+	 * no move time but there are clock times, the remaining time is split over
+	 * the moves to go (30 if unknown) plus most of the increment.
+	 *
+	 * @param whiteMove true if white is the side to move
+	 * @return the time in milliseconds, 0 if the time is not limited
+	 */
+	public long timeBudget(boolean whiteMove) {
+		if (infinite)
+			return 0L;
+		if (moveTime > 0L)
+			return moveTime;
+		final long time = whiteMove ? whiteTime : blackTime;
+		if (time == 0L)
+			return 0L;
+		final long increment = whiteMove ? whiteIncrement : blackIncrement;
+		final long budget = time / (movesToGo > 0 ? movesToGo : DEFAULT_MOVES_TO_GO) + increment * 3 / 4;
+		return Math.max(1L, Math.min(budget, time * 9 / 10));
+	}
+
+	/**
+	 * @return the maximum depth, 0 if not set
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * @return the exact time to search in milliseconds, 0 if not set
+	 */
+	public long getMoveTime() {
+		return moveTime;
+	}
+
+	/**
+	 * @return the remaining time of white in milliseconds, 0 if not set
+	 */
+	public long getWhiteTime() {
+		return whiteTime;
+	}
+
+	/**
+	 * @return the remaining time of black in milliseconds, 0 if not set
+	 */
+	public long getBlackTime() {
+		return blackTime;
+	}
+
+	/**
+	 * @return the increment of white in milliseconds
+	 */
+	public long getWhiteIncrement() {
+		return whiteIncrement;
+	}
+
+	/**
+	 * @return the increment of black in milliseconds
+	 */
+	public long getBlackIncrement() {
+		return blackIncrement;
+	}
+
+	/**
+	 * @return the moves until the next time control, 0 if not set
+	 */
+	public int getMovesToGo() {
+		return movesToGo;
+	}
+
+	/**
+	 * @return the node budget, 0 if not set
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * @return true if the search runs until it is cancelled
+	 */
+	public boolean isInfinite() {
+		return infinite;
+	}
+
+	/**
+	 * @return the moves to search in uci notation, null to search all the moves
+	 */
+	public String getSearchMoves() {
+		return searchMoves;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"SearchLimits[depth=%d, moveTime=%d, whiteTime=%d, blackTime=%d, whiteIncrement=%d, blackIncrement=%d, movesToGo=%d, nodes=%d, infinite=%s, searchMoves=%s]",
+				depth, moveTime, whiteTime, blackTime, whiteIncrement, blackIncrement, movesToGo, nodes, infinite,
+				searchMoves);
+	}
+}
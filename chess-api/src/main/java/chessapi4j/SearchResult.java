@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outcome of a search: the best move, its score, the principal variation, the
+ * depth reached and the number of nodes visited.
+ * <p>
+ * Scores are in centipawns from the point of view of the side to move. A mate
+ * is scored as {@link #MATE} minus the number of plies to it, negative when the
+ * side to move is the one being mated. Implementations that do not compute a
+ * value report 0.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class SearchResult {
+	/**
+	 * Score of a mate at the root, mate scores are this value minus the plies to
+	 * the mate.
+	 */
+	public static final int MATE = 100000;
+
+	private final Move bestMove;
+	private final int score;
+	private final List<Move> principalVariation;
+	private final int depth;
+	private final long nodes;
+
+	/**
+	 * Creates a new result.
+	 *
+	 * @param bestMove           the best move, null if there is no legal move
+	 * @param score              the score of the best move
+	 * @param principalVariation the expected line starting with the best move
+	 * @param depth              the depth of the last completed iteration
+	 * @param nodes              the number of nodes visited
+	 */
+	public SearchResult(Move bestMove, int score, List<Move> principalVariation, int depth, long nodes) {
+		this.bestMove = bestMove;
+		this.score = score;
+		this.principalVariation = List.copyOf(principalVariation);
+		this.depth = depth;
+		this.nodes = nodes;
+	}
+
+	/**
+	 * @return an optional with the best move, empty if there is no legal move
+	 */
+	public Optional<Move> getBestMove() {
+		return Optional.ofNullable(bestMove);
+	}
+
+	/**
+	 * @return the score of the best move in centipawns for the side to move
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * @return true if the score is a mate for any of the sides
+	 */
+	public boolean isMate() {
+		return Math.abs(score) >= MATE - SearchContext.MAX_PLY;
+	}
+
+	/**
+	 * @return the unmodifiable principal variation, empty if there is no legal
+	 *         move
+	 */
+	public List<Move> getPrincipalVariation() {
+		return principalVariation;
+	}
+
+	/**
+	 * @return the depth of the last completed iteration
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * @return the number of nodes visited
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SearchResult[bestMove=%s, score=%d, principalVariation=%s, depth=%d, nodes=%d]",
+				bestMove, score, principalVariation, depth, nodes);
+	}
+}
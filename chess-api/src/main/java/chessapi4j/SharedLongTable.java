@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the fixed size tables shared by search threads without locks. It
+ * owns the flat {@code long} array, split in slots of a fixed number of words
+ * and addressed by a power of two mask, and the probe counters reported by the
+ * subclasses. How a slot is laid out and checked is up to each subclass.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+abstract class SharedLongTable {
+	/**
+	 * Backing array, {@code slotMask + 1} slots one after the other.
+	 */
+	final long[] table;
+	/**
+	 * Mask that turns a hash into a slot number.
+	 */
+	final int slotMask;
+	private final int entryWords;
+	private final int megabytes;
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Creates a table that uses at most the given amount of megabytes, with the
+	 * number of slots rounded down to a power of two.
+	 *
+	 * @param megabytes    the requested size
+	 * @param maxMegabytes the largest size accepted
+	 * @param slotWords    the words of a slot
+	 * @param entryWords   the words of an entry, a slot holds one or more
+	 * @throws IllegalArgumentException if the size is lower than 1 or greater
+	 *                                  than the maximum
+	 */
+	SharedLongTable(int megabytes, int maxMegabytes, int slotWords, int entryWords) {
+		if (megabytes < 1 || megabytes > maxMegabytes)
+			throw new IllegalArgumentException(String.format("Size has to be between 1 and %d megabytes, %d given",
+					maxMegabytes, megabytes));
+		final long slots = Math.min(Long.highestOneBit((long) megabytes * 1024L * 1024L / (slotWords * Long.BYTES)),
+				Integer.highestOneBit(Integer.MAX_VALUE / slotWords));
+		table = new long[(int) slots * slotWords];
+		slotMask = (int) slots - 1;
+		this.entryWords = entryWords;
+		this.megabytes = megabytes;
+	}
+
+	final void countProbe() {
+		probes.increment();
+	}
+
+	final void countHit() {
+		hits.increment();
+	}
+
+	/**
+	 * Removes all entries and resets the counters.
+	 */
+	public void clear() {
+		Arrays.fill(table, 0L);
+		probes.reset();
+		hits.reset();
+	}
+
+	/**
+	 * Returns the number of probes since creation or the last {@link #clear()}.
+	 *
+	 * @return the number of probes
+	 */
+	public long probes() {
+		return probes.sum();
+	}
+
+	/**
+	 * Returns the number of successful probes since creation or the last
+	 * {@link #clear()}.
+	 *
+	 * @return the number of hits
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the ratio between hits and probes, 0 if there were no probes.
+	 *
+	 * @return the hit rate
+	 */
+	public double hitRate() {
+		final long total = probes.sum();
+		return total == 0L ? 0.0 : (double) hits.sum() / (double) total;
+	}
+
+	/**
+	 * Returns the number of entries of this table.
+	 *
+	 * @return the number of entries
+	 */
+	public int capacity() {
+		return table.length / entryWords;
+	}
+
+	/**
+	 * Returns the size requested at creation.
+	 *
+	 * @return the size in megabytes
+	 */
+	public int megabytes() {
+		return megabytes;
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Pull style move generator that yields the legal moves of a position in
+ * stages: first captures and queen promotions ordered by most valuable victim
+ * and least valuable attacker, then the killer moves, then the rest of the
+ * quiet moves and finally the under-promotions.
+ * <p>
+ * Each stage is generated only when the previous one is exhausted, so a cutoff
+ * during the captures stage never pays for the quiet moves generation. Moves
+ * come from {@link Generator#generatePseudoLegalMoves(Position, MoveList)} and
+ * are checked with {@link Generator#isLegal(Position, int)} right before they
+ * are returned.
+ * </p>
+ * <p>
+ * Instances hold their own buffers and are meant to be reused: one instance per
+ * thread and per ply. They are not thread safe.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class StagedMoveGenerator {
+
+	/**
+	 * Generation stages in the order they are visited.
+	 *
+	 * @since 1.2.11
+	 */
+	public enum Stage {
+		/**
+		 * Captures, en passant captures and queen promotions.
+		 */
+		CAPTURES,
+		/**
+		 * Killer moves that are quiet and legal in the current position.
+		 */
+		KILLERS,
+		/**
+		 * Remaining quiet moves.
+		 */
+		QUIETS,
+		/**
+		 * Knight, bishop and rook promotions.
+		 */
+		UNDER_PROMOTIONS,
+		/**
+		 * There are no more moves.
+		 */
+		DONE
+	}
+
+	// origin, target and promotion bits, flags excluded
+	private static final int MOVE_MASK = 0xFFFF;
+
+	private final Generator generator;
+	private final MoveList captures = new MoveList();
+	private final MoveList quiets = new MoveList();
+	private final MoveList underPromotions = new MoveList();
+	private final int[] scores = new int[MoveList.CAPACITY];
+	private final int[] killers = new int[2];
+	private Position position;
+	private Stage stage = Stage.DONE;
+	private int index;
+	private boolean capturesOnly;
+
+	/**
+	 * Creates a new instance that uses the default generator.
+	 */
+	public StagedMoveGenerator() {
+		this(GeneratorFactory.instance());
+	}
+
+	/**
+	 * Creates a new instance that uses the given generator.
+	 *
+	 * @param generator the generator
+	 */
+	public StagedMoveGenerator(Generator generator) {
+		this.generator = generator;
+	}
+
+	/**
+	 * Starts the generation of all the legal moves of the position.
+	 *
+	 * @param position the position
+	 * @param killer1  first killer move as a packed move, or
+	 *                 {@link MoveEncoding#NONE}
+	 * @param killer2  second killer move as a packed move, or
+	 *                 {@link MoveEncoding#NONE}
+	 */
+	public void reset(Position position, int killer1, int killer2) {
+		start(position, false);
+		killers[0] = killer1;
+		killers[1] = killer2;
+	}
+
+	/**
+	 * Starts the generation of all the legal moves of the position, without
+	 * killer moves.
+	 *
+	 * @param position the position
+	 */
+	public void reset(Position position) {
+		reset(position, MoveEncoding.NONE, MoveEncoding.NONE);
+	}
+
+	/**
+	 * Starts the generation of the captures stage only, captures, en passant
+	 * captures and queen promotions, as needed by a quiescence search.
+	 *
+	 * @param position the position
+	 */
+	public void resetCaptures(Position position) {
+		start(position, true);
+		killers[0] = MoveEncoding.NONE;
+		killers[1] = MoveEncoding.NONE;
+	}
+
+	/**
+	 * The stage of the last move returned by {@link #next()}.
+	 *
+	 * @return the current stage
+	 */
+	public Stage stage() {
+		return stage;
+	}
+
+	/**
+	 * Returns the next legal move.
+	 *
+	 * @return the next legal move packed as an int (see {@link MoveEncoding}), or
+	 *         {@link MoveEncoding#NONE} when there are no more moves
+	 */
+	public int next() {
+		while (true) {
+			switch (stage) {
+			case CAPTURES:
+				if (index < captures.size()) {
+					final int move = selectBestCapture();
+					if (MoveEncoding.isPromotion(move) && !isQueenPromotion(move)) {
+						if (!capturesOnly)
+							underPromotions.add(move);
+					} else if (generator.isLegal(position, move)) {
+						return move;
+					}
+				} else if (capturesOnly) {
+					stage = Stage.DONE;
+				} else {
+					generator.generatePseudoLegalMoves(position, quiets, Generator.QUIETS);
+					stage = Stage.KILLERS;
+					index = 0;
+				}
+				break;
+			case KILLERS:
+				if (index < killers.length) {
+					final int move = takeQuiet(killers[index++]);
+					if (move != MoveEncoding.NONE && generator.isLegal(position, move))
+						return move;
+				} else {
+					stage = Stage.QUIETS;
+					index = 0;
+				}
+				break;
+			case QUIETS:
+				if (index < quiets.size()) {
+					final int move = quiets.get(index++);
+					if (move != MoveEncoding.NONE && generator.isLegal(position, move))
+						return move;
+				} else {
+					stage = Stage.UNDER_PROMOTIONS;
+					index = 0;
+				}
+				break;
+			case UNDER_PROMOTIONS:
+				if (index < underPromotions.size()) {
+					final int move = underPromotions.get(index++);
+					if (generator.isLegal(position, move))
+						return move;
+				} else {
+					stage = Stage.DONE;
+				}
+				break;
+			default:
+				return MoveEncoding.NONE;
+			}
+		}
+	}
+
+	private void start(Position position, boolean capturesOnly) {
+		this.position = position;
+		this.capturesOnly = capturesOnly;
+		generator.generatePseudoLegalMoves(position, captures, Generator.CAPTURES);
+		quiets.clear();
+		underPromotions.clear();
+		final long[] bits = position.getBits();
+		for (int i = 0; i < captures.size(); i++) {
+			final int move = captures.get(i);
+			final int victim = MoveEncoding.isCapture(move) ? Position.pieceAt(bits, 1L << MoveEncoding.target(move))
+					: 0;
+			final int attacker = Position.pieceAt(bits, 1L << MoveEncoding.origin(move));
+			// en passant victims are always pawns
+			final int victimValue = victim == 0 && (MoveEncoding.flags(move) & MoveEncoding.EN_PASSANT) != 0
+					? Piece.WP.value()
+					: Piece.get(victim).value();
+			final int promotionValue = MoveEncoding.isPromotion(move) ? Piece.get(MoveEncoding.promotion(move)).value()
+					: 0;
+			scores[i] = (victimValue + promotionValue) * 32 - Piece.get(attacker).value() / 100;
+		}
+		stage = Stage.CAPTURES;
+		index = 0;
+	}
+
+	// selection sort step, cheaper than a full sort when there is an early cutoff
+	private int selectBestCapture() {
+		int best = index;
+		for (int i = index + 1; i < captures.size(); i++) {
+			if (scores[i] > scores[best])
+				best = i;
+		}
+		captures.swap(index, best);
+		final int aux = scores[index];
+		scores[index] = scores[best];
+		scores[best] = aux;
+		return captures.get(index++);
+	}
+
+	private int takeQuiet(int killer) {
+		if (killer == MoveEncoding.NONE)
+			return MoveEncoding.NONE;
+		for (int i = 0; i < quiets.size(); i++) {
+			final int move = quiets.get(i);
+			if (move != MoveEncoding.NONE && (move & MOVE_MASK) == (killer & MOVE_MASK)) {
+				quiets.set(i, MoveEncoding.NONE);
+				return move;
+			}
+		}
+		return MoveEncoding.NONE;
+	}
+
+	private static boolean isQueenPromotion(int move) {
+		final int promotion = MoveEncoding.promotion(move);
+		return promotion == Piece.WQ.ordinal() || promotion == Piece.BQ.ordinal();
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+//singleton bean
+/**
+ * Attackers to a square and static exchange evaluation, straight from the
+ * bitboards and the magic tables, without allocating anything.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class StaticExchange {
+	private static final Logger logger = LoggerFactory.getLogger(StaticExchange.class);
+	private static final long PROMOTION_RANKS = 0xFF000000000000FFL;
+
+	private final VisibleMagic magic;
+
+	StaticExchange(VisibleMagic magic) {
+		this.magic = magic;
+		logger.instantiation();
+	}
+
+	/**
+	 * Pieces of both colors that attack the given square, considering only the
+	 * pieces in the occupancy. Sliders see through the squares missing from the
+	 * occupancy.
+	 */
+	long attackersTo(long[] bits, int square, long occupancy) {
+		final long attackers = (Generator.PAWN_ATTACKS[0][square] & bits[0]) | (Generator.PAWN_ATTACKS[1][square] & bits[6])
+				| (Generator.KNIGHT_ATTACKS[square] & (bits[1] | bits[7]))
+				| (GeneratorUtil.KING_MOVES[square] & (bits[5] | bits[11]))
+				| (magic.visibleBishop(square, 0L, occupancy) & (bits[2] | bits[8] | bits[4] | bits[10]))
+				| (magic.visibleRook(square, 0L, occupancy) & (bits[3] | bits[9] | bits[4] | bits[10]));
+		return attackers & occupancy;
+	}
+
+	/**
+	 * Material balance of the exchange started by the given move on its target
+	 * square, from the point of view of the side that moves, with the values pawn
+	 * 100, knight 320, bishop 330, rook 500 and queen 900. Each side captures
+	 * with its least valuable attacker and may stop at any moment. Pins are not
+	 * taken into account and only the promotion of the first move is.
+	 * <p>
+	 * The swap list is folded into an alpha-beta window as it is built, so no
+	 * array is needed.
+	 * </p>
+	 */
+	int see(long[] bits, int from, int to, int promotionPiece) {
+		final long fromBit = 1L << from;
+		final long toBit = 1L << to;
+		final int mover = Position.pieceAt(bits, fromBit);
+		if (mover == 0)
+			throw new IllegalArgumentException(String.format("There is no piece on %s", Square.values()[from]));
+		final boolean moverWhite = mover <= Piece.WK.ordinal();
+		final int captured = Position.pieceAt(bits, toBit);
+		long occupancy = 0L;
+		long white = 0L;
+		for (int i = 0; i < 12; i++) {
+			occupancy |= bits[i];
+			if (i < 6)
+				white |= bits[i];
+		}
+
+		int balance = Piece.get(captured).value();
+		int onSquare = Piece.get(mover).value();
+		if (mover == Piece.WP.ordinal() || mover == Piece.BP.ordinal()) {
+			if (captured == 0 && ((from ^ to) & 7) != 0) {
+				// en passant, the captured pawn is behind the target square
+				balance = Piece.WP.value();
+				occupancy ^= 1L << (moverWhite ? to - 8 : to + 8);
+			}
+			if ((toBit & PROMOTION_RANKS) != 0L) {
+				final int promoted = promotionPiece > 0 ? Piece.get(promotionPiece).value() : Piece.WQ.value();
+				balance += promoted - Piece.WP.value();
+				onSquare = promoted;
+			}
+		}
+		occupancy = (occupancy ^ fromBit) | toBit;
+
+		final long diagonal = bits[2] | bits[8] | bits[4] | bits[10];
+		final long orthogonal = bits[3] | bits[9] | bits[4] | bits[10];
+		long attackers = attackersTo(bits, to, occupancy);
+		// the opponent may not recapture at all
+		int alpha = -Integer.MAX_VALUE;
+		int beta = balance;
+		boolean whiteCaptures = !moverWhite;
+		while (true) {
+			final long own = attackers & (whiteCaptures ? white : ~white);
+			if (own == 0L)
+				break;
+			int piece = whiteCaptures ? 0 : 6;
+			while ((own & bits[piece]) == 0L)
+				piece++;
+			final long pieceBit = Long.lowestOneBit(own & bits[piece]);
+			balance += whiteCaptures == moverWhite ? onSquare : -onSquare;
+			onSquare = Piece.get(piece + 1).value();
+			occupancy ^= pieceBit;
+			attackers = (attackers | (magic.visibleBishop(to, 0L, occupancy) & diagonal)
+					| (magic.visibleRook(to, 0L, occupancy) & orthogonal)) & occupancy;
+			if (whiteCaptures == moverWhite) {
+				// the opponent may stop here
+				beta = Math.min(beta, balance);
+				if (beta <= alpha)
+					return alpha;
+			} else {
+				// the mover may stop here
+				alpha = Math.max(alpha, balance);
+				if (alpha >= beta)
+					return beta;
+			}
+			whiteCaptures = !whiteCaptures;
+		}
+		return Math.max(alpha, Math.min(beta, balance));
+	}
+}
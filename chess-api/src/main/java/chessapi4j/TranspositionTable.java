@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+/**
+ * Fixed size transposition table backed by a flat {@code long} array, meant to
+ * be shared by many search threads without locks.
+ * <p>
+ * The table is split in buckets of two entries. The first entry of each bucket
+ * keeps the deepest result (or the most recent one when it belongs to an older
+ * search), the second one is always replaced. An entry takes two words, the
+ * key xored with the data and the data itself, and a probe only accepts it
+ * when xoring them back gives the key, so an entry half written by another
+ * thread is not returned.
+ * </p>
+ * <p>
+ * {@link #probe(long)} returns the entry data packed into a {@code long},
+ * which can be read with the static helpers {@link #move(long)},
+ * {@link #score(long)}, {@link #depth(long)} and {@link #bound(long)}.
+ * Layout: bits 0-19 move (see {@link MoveEncoding}), bits 20-27 depth, bits
+ * 28-29 bound, bits 30-35 search generation and bits 36-63 signed score.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class TranspositionTable extends SharedLongTable {
+	/**
+	 * Value returned by {@link #probe(long)} when there is no entry for the key.
+	 */
+	public static final long NO_ENTRY = 0L;
+	/**
+	 * The score is exact.
+	 */
+	public static final int EXACT = 1;
+	/**
+	 * The score is a lower bound, the search failed high.
+	 */
+	public static final int LOWER_BOUND = 2;
+	/**
+	 * The score is an upper bound, the search failed low.
+	 */
+	public static final int UPPER_BOUND = 3;
+	/**
+	 * Maximum storable depth.
+	 */
+	public static final int MAX_DEPTH = 255;
+
+	private static final int ENTRY_WORDS = 2;
+	private static final int BUCKET_WORDS = 2 * ENTRY_WORDS;
+	private static final int OCCUPANCY_SAMPLE = 1000;
+	private static final long MOVE_MASK = 0xFFFFFL;
+	private static final int DEPTH_SHIFT = 20;
+	private static final int BOUND_SHIFT = 28;
+	private static final int GENERATION_SHIFT = 30;
+	private static final int SCORE_SHIFT = 36;
+	private static final int GENERATION_MASK = 63;
+
+	private volatile int generation;
+
+	/**
+	 * Creates a table that uses at most the given amount of megabytes. The number
+	 * of buckets is rounded down to a power of two.
+	 *
+	 * @param megabytes the size of the table in megabytes
+	 * @throws IllegalArgumentException if the size is lower than 1 or greater
+	 *                                  than 8192
+	 */
+	public TranspositionTable(int megabytes) {
+		super(megabytes, 8192, BUCKET_WORDS, ENTRY_WORDS);
+	}
+
+	/**
+	 * Stores a search result.
+	 *
+	 * @param key   the zobrist key of the position
+	 * @param move  the best move found as a packed move, {@link MoveEncoding#NONE}
+	 *              if there is none
+	 * @param score the score, it must fit in 28 bits
+	 * @param depth the searched depth, clamped to 0..{@link #MAX_DEPTH}
+	 * @param bound one of {@link #EXACT}, {@link #LOWER_BOUND} and
+	 *              {@link #UPPER_BOUND}
+	 */
+	public void store(long key, int move, int score, int depth, int bound) {
+		final int base = index(key);
+		final int currentGeneration = generation;
+		final long data = (move & MOVE_MASK) | (long) Math.max(0, Math.min(depth, MAX_DEPTH)) << DEPTH_SHIFT
+				| (long) (bound & 3) << BOUND_SHIFT | (long) currentGeneration << GENERATION_SHIFT
+				| (long) score << SCORE_SHIFT;
+		final long deepData = table[base + 1];
+		final boolean deepSameKey = (table[base] ^ deepData) == key;
+		if (deepData == 0L || deepSameKey || depth >= depth(deepData)
+				|| generation(deepData) != currentGeneration) {
+			table[base] = key ^ data;
+			table[base + 1] = data;
+		} else {
+			table[base + 2] = key ^ data;
+			table[base + 3] = data;
+		}
+	}
+
+	/**
+	 * Looks up the given key.
+	 *
+	 * @param key the zobrist key of the position
+	 * @return the packed entry data or {@link #NO_ENTRY} if the key is not in
+	 *         the table
+	 */
+	public long probe(long key) {
+		countProbe();
+		final int base = index(key);
+		for (int i = base; i < base + BUCKET_WORDS; i += 2) {
+			final long data = table[i + 1];
+			if (data != 0L && (table[i] ^ data) == key) {
+				countHit();
+				return data;
+			}
+		}
+		return NO_ENTRY;
+	}
+
+	/**
+	 * Marks the beginning of a new search. Entries from previous searches are
+	 * still found but can be replaced regardless of their depth.
+	 */
+	public void newSearch() {
+		generation = (generation + 1) & GENERATION_MASK;
+	}
+
+	/**
+	 * Returns the fraction of used entries. It is estimated from the first
+	 * buckets of the table, in the same way the UCI {@code hashfull} value is.
+	 *
+	 * @return the occupancy between 0 and 1
+	 */
+	public double occupancy() {
+		final int words = Math.min(table.length, OCCUPANCY_SAMPLE * BUCKET_WORDS);
+		int used = 0;
+		for (int i = 1; i < words; i += 2) {
+			if (table[i] != 0L)
+				used++;
+		}
+		return (double) used / (double) (words >>> 1);
+	}
+
+	/**
+	 * Returns the packed move of an entry.
+	 *
+	 * @param entry the packed entry data
+	 * @return the packed move
+	 */
+	public static int move(long entry) {
+		return (int) (entry & MOVE_MASK);
+	}
+
+	/**
+	 * Returns the score of an entry.
+	 *
+	 * @param entry the packed entry data
+	 * @return the score
+	 */
+	public static int score(long entry) {
+		return (int) (entry >> SCORE_SHIFT);
+	}
+
+	/**
+	 * Returns the depth of an entry.
+	 *
+	 * @param entry the packed entry data
+	 * @return the depth
+	 */
+	public static int depth(long entry) {
+		return (int) ((entry >>> DEPTH_SHIFT) & MAX_DEPTH);
+	}
+
+	/**
+	 * Returns the bound of an entry.
+	 *
+	 * @param entry the packed entry data
+	 * @return one of {@link #EXACT}, {@link #LOWER_BOUND} and
+	 *         {@link #UPPER_BOUND}
+	 */
+	public static int bound(long entry) {
+		return (int) ((entry >>> BOUND_SHIFT) & 3L);
+	}
+
+	private static int generation(long entry) {
+		return (int) ((entry >>> GENERATION_SHIFT) & GENERATION_MASK);
+	}
+
+	private int index(long key) {
+		return ((int) (key ^ (key >>> 32)) & slotMask) * BUCKET_WORDS;
+	}
+}
@@ -439,7 +439,7 @@ public class Util {
 	 * @return true if the position is in check false otherwise
 	 */
 	public static boolean isInCheck(Position position) {
-		return GeneratorFactory.container.generatorUtil.isInCheck(position) == 1;
+		return position.attackMap().inCheck();
 	}
 
 	/**
@@ -457,6 +457,64 @@ public class Util {
 		return sum;
 	}
 
+	/**
+	 * Retrieves the pieces of both colors that attack the given square, as a
+	 * bitboard. Only the pieces in the given occupancy are considered and sliders
+	 * see through the squares missing from it, which allows to look for x-ray
+	 * attackers by removing pieces from the occupancy. Pins are not taken into
+	 * account.
+	 *
+	 * @param position  the position to look at
+	 * @param square    the attacked square
+	 * @param occupancy the occupied squares to consider
+	 * @return the attackers bitboard as a long
+	 *
+	 * @since 1.2.11
+	 */
+	public static long attackersTo(Position position, Square square, long occupancy) {
+		return GeneratorFactory.container.staticExchange.attackersTo(position.getBits(), square.ordinal(), occupancy);
+	}
+
+	/**
+	 * Retrieves the pieces of both colors that attack the given square in the
+	 * given position, as a bitboard. Pins are not taken into account.
+	 *
+	 * @param position the position to look at
+	 * @param square   the attacked square
+	 * @return the attackers bitboard as a long
+	 *
+	 * @since 1.2.11
+	 */
+	public static long attackersTo(Position position, Square square) {
+		long occupancy = 0L;
+		for (long bitRep : position.getBits())
+			occupancy |= bitRep;
+		return attackersTo(position, square, occupancy);
+	}
+
+	/**
+	 * Static exchange evaluation of the given move: the material balance of the
+	 * sequence of captures it starts on its target square, from the point of view
+	 * of the side that makes it. Both sides capture with their least valuable
+	 * attacker and may stop at any moment. Values are pawn 100, knight 320,
+	 * bishop 330, rook 500 and queen 900. Pins are not taken into account.
+	 * <p>
+	 * A negative value means the move loses material, a quiet move to a safe
+	 * square gives zero.
+	 * </p>
+	 *
+	 * @param position the position where the move is made
+	 * @param move     the move
+	 * @return the material balance of the exchange
+	 * @throws IllegalArgumentException if there is no piece on the origin square
+	 *
+	 * @since 1.2.11
+	 */
+	public static int see(Position position, Move move) {
+		return GeneratorFactory.container.staticExchange.see(position.getBits(), move.getOrigin(), move.getTarget(),
+				move.getPromotionPiece());
+	}
+
 	static Stream<IndexedValue<Long>> arraytoLongStream(long[] array) {
 		return IntStream.range(0, array.length).mapToObj(i -> new IndexedValue<>(i, array[i]));
 	}
@@ -15,8 +15,6 @@
  */
 package chessapi4j;
 
-import java.util.Random;
-
 //singleton bean
 /**
  * @author lunalobos
@@ -24,41 +22,11 @@ import java.util.Random;
  */
 class VisibleMagic {
     private static final Logger logger = LoggerFactory.getLogger(VisibleMagic.class);
-    private final VisibleMetricsUtil visibleMetricsUtils;
-    private MagicNumbers bishopMagicNumbers;
-    private MagicNumbers rookMagicNumbers;
-    private final Random random;
+    private final MagicNumbers bishopMagicNumbers = MagicNumbers.BISHOP;
+    private final MagicNumbers rookMagicNumbers = MagicNumbers.ROOK;
 
-    public VisibleMagic(VisibleMetricsUtil visibleMetricsUtils, Random random) {
-        this.visibleMetricsUtils = visibleMetricsUtils;
-        this.random = random;
-        magic();
+    public VisibleMagic() {
         logger.instantiation();
-        
-    }
-
-    private void magic() {
-        var rookBits = 20;
-        var rookSize = new Size(rookBits);
-
-        var bishopBits = 18;
-        var bishopSize = new Size(bishopBits);
-
-        var combinator = new Combinator();
-
-        var rookHasher = new MagicHasher(rookSize.getBits(), Util.QUEEN_MEGAMATRIX, Util.ROOK_DIRECTIONS);
-        var bishopHasher = new MagicHasher(bishopSize.getBits(), Util.QUEEN_MEGAMATRIX, Util.BISHOP_DIRECTIONS);
-
-        rookMagicNumbers = new MagicNumbers(combinator, visibleMetricsUtils, rookHasher, rookSize.getCapacity(),
-                Util.ROOK_DIRECTIONS, random);
-
-        bishopMagicNumbers = new MagicNumbers(combinator, visibleMetricsUtils, bishopHasher, bishopSize.getCapacity(),
-                Util.BISHOP_DIRECTIONS, random);
-
-        bishopMagicNumbers.calculate();
-        logger.debug("Bishop magic numbers calculated");
-        rookMagicNumbers.calculate();
-        logger.debug("Rook magic numbers calculated");
     }
 
     public long visibleBishop(int square, long friends, long enemies) {
@@ -26,25 +26,11 @@ final class VisibleMetrics {
 
 	private final VisibleMetricsUtil visibleMetricsUtil;
 	private final VisibleMagic magic;
-	private final MatrixUtil matrixUtil;
 	private final BinaryOperator<Integer> orOperator = (a, b) -> a | b;
 
-	private final long[] kingBitboards;
-
-	public VisibleMetrics(VisibleMetricsUtil visibleMetricsUtil, VisibleMagic magic, MatrixUtil matrixUtil) {
+	public VisibleMetrics(VisibleMetricsUtil visibleMetricsUtil, VisibleMagic magic) {
 		this.visibleMetricsUtil = visibleMetricsUtil;
 		this.magic = magic;
-		this.matrixUtil = matrixUtil;
-		kingBitboards = new long[64];
-		for (var sq = 0; sq < 64; sq++) {
-			final int[] kingSquares = matrixUtil.kingMatrix[sq];
-			long bitboard = 0L;
-			for (int move : kingSquares) {
-				bitboard = bitboard | (1L << move);
-			}
-			kingBitboards[sq] = bitboard;
-		}
-
 		logger.instantiation();
 	}
 
@@ -121,32 +107,19 @@ final class VisibleMetrics {
 
 	// since 1.2.9
 	long visibleSquaresPawn(int square, long friends, int pieceType) {
-		int[][] matrix;
 		switch (pieceType) {
 			case 1:
-				matrix = matrixUtil.whitePawnMatrix2;
-				break;
+				return Generator.PAWN_ATTACKS[1][square] & ~friends;
 			case 7:
-				matrix = matrixUtil.blackPawnMatrix2;
-				break;
+				return Generator.PAWN_ATTACKS[0][square] & ~friends;
 			default:
 				throw new IllegalArgumentException("pieceType must be 1 or 7");
 		}
-		long visible = 0L;
-		for (int sq : matrix[square]) {
-			visible = visible | (1L << sq);
-		}
-		return visible & ~friends;
 	}
 
 	// since 1.2.9
 	long visibleSquaresKnight(int square, long friends) {
-		final int[] knightDirections = matrixUtil.knightMatrix[square];
-		long visible = 0L;
-		for (int sq : knightDirections) {
-			visible = visible | (1L << sq);
-		}
-		return visible & ~friends;
+		return Generator.KNIGHT_ATTACKS[square] & ~friends;
 	}
 
 	long visibleSquaresBishop(int square, long friends, long enemies) {
@@ -165,7 +138,7 @@ final class VisibleMetrics {
 
 	// since 1.2.9
 	long visibleSquaresKing(int square, long friends) {
-		return kingBitboards[square] & ~friends;
+		return GeneratorUtil.KING_MOVES[square] & ~friends;
 	}
 
 	long visibleSquaresForPiece(int square, int piece, long friends, long enemies) {
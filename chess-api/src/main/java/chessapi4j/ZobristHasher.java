@@ -47,11 +47,66 @@ class ZobristHasher {
         logger.instantiation();
     }
 
+    long pieceKey(int pieceIndex, int square) {
+        return zobristTable[pieceIndex][square];
+    }
+
+    long castleKey(int index) {
+        return zobristCastle[index];
+    }
+
+    long enPassantKey(int square) {
+        return zobristEnPassant[square];
+    }
+
+    long turnKey() {
+        return zobristTurn;
+    }
+
+    /**
+     * Computes the hash of a child position from the hash of its parent, xoring
+     * only the piece squares, castle rights and en passant square that changed
+     * between them, plus the turn.
+     */
+    long updateZobristHash(long parentHash, Position parent, Position child) {
+        var zobristHash = parentHash ^ zobristTurn;
+        final long[] parentBits = parent.getBits();
+        final long[] childBits = child.getBits();
+        for (int piece = 0; piece < 12; piece++) {
+            long changes = parentBits[piece] ^ childBits[piece];
+            while (changes != 0) {
+                zobristHash ^= zobristTable[piece][Long.numberOfTrailingZeros(changes)];
+                changes &= changes - 1;
+            }
+        }
+        zobristHash ^= -(parent.wk() ^ child.wk()) & zobristCastle[0];
+        zobristHash ^= -(parent.wq() ^ child.wq()) & zobristCastle[1];
+        zobristHash ^= -(parent.bk() ^ child.bk()) & zobristCastle[2];
+        zobristHash ^= -(parent.bq() ^ child.bq()) & zobristCastle[3];
+        if (parent.getEnPassant() != -1)
+            zobristHash ^= zobristEnPassant[parent.getEnPassant()];
+        if (child.getEnPassant() != -1)
+            zobristHash ^= zobristEnPassant[child.getEnPassant()];
+        return zobristHash;
+    }
+
+    /**
+     * Computes the pawn-only hash of the given bitboards, the xor of the piece
+     * keys of white and black pawns.
+     */
+    long computePawnHash(long[] bits) {
+        var pawnHash = 0L;
+        for (long b = bits[0]; b != 0; b &= b - 1)
+            pawnHash ^= zobristTable[0][Long.numberOfTrailingZeros(b)];
+        for (long b = bits[6]; b != 0; b &= b - 1)
+            pawnHash ^= zobristTable[6][Long.numberOfTrailingZeros(b)];
+        return pawnHash;
+    }
+
     
     public long computeZobristHash(Position position) {
         var zobristHash = 0L;
-        var bits = new long[12];
-        System.arraycopy(position.getBits(), 0, bits, 0, 12);
+        final long[] bits = position.getBits();
         for (int piece = 0; piece < 12; piece++) {
             long bitboard = bits[piece];
             while (bitboard != 0) {
@@ -78,10 +133,8 @@ class ZobristHasher {
     public long computeZobristHash(long[] bitBoards, boolean whiteMove, boolean shortCastleWhite, boolean longCastleWhite,
             boolean shortCastleBlack, boolean longCastleBlack, int enPassant) {
         var zobristHash = 0L;
-        var bits = new long[12];
-        System.arraycopy(bitBoards, 0, bits, 0, 12);
         for (int piece = 0; piece < 12; piece++) {
-            long bitboard = bits[piece];
+            long bitboard = bitBoards[piece];
             while (bitboard != 0) {
                 int square = Long.numberOfTrailingZeros(bitboard);
                 zobristHash ^= zobristTable[piece][square];
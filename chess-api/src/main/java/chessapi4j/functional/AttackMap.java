@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import chessapi4j.Side;
+import chessapi4j.Square;
+
+/**
+ * Attack information of a position computed in a single pass: the squares
+ * attacked by each side, the pieces that give check to the side to move and
+ * the pieces of the side to move that are pinned against their own king,
+ * together with the rays they are pinned along.
+ * <p>
+ * Instances are immutable. {@link Position#attackMap()} computes it the first
+ * time it is requested and keeps it, so the check, checkmate and stalemate
+ * status of the position are all read from the same map.
+ * </p>
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class AttackMap {
+    private static final long FILE_A = 0x0101010101010101L;
+    private static final long FILE_H = FILE_A << 7;
+    // squares strictly between two squares on the same line, indexed by from << 6 | to
+    private static final long[] BETWEEN = new long[64 * 64];
+
+    static {
+        final int[] fileSteps = { 1, -1, 0, 0, 1, 1, -1, -1 };
+        final int[] rankSteps = { 0, 0, 1, -1, 1, -1, 1, -1 };
+        for (int from = 0; from < 64; from++) {
+            for (int d = 0; d < 8; d++) {
+                long ray = 0L;
+                int file = (from & 7) + fileSteps[d];
+                int rank = (from >> 3) + rankSteps[d];
+                while (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+                    final int to = rank << 3 | file;
+                    BETWEEN[from << 6 | to] = ray;
+                    ray |= 1L << to;
+                    file += fileSteps[d];
+                    rank += rankSteps[d];
+                }
+            }
+        }
+    }
+
+    private final int kingSquare;
+    private final long whiteAttacks;
+    private final long blackAttacks;
+    private final long checkers;
+    private final long pinned;
+    private final long pinRays;
+    private final long evasionMask;
+    private final long kingDanger;
+
+    AttackMap(long[] bitboards, long wm, VisibleMetrics visibleMetrics, MatrixUtil matrixUtil) {
+        long white = 0L;
+        long black = 0L;
+        for (int i = 0; i < 6; i++) {
+            white |= bitboards[i];
+            black |= bitboards[i + 6];
+        }
+        final long occupied = white | black;
+        final long whitePawns = bitboards[0];
+        final long blackPawns = bitboards[6];
+        whiteAttacks = ((whitePawns << 7) & ~FILE_H) | ((whitePawns << 9) & ~FILE_A)
+                | pieceAttacks(bitboards, 1, occupied, visibleMetrics, matrixUtil);
+        blackAttacks = ((blackPawns >>> 9) & ~FILE_H) | ((blackPawns >>> 7) & ~FILE_A)
+                | pieceAttacks(bitboards, 7, occupied, visibleMetrics, matrixUtil);
+
+        final boolean whiteMove = wm == 1L;
+        final int enemy = whiteMove ? 6 : 0;
+        final long friends = whiteMove ? white : black;
+        final long enemies = whiteMove ? black : white;
+        final long diagonal = bitboards[enemy + 2] | bitboards[enemy + 4];
+        final long orthogonal = bitboards[enemy + 3] | bitboards[enemy + 4];
+        kingSquare = Long.numberOfTrailingZeros(bitboards[whiteMove ? 5 : 11]);
+
+        long checks = ((whiteMove ? matrixUtil.whitePawnCaptureMoves : matrixUtil.blackPawnCaptureMoves)[kingSquare]
+                & bitboards[enemy])
+                | (matrixUtil.knightMoves[kingSquare] & bitboards[enemy + 1])
+                | (matrixUtil.kingMoves[kingSquare] & bitboards[enemy + 5]);
+        long pins = 0L;
+        long rays = 0L;
+        long danger = whiteMove ? blackAttacks : whiteAttacks;
+        // enemy sliders seen from the king when only the enemy pieces block, the
+        // friendly pieces in between tell a check from a pin
+        long snipers = (visibleMetrics.visibleSquaresBishop(kingSquare, 0L, enemies) & diagonal)
+                | (visibleMetrics.visibleSquaresRook(kingSquare, 0L, enemies) & orthogonal);
+        while (snipers != 0L) {
+            final int sniper = Long.numberOfTrailingZeros(snipers);
+            final long ray = BETWEEN[kingSquare << 6 | sniper] | 1L << sniper;
+            final long blockers = ray & friends;
+            if (blockers == 0L) {
+                checks |= 1L << sniper;
+                // the king can not step back along the checking ray
+                final long withoutKing = occupied & ~(1L << kingSquare);
+                if ((diagonal & 1L << sniper) != 0L)
+                    danger |= visibleMetrics.visibleSquaresBishop(sniper, 0L, withoutKing);
+                if ((orthogonal & 1L << sniper) != 0L)
+                    danger |= visibleMetrics.visibleSquaresRook(sniper, 0L, withoutKing);
+            } else if ((blockers & (blockers - 1)) == 0L) {
+                pins |= blockers;
+                rays |= ray;
+            }
+            snipers &= snipers - 1;
+        }
+        checkers = checks;
+        pinned = pins;
+        pinRays = rays;
+        kingDanger = danger;
+        if (checks == 0L)
+            evasionMask = -1L;
+        else if ((checks & (checks - 1)) == 0L)
+            evasionMask = BETWEEN[kingSquare << 6 | Long.numberOfTrailingZeros(checks)] | checks;
+        else
+            evasionMask = 0L;
+    }
+
+    // squares attacked by the knights, bishops, rooks, queens and king starting at the given bitboards index
+    private static long pieceAttacks(long[] bitboards, int knight, long occupied, VisibleMetrics visibleMetrics,
+            MatrixUtil matrixUtil) {
+        long attacks = 0L;
+        for (long j = bitboards[knight + 4]; j != 0L; j &= j - 1)
+            attacks |= matrixUtil.kingMoves[Long.numberOfTrailingZeros(j)];
+        for (long j = bitboards[knight]; j != 0L; j &= j - 1)
+            attacks |= matrixUtil.knightMoves[Long.numberOfTrailingZeros(j)];
+        for (long j = bitboards[knight + 1] | bitboards[knight + 3]; j != 0L; j &= j - 1)
+            attacks |= visibleMetrics.visibleSquaresBishop(Long.numberOfTrailingZeros(j), 0L, occupied);
+        for (long j = bitboards[knight + 2] | bitboards[knight + 3]; j != 0L; j &= j - 1)
+            attacks |= visibleMetrics.visibleSquaresRook(Long.numberOfTrailingZeros(j), 0L, occupied);
+        return attacks;
+    }
+
+    /**
+     * Returns the squares attacked by the given side, including the squares of
+     * the pieces of that side that are defended.
+     *
+     * @param side the attacking side
+     * @return the attacked squares as a bitboard
+     */
+    public long attacks(Side side) {
+        return side == Side.WHITE ? whiteAttacks : blackAttacks;
+    }
+
+    /**
+     * Returns whether the given square is attacked by the given side.
+     *
+     * @param square the square
+     * @param side   the attacking side
+     * @return true if some piece of the side attacks the square, false otherwise
+     */
+    public boolean isAttacked(Square square, Side side) {
+        return (attacks(side) & 1L << square.ordinal()) != 0L;
+    }
+
+    /**
+     * Returns the pieces giving check to the king of the side to move.
+     *
+     * @return the checkers as a bitboard
+     */
+    public long checkers() {
+        return checkers;
+    }
+
+    /**
+     * Returns whether the side to move is in check.
+     *
+     * @return true if the king of the side to move is attacked, false otherwise
+     */
+    public boolean inCheck() {
+        return checkers != 0L;
+    }
+
+    /**
+     * Returns the pieces of the side to move that are pinned against their own
+     * king.
+     *
+     * @return the pinned pieces as a bitboard
+     */
+    public long pinned() {
+        return pinned;
+    }
+
+    /**
+     * Returns the rays along which the pieces of the side to move are pinned.
+     * Each ray goes from the square next to the king up to the pinning piece,
+     * both included, so it contains the pinned piece as well.
+     *
+     * @return the pin rays as a bitboard
+     */
+    public long pinRays() {
+        return pinRays;
+    }
+
+    int kingSquare() {
+        return kingSquare;
+    }
+
+    // squares where a piece other than the king has to move: everything when
+    // there is no check, the checker or the squares in between for a single
+    // check and nothing for a double check
+    long evasionMask() {
+        return evasionMask;
+    }
+
+    // squares the king can not step on, the checking sliders see through it
+    long kingDanger() {
+        return kingDanger;
+    }
+}
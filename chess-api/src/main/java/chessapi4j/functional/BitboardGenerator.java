@@ -22,18 +22,9 @@ import chessapi4j.Piece;
  * @since 1.2.9
  */
 final class BitboardGenerator {
-     final static class CheckInfo {
-        long inCheck;
-        long inCheckMask;
-        int checkCount;
-        public CheckInfo(long inCheck, long inCheckMask, int checkCount) {
-            super();
-            this.inCheck = inCheck;
-            this.inCheckMask = inCheckMask;
-            this.checkCount = checkCount;
-        }
-    }
     private final static Logger logger = Factory.getLogger(BitboardGenerator.class);
+    private static final long RANK_3 = 0xFF0000L;
+    private static final long RANK_6 = 0xFF0000000000L;
     private final PawnGenerator pawnGenerator;
     private final KnightGenerator knightGenerator;
     private final BishopGenerator bishopGenerator;
@@ -61,121 +52,6 @@ final class BitboardGenerator {
         logger.instantiation();
     }
 
-    CheckInfo isInCheckWithMask(int kingPiece, long[] bits, long whiteMoveNumeric, int[] pawnsDirections) {
-        long inCheckMask = 0L;
-        int checkCount = 0;
-        final int kingSquare = Long.numberOfTrailingZeros(bits[kingPiece - 1]);
-        long isInCheck = 0L;
-        final int aux = (int) (6L & (whiteMoveNumeric << 1 | whiteMoveNumeric << 2));
-        final int[] enemies = { Piece.WP.ordinal() + aux, Piece.WN.ordinal() + aux, Piece.WB.ordinal() + aux,
-                Piece.WR.ordinal() + aux, Piece.WQ.ordinal() + aux, Piece.WK.ordinal() + aux };
-        // pawns directions
-
-        for (int pawnDirection : pawnsDirections) {
-
-            final long enemyPawnDangerLocation = 1L << pawnDirection;
-            final long operation = ((bits[enemies[0] - 1] & enemyPawnDangerLocation) >>> pawnDirection);
-            isInCheck = isInCheck | operation;
-
-            inCheckMask = inCheckMask | new long[] { 0L, enemyPawnDangerLocation }[(int) operation];
-            checkCount += (int) operation;
-        }
-        // kings directions (only used in test cases)
-
-        long kingDirectionsBits = 0L;
-
-        for (int square : matrixUtil.kingMatrix[kingSquare]) {
-            kingDirectionsBits = kingDirectionsBits | (1L << square);
-        }
-        final long operation = kingDirectionsBits & bits[enemies[5] - 1];
-        final long operation3 = (operation >>> Long.numberOfTrailingZeros(operation));
-        isInCheck = isInCheck | operation3;
-        checkCount += (int) operation3;
-        // knight directions
-
-        long knightDirectionsBits;
-        for (int square : matrixUtil.knightMatrix[kingSquare]) {
-            knightDirectionsBits = 1L << square;
-
-            final long operation2 = ((knightDirectionsBits & bits[enemies[1] - 1]) >>> square);
-            isInCheck = isInCheck | operation2;
-            inCheckMask = inCheckMask | new long[] { 0L, knightDirectionsBits }[(int) operation2];
-            checkCount += (int) operation2;
-        }
-        // bishops directions
-        final long enemyBishopsAndQueens = bits[enemies[2] - 1] | bits[enemies[4] - 1];
-
-        for (int i = 0; i < 4; i++) {
-            final long visible = visibleMetrics.visibleSquares(bits, new int[] { i },
-                    kingSquare, whiteMoveNumeric);
-
-            final long isPresent = internalUtil.hasBitsPresent(enemyBishopsAndQueens & visible);
-            isInCheck = isInCheck | isPresent;
-            inCheckMask = inCheckMask | new long[] { 0L, visible }[(int) isPresent];
-            checkCount += (int) isPresent;
-        }
-
-        // rooks directions
-        final long enemyRooksAndQueens = bits[enemies[3] - 1] | bits[enemies[4] - 1];
-        for (int i = 4; i < 8; i++) {
-            final long visible = visibleMetrics.visibleSquares(bits, new int[] { i }, kingSquare, whiteMoveNumeric);
-
-            final long isPresent = internalUtil.hasBitsPresent(enemyRooksAndQueens & visible);
-            isInCheck = isInCheck | isPresent;
-            inCheckMask = inCheckMask | new long[] { 0L, visible }[(int) isPresent];
-            checkCount += (int) isPresent;
-        }
-        return new CheckInfo(isInCheck, inCheckMask, checkCount);
-    }
-
-    long createCheckMask(int kingSquare, long enemies, long friends, long wm, long nextWhiteMove,
-                         long[] bitboards) {
-        final long empty = ~(enemies | friends);
-        final int[] enemyRookChoice = new int[] { Piece.WR.ordinal(), Piece.BR.ordinal() };
-        final int[] enemyQueenChoice = new int[] { Piece.WQ.ordinal(), Piece.BQ.ordinal() };
-        final int[] enemyBishopChoice = new int[] { Piece.WB.ordinal(), Piece.BB.ordinal() };
-        final int enemyRook = enemyRookChoice[(int) wm];
-        final int enemyQueen = enemyQueenChoice[(int) wm];
-        final int enemyBishop = enemyBishopChoice[(int) wm];
-        long checkMask = 0L;
-        for (int j = 0; j < 4; j++) {
-            final long visibleEmptyOrFriendsRD = visibleMetrics.visibleSquares(bitboards,
-                    new int[] { matrixUtil.rookDirections[j] },
-                    kingSquare, nextWhiteMove);
-            final long friendsRD = visibleEmptyOrFriendsRD & ~empty;
-            final long[] testBitsRD = new long[12];
-            System.arraycopy(bitboards, 0, testBitsRD, 0, 12);
-            for (int i = 0; i < 12; i++) {
-                testBitsRD[i] = testBitsRD[i] & ~friendsRD;
-            }
-            final long visibleEmptyOrEnemyRD = visibleMetrics.visibleSquares(testBitsRD,
-                    new int[] { matrixUtil.rookDirections[j] }, kingSquare, wm);
-            final long enemiesThreadsRD = visibleEmptyOrEnemyRD
-                    & (bitboards[enemyRook - 1] | bitboards[enemyQueen - 1]);
-            final long[] choice = new long[] { 0L, friendsRD | visibleEmptyOrEnemyRD };
-            checkMask = checkMask | choice[(int) internalUtil.hasBitsPresent(enemiesThreadsRD)];
-        }
-        for (int j = 0; j < 4; j++) {
-            final long visibleEmptyOrFriendsBD = visibleMetrics.visibleSquares(bitboards,
-                    new int[] { matrixUtil.bishopDirections[j] },
-                    kingSquare, nextWhiteMove);
-            final long friendsBD = visibleEmptyOrFriendsBD & ~empty;
-            final long[] testBitsBD = new long[12];
-            System.arraycopy(bitboards, 0, testBitsBD, 0, 12);
-            for (int i = 0; i < 12; i++) {
-                testBitsBD[i] = testBitsBD[i] & ~friendsBD;
-            }
-            final long visibleEmptyOrEnemyBD = visibleMetrics.visibleSquares(testBitsBD,
-                    new int[] { matrixUtil.bishopDirections[j] },
-                    kingSquare, wm);
-            final long enemiesThreadsBD = visibleEmptyOrEnemyBD
-                    & (bitboards[enemyBishop - 1] | bitboards[enemyQueen - 1]);
-            final long[] choice = new long[] { 0L, friendsBD | visibleEmptyOrEnemyBD };
-            checkMask = checkMask | choice[(int) internalUtil.hasBitsPresent(enemiesThreadsBD)];
-        }
-        return checkMask;
-    }
-
     MovesInfo fillChildrenList(long[] bitboards, long friends, long enemies, long wm, long wk, long wq, long bk,
                                long bq, int enPassant, long checkMask, long inCheckMask, long nextWhiteMove,
                                long inCheck, int pawnPiece, int kingSquare, int knightPiece, int bishopPiece,
@@ -215,7 +91,64 @@ final class BitboardGenerator {
         return moveInfo;
     }
 
-    public MovesInfo generateMoveInfo(long[] bitboards, long wm, long wk, long wq, long bk, long bq, int enPassant) {
+    /**
+     * Tells whether the position given by its raw fields has at least one legal
+     * move, stopping at the first one found. Only target masks are looked at, no
+     * {@link MovesInfo} is built unless an en passant capture has to be checked.
+     */
+    boolean hasAnyLegalMove(long[] bitboards, long wm, int enPassant, AttackMap attackMap) {
+        final int own = wm == 1L ? 0 : 6;
+        final long friends = bitboards[own] | bitboards[own + 1] | bitboards[own + 2] | bitboards[own + 3]
+                | bitboards[own + 4] | bitboards[own + 5];
+        final long enemies = bitboards[6 - own] | bitboards[7 - own] | bitboards[8 - own] | bitboards[9 - own]
+                | bitboards[10 - own] | bitboards[11 - own];
+        final int kingSquare = attackMap.kingSquare();
+        if ((matrixUtil.kingMoves[kingSquare] & ~friends & ~attackMap.kingDanger()) != 0L)
+            return true;
+        final long checkers = attackMap.checkers();
+        if ((checkers & (checkers - 1)) != 0L)
+            return false;
+        final long evasions = attackMap.evasionMask();
+        final long pinned = attackMap.pinned();
+        for (long j = bitboards[own + 1] & ~pinned; j != 0L; j &= j - 1) {
+            if ((matrixUtil.knightMoves[Long.numberOfTrailingZeros(j)] & ~friends & evasions) != 0L)
+                return true;
+        }
+        for (long j = bitboards[own + 2] | bitboards[own + 4]; j != 0L; j &= j - 1) {
+            final int square = Long.numberOfTrailingZeros(j);
+            if (legal(visibleMetrics.visibleSquaresBishop(square, friends, enemies), square, kingSquare, pinned,
+                    evasions))
+                return true;
+        }
+        for (long j = bitboards[own + 3] | bitboards[own + 4]; j != 0L; j &= j - 1) {
+            final int square = Long.numberOfTrailingZeros(j);
+            if (legal(visibleMetrics.visibleSquaresRook(square, friends, enemies), square, kingSquare, pinned,
+                    evasions))
+                return true;
+        }
+        final long empty = ~(friends | enemies);
+        final long[] captures = wm == 1L ? matrixUtil.whitePawnCaptureMoves : matrixUtil.blackPawnCaptureMoves;
+        for (long j = bitboards[own]; j != 0L; j &= j - 1) {
+            final int square = Long.numberOfTrailingZeros(j);
+            final long push = (wm == 1L ? 1L << square << 8 : 1L << square >>> 8) & empty;
+            final long doublePush = (wm == 1L ? (push & RANK_3) << 8 : (push & RANK_6) >>> 8) & empty;
+            if (legal(push | doublePush | (captures[square] & enemies), square, kingSquare, pinned, evasions))
+                return true;
+        }
+        // castles always come with a king step, only en passant is left
+        return enPassant != -1 && generateMoveInfo(bitboards, wm, 0L, 0L, 0L, 0L, enPassant, attackMap).getMoves() != 0L;
+    }
+
+    // pinned pieces keep to the line they share with the king
+    private boolean legal(long targets, int square, int kingSquare, long pinned, long evasions) {
+        targets &= evasions;
+        if ((pinned & 1L << square) != 0L)
+            targets &= internalUtil.defenseDirection(kingSquare, square);
+        return targets != 0L;
+    }
+
+    public MovesInfo generateMoveInfo(long[] bitboards, long wm, long wk, long wq, long bk, long bq, int enPassant,
+                                      AttackMap attackMap) {
         final int aux = (int) (6L & (wm << 1 | wm << 2));
         final long friends = bitboards[Piece.BP.ordinal() - aux - 1] | bitboards[Piece.BN.ordinal() - aux - 1]
                 | bitboards[Piece.BB.ordinal() - aux - 1] | bitboards[Piece.BR.ordinal() - aux - 1]
@@ -227,16 +160,14 @@ final class BitboardGenerator {
         final int whiteMove = (int) wm;
         final int kingPiece = matrixUtil.kings[whiteMove];
         final int kingSquare = Long.numberOfTrailingZeros(bitboards[kingPiece - 1]);
-        final int[] pawnsDirections = new int[][] { matrixUtil.blackPawnMatrix2[kingSquare],
-                matrixUtil.whitePawnMatrix2[kingSquare] }[(int) wm];
-        final CheckInfo info = isInCheckWithMask(kingPiece, bitboards, wm, pawnsDirections);
-        long inCheckMask = info.inCheckMask;
-        final long checkMask = createCheckMask(kingSquare, enemies, friends, wm, nextWhiteMove, bitboards);
-        final long[] choice = new long[] { -1L, inCheckMask, 0L, 0L, 0L, 0L };
-        inCheckMask = choice[info.checkCount];
+        final int[] pawnsDirections = wm == 1L ? matrixUtil.whitePawnMatrix2[kingSquare]
+                : matrixUtil.blackPawnMatrix2[kingSquare];
+        // pins and checkers come from x-ray lookups on the magic tables
+        final long checkMask = attackMap.pinRays();
+        final long inCheckMask = attackMap.evasionMask();
         return fillChildrenList(bitboards, friends, enemies, wm, wk, wq, bk, bq, enPassant, checkMask, inCheckMask,
-                nextWhiteMove, info.inCheck, matrixUtil.pawns[whiteMove], kingSquare, matrixUtil.knights[whiteMove],
-                matrixUtil.bishops[whiteMove], matrixUtil.rooks[whiteMove], matrixUtil.queens[whiteMove], kingPiece,
-                pawnsDirections, matrixUtil.pawnMatrix1[whiteMove], matrixUtil.pawnMatrix2[whiteMove]);
+                nextWhiteMove, attackMap.inCheck() ? 1L : 0L, matrixUtil.pawns[whiteMove], kingSquare,
+                matrixUtil.knights[whiteMove], matrixUtil.bishops[whiteMove], matrixUtil.rooks[whiteMove],
+                matrixUtil.queens[whiteMove], kingPiece, pawnsDirections, matrixUtil.pawnMatrix1[whiteMove], matrixUtil.pawnMatrix2[whiteMove]);
     }
 }
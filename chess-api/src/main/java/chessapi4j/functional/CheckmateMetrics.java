@@ -15,33 +15,18 @@
  */
 package chessapi4j.functional;
 
-import chessapi4j.Piece;
-
 /**
  * @author lunalobos
  * @since 1.2.9
  */
 final class CheckmateMetrics {
     private static final Logger logger = Factory.getLogger(CheckmateMetrics.class);
-    private final VisibleMetrics visibleMetrics;
-    private final InternalUtil internalUtil;
 
-    public CheckmateMetrics(VisibleMetrics visibleMetrics, InternalUtil internalUtil) {
-        this.visibleMetrics = visibleMetrics;
-        this.internalUtil = internalUtil;
+    public CheckmateMetrics() {
         logger.instantiation();
     }
 
-    public boolean isCheckmate(long[] bitboards, boolean isWhiteMove, long wk, long wq, long bk, long bq,
-                               int enPassant, long legalMoves) {
-        var friendsAndEnemies = internalUtil.friendsAndEnemies(bitboards, isWhiteMove);
-        var friends = friendsAndEnemies[0];
-        var enemies = friendsAndEnemies[1];
-        var kingSquare = Long.numberOfTrailingZeros(
-                bitboards[isWhiteMove ? Piece.WK.ordinal() - 1 : Piece.BK.ordinal() - 1]);
-        var enemiesVisible = visibleMetrics.immediateThreats(bitboards, friends, enemies);
-        var kingVisible = visibleMetrics.visibleSquaresKing(kingSquare, friends) & (1L << kingSquare);
-        var kingInCheckAndHasNoMoves = (kingVisible & enemiesVisible) == kingVisible;
-        return kingInCheckAndHasNoMoves && legalMoves == 0L;
+    public boolean isCheckmate(AttackMap attackMap, boolean hasLegalMoves) {
+        return attackMap.inCheck() && !hasLegalMoves;
     }
 }
@@ -41,4 +41,5 @@ final class Container {
     final KingGenerator kingGenerator;
     final BitboardGenerator bitboardGenerator;
     final Generator generator;
+    final StaticExchange staticExchange;
 }
@@ -75,8 +75,8 @@ public class Factory {
         var visibleMetrics = new VisibleMetrics(matrixUtil);
         var lackOfMaterialMetrics = new LackOfMaterialMetrics();
         var checkMetrics = new CheckMetrics(visibleMetrics, internalUtil);
-        var checkmateMetrics = new CheckmateMetrics(visibleMetrics, internalUtil);
-        var stalemateMetrics = new StalemateMetrics(visibleMetrics, internalUtil);
+        var checkmateMetrics = new CheckmateMetrics();
+        var stalemateMetrics = new StalemateMetrics();
         var pawnGenerator = new PawnGenerator(visibleMetrics, checkMetrics, matrixUtil, internalUtil, moveFactory);
         var knightGenerator = new KnightGenerator(matrixUtil, moveFactory);
         var bishopGenerator = new BishopGenerator(visibleMetrics, internalUtil, moveFactory);
@@ -86,6 +86,7 @@ public class Factory {
         var bitboardGenerator = new BitboardGenerator(pawnGenerator, knightGenerator, bishopGenerator, rookGenerator,
                 queenGenerator, kingGenerator, visibleMetrics, internalUtil, matrixUtil);
         var generator = new Generator(pawnGenerator, kingGenerator, matrixUtil);
+        var staticExchange = new StaticExchange(visibleMetrics, matrixUtil);
         return Container.builder()
                 .matrixUtil(matrixUtil)
                 .moveFactory(moveFactory)
@@ -103,6 +104,7 @@ public class Factory {
                 .kingGenerator(kingGenerator)
                 .bitboardGenerator(bitboardGenerator)
                 .generator(generator)
+                .staticExchange(staticExchange)
                 .build();
     }
 
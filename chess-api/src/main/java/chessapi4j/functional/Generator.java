@@ -17,8 +17,14 @@ package chessapi4j.functional;
 
 import chessapi4j.Piece;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This class is used to generate all the legal moves for a given position.
@@ -50,6 +56,116 @@ final public class Generator {
         return generatePositions(info, position);
     }
 
+    /**
+     * Legal moves of the given position in stages, pulled lazily through the returned iterator: captures, en passant
+     * captures and queen promotions ordered by most valuable victim and least valuable attacker, then the killer moves
+     * that are legal quiet moves of the position, then the rest of the quiet moves and finally the under-promotions.
+     * A stage is only built when the previous one is exhausted and no child position is created.
+     *
+     * @param position the parent position
+     * @param killers moves to try first among the quiet moves
+     * @return an iterator over all the legal moves
+     * @since 1.2.11
+     */
+    public Iterator<Move> stagedMoves(Position position, List<Move> killers) {
+        var info = position.movesInfo();
+        return Stream.<Supplier<Stream<Move>>>of(
+                        () -> captures(info, position).stream(),
+                        () -> {
+                            var quiets = quiets(info);
+                            var firsts = killers.stream().filter(quiets::contains).distinct()
+                                    .collect(Collectors.toList());
+                            return Stream.concat(firsts.stream(), quiets.stream().filter(m -> !firsts.contains(m)));
+                        },
+                        () -> underPromotions(info))
+                .flatMap(Supplier::get)
+                .iterator();
+    }
+
+    /**
+     * Same as {@link #stagedMoves(Position, List)} without killer moves.
+     *
+     * @param position the parent position
+     * @return an iterator over all the legal moves
+     * @since 1.2.11
+     */
+    public Iterator<Move> stagedMoves(Position position) {
+        return stagedMoves(position, List.of());
+    }
+
+    /**
+     * Captures, en passant captures and queen promotions of the given position, ordered by most valuable victim and
+     * least valuable attacker. This is the first stage of {@link #stagedMoves(Position, List)}, as needed by a
+     * quiescence search.
+     *
+     * @param position the parent position
+     * @return the list of captures
+     * @since 1.2.11
+     */
+    public List<Move> captures(Position position) {
+        return captures(position.movesInfo(), position);
+    }
+
+    private List<Move> captures(MovesInfo info, Position position) {
+        var captures = new ArrayList<Move>();
+        info.getPawnMoves().forEach(pm -> {
+            pm.getRegularMoves().stream().filter(m -> (m.getMove() & pm.getEnemies()) != 0L).forEach(captures::add);
+            pm.getPromotionMoves().stream().filter(Generator::isQueenPromotion).forEach(captures::add);
+            pm.getEpCapture().ifPresent(captures::add);
+        });
+        Stream.of(info.getKnightMoves(), info.getBishopMoves(), info.getRookMoves(), info.getQueenMoves())
+                .flatMap(List::stream)
+                .forEach(rpm -> rpm.getMoves().stream().filter(m -> (m.getMove() & rpm.getEnemies()) != 0L)
+                        .forEach(captures::add));
+        var kingMoves = info.getKingMoves();
+        kingMoves.getRegularMoves().stream().filter(m -> (m.getMove() & kingMoves.getEnemies()) != 0L)
+                .forEach(captures::add);
+        var bitboards = position.bitboards();
+        captures.sort(Comparator.comparingInt((Move m) -> mvvLva(bitboards, m)).reversed());
+        return captures;
+    }
+
+    private List<Move> quiets(MovesInfo info) {
+        var quiets = new ArrayList<Move>();
+        info.getPawnMoves().forEach(pm -> {
+            pm.getRegularMoves().stream().filter(m -> (m.getMove() & pm.getEnemies()) == 0L).forEach(quiets::add);
+            quiets.addAll(pm.getAdvanceEpMoves());
+        });
+        Stream.of(info.getKnightMoves(), info.getBishopMoves(), info.getRookMoves(), info.getQueenMoves())
+                .flatMap(List::stream)
+                .forEach(rpm -> rpm.getMoves().stream().filter(m -> (m.getMove() & rpm.getEnemies()) == 0L)
+                        .forEach(quiets::add));
+        var kingMoves = info.getKingMoves();
+        kingMoves.getRegularMoves().stream().filter(m -> (m.getMove() & kingMoves.getEnemies()) == 0L)
+                .forEach(quiets::add);
+        quiets.addAll(kingMoves.getCastleMoves());
+        return quiets;
+    }
+
+    private Stream<Move> underPromotions(MovesInfo info) {
+        return info.getPawnMoves().stream()
+                .flatMap(pm -> pm.getPromotionMoves().stream())
+                .filter(m -> !isQueenPromotion(m));
+    }
+
+    private static boolean isQueenPromotion(Move move) {
+        return move.getPromotionPiece() == Piece.WQ.ordinal() || move.getPromotionPiece() == Piece.BQ.ordinal();
+    }
+
+    private static int mvvLva(long[] bitboards, Move move) {
+        var victim = 0;
+        var attacker = 0;
+        for (var i = 0; i < 12; i++) {
+            victim += (i + 1) * (int) ((bitboards[i] & move.getMove()) >>> move.getTarget());
+            attacker += (i + 1) * (int) ((bitboards[i] >>> move.getOrigin()) & 1L);
+        }
+        // en passant victims are always pawns, promotions add the promoted piece
+        var victimValue = victim == 0 && (attacker == Piece.WP.ordinal() || attacker == Piece.BP.ordinal()) &&
+                ((move.getOrigin() ^ move.getTarget()) & 7) != 0 ? Piece.WP.value() : Piece.get(victim).value();
+        var promotionValue = move.getPromotionPiece() > 0 ? Piece.get(move.getPromotionPiece()).value() : 0;
+        return (victimValue + promotionValue) * 32 - Piece.get(attacker).value() / 100;
+    }
+
     private List<Tuple<Position,Move>> generatePositions(final MovesInfo info, final Position position){
         var children = new BlockingList<Tuple<Position,Move>>();
         pawnMoves(info, position, children);
@@ -178,7 +294,7 @@ final public class Generator {
                     [(int) ((pawnOperation >>> Long.numberOfTrailingZeros(pawnOperation)) |
                     (enemyOperation >>> Long.numberOfTrailingZeros(enemyOperation)))];
             // new immutable instance added
-            var tuple = new Tuple<>(new Position(bitboards,wm, wk, wq, bk, bq, ep, mc, hm), m);
+            var tuple = new Tuple<>(new Position(position, bitboards, wm, wk, wq, bk, bq, ep, mc, hm), m);
             children.add(tuple);
         });
     }
@@ -93,7 +93,7 @@ final class KingGenerator {
             // en passant
             var ep = -1;
             // add new immutable instance
-            var newPosition = new Position(bitboards, wm, wk, wq, bk, bq, ep, mc, hm);
+            var newPosition = new Position(position, bitboards, wm, wk, wq, bk, bq, ep, mc, hm);
             children.add(new Tuple<>(newPosition, m));
         });
     }
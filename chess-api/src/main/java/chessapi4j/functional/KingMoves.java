@@ -57,4 +57,8 @@ final class KingMoves {
     public long allMoves(){
         return $regularMoves | $castleMoves;
     }
+
+    public int count(){
+        return Long.bitCount($regularMoves) + Long.bitCount($castleMoves);
+    }
 }
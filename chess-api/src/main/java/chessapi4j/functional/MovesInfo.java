@@ -77,4 +77,28 @@ final class MovesInfo {
         this.kingMoves = kingMoves;
     }
 
+    /**
+     * Number of legal moves described by this instance. Each promotion counts
+     * four times, once for every promotion piece.
+     */
+    public int count(){
+        var count = kingMoves.count();
+        for(var pm : pawnMoves){
+            count += pm.count();
+        }
+        for(var nm : knightMoves){
+            count += nm.count();
+        }
+        for(var bm : bishopMoves){
+            count += bm.count();
+        }
+        for(var rm : rookMoves){
+            count += rm.count();
+        }
+        for(var qm : queenMoves){
+            count += qm.count();
+        }
+        return count;
+    }
+
 }
@@ -160,7 +160,7 @@ final class PawnGenerator {
             // en passant
             var ep = -1;
             // new immutable instance added
-            var newPosition = new Position(bitboards, wm, wk, wq, bk, bq, ep, mc,hm);
+            var newPosition = new Position(position, bitboards, wm, wk, wq, bk, bq, ep, mc, hm);
             children.add(new Tuple<>(newPosition, m));
         });
     }
@@ -184,7 +184,7 @@ final class PawnGenerator {
         // en passant
         var ep = -1;
         // add new immutable instance
-        var newPosition = new Position(bitboards, wm, position.wk(), position.wq(), position.bk(), position.bq(),
+        var newPosition = new Position(position, bitboards, wm, position.wk(), position.wq(), position.bk(), position.bq(),
                 ep, mc, hm);
         children.add(new Tuple<>(newPosition, m));
     }
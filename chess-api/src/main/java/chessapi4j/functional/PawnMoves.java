@@ -102,4 +102,9 @@ final class PawnMoves {
     public long allMoves() {
         return $regularMoves | $advanceEpMoves | $promotionMoves | $epCapture;
     }
+
+    public int count() {
+        return Long.bitCount($regularMoves) + Long.bitCount($advanceEpMoves) + 4 * Long.bitCount($promotionMoves)
+                + Long.bitCount($epCapture);
+    }
 }
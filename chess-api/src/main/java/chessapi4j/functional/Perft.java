@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import chessapi4j.PerftResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class for performance tests (perft) over the functional move
+ * generator. See <a href="https://www.chessprogramming.org/Perft">Perft</a>.
+ * <p>
+ * The last ply is bulk counted from the moves information of the nodes at
+ * depth - 1, so no child position is built for the leaves.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class Perft {
+
+    /**
+     * Counts the leaf nodes of the legal move tree and measures the elapsed time.
+     *
+     * @param position the root position
+     * @param depth    the depth, zero or greater
+     * @return the result with the nodes count and the nodes per second rate
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public static PerftResult run(Position position, int depth) {
+        final var start = System.nanoTime();
+        final var nodes = nodes(position, depth);
+        return new PerftResult(depth, nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree.
+     *
+     * @param position the root position
+     * @param depth    the depth, zero or greater
+     * @return the number of leaf nodes
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public static long nodes(Position position, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must be zero or greater");
+        }
+        return perft(Factory.generator(), position, depth);
+    }
+
+    /**
+     * Counts the leaf nodes below each legal move of the root position.
+     *
+     * @param position the root position
+     * @param depth    the depth, one or greater
+     * @return the nodes count for each root move, in generation order
+     * @throws IllegalArgumentException if depth is lower than one
+     */
+    public static Map<Move, Long> divide(Position position, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth must be one or greater");
+        }
+        final var generator = Factory.generator();
+        final var result = new LinkedHashMap<Move, Long>();
+        for (var tuple : generator.legalMoves(position)) {
+            result.put(tuple.getV2(), perft(generator, tuple.getV1(), depth - 1));
+        }
+        return result;
+    }
+
+    static long perft(Generator generator, Position position, int depth) {
+        if (depth == 0) {
+            return 1L;
+        }
+        if (depth == 1) {
+            return position.movesInfo().count();
+        }
+        var nodes = 0L;
+        for (var tuple : generator.legalMoves(position)) {
+            nodes += perft(generator, tuple.getV1(), depth - 1);
+        }
+        return nodes;
+    }
+
+    private Perft() {}
+}
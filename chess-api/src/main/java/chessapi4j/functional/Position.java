@@ -92,6 +92,7 @@ public final class Position implements Serializable {
     private int hash;
     // move info
     private volatile MovesInfo mi;
+    private volatile AttackMap am;
     // children
     private final List<Tuple<Position,Move>> children = new BlockingList<>();
 
@@ -139,7 +140,7 @@ public final class Position implements Serializable {
         lmPresent = true;
         zobristHash = Factory.initialHash;
         zobritsPresent = true;
-        hash = ((Long) zobristHash).hashCode();
+        hash = Long.hashCode(zobristHash);
         var enemies = new Bitboard(A7, B7, C7, D7, E7, F7, G7, H7, B8, G8, C8, F8, A8, H8, D8, E8);
         mi = new MovesInfo(
                 new Bitboard(A3, A4, B3, B4, C3, C4, D3, D4, E3, E4, F3, F4, G3, G4, H3, H4).getValue(),
@@ -295,10 +296,6 @@ public final class Position implements Serializable {
             ep = Util.getSquareIndex(x, y);
         }
 
-        // move info
-        mi = Factory.container.bitboardGenerator.generateMoveInfo(b,wm, wk, wq, bk, bq, ep);
-        movesInfoPresent = true;
-
         // half moves
         hm = Integer.parseInt(parts[4]);
         if (hm > 50 || hm < 0) {
@@ -308,27 +305,20 @@ public final class Position implements Serializable {
         // moves counter
         mc = Integer.parseInt(parts[5]);
 
-        // check
-        c = Factory.container.checkMetrics.inCheck(b, wm) == 1L;
-        cPresent = true;
-
-        // checkmate
-        cm = Factory.container.checkmateMetrics.isCheckmate(b, wm == 1L, wk, wq, bk, bq, ep, mi.getMoves());
-        cmPresent = true;
-
-        // stalemate
-        sm = Factory.container.stalemateMetrics.isStalemate(b, wm == 1L, wk, wq, bk, bq, ep, mi.getMoves());
-        smPresent = true;
+        // check, checkmate and stalemate are computed on demand
+        c = true;
+        cm = true;
+        sm = true;
 
         // lack of material
         lm = Factory.container.lackOfMaterialMetrics.isLackOfMaterial(b);
         lmPresent = true;
 
         // zobrist hash
-        zobristHash = Factory.zobristHasher.computeZobristHash(b, cm, sm, lm, hm == 50, cm, ep);
+        zobristHash = Factory.zobristHasher.computeZobristHash(b, wm == 1L, wk == 1L, wq == 1L, bk == 1L, bq == 1L, ep);
         zobritsPresent = true;
         // hash
-        hash = ((Long) zobristHash).hashCode();
+        hash = Long.hashCode(zobristHash);
     }
 
     /**
@@ -360,64 +350,58 @@ public final class Position implements Serializable {
         
     }
 
+    /**
+     * Low level constructor for internal use. The zobrist hash is derived from
+     * the parent hash, xoring only what the move changed.
+     */
+    Position(Position parent, long[] b, long wm, long wk, long wq, long bk, long bq, int ep, int mc, int hm) {
+        this(b, wm, wk, wq, bk, bq, ep, mc, hm);
+        final long castleChanges = (parent.wk ^ wk) | (parent.wq ^ wq) << 1 | (parent.bk ^ bk) << 2
+                | (parent.bq ^ bq) << 3;
+        zobristHash = Factory.zobristHasher.updateZobristHash(parent.zobristHash(), parent.b, b, castleChanges,
+                parent.ep, ep);
+        hash = Long.hashCode(zobristHash);
+        zobritsPresent = true;
+    }
+
     MovesInfo movesInfo(){
         if (!movesInfoPresent) {
-            mi = Factory.container.bitboardGenerator.generateMoveInfo(b, wm, wk, wq, bk, bq, ep);
+            mi = Factory.container.bitboardGenerator.generateMoveInfo(b, wm, wk, wq, bk, bq, ep, attackMap());
             movesInfoPresent = true;
         }
         return mi;
     }
 
     private boolean internalCheck(){
-        if(movesInfoPresent && cPresent){
-            return c;
-        } else if(movesInfoPresent){
-            c = Factory.container.checkMetrics.inCheck(b, wm) == 1L;
+        if(!cPresent){
+            c = attackMap().inCheck();
             cPresent = true;
-            return c;
-        } else {
-            mi = Factory.container.bitboardGenerator.generateMoveInfo(b,wm, wk, wq, bk, bq, ep);
-            movesInfoPresent = true;
-            c = Factory.container.checkMetrics.inCheck(b, wm) == 1L;
-            cPresent = true;
-            return c;
         }
+        return c;
     }
 
     private boolean internalCheckmate(){
-        if(movesInfoPresent && cmPresent){
-            return cm;
-        } else if(movesInfoPresent){
-            cm = Factory.container.checkmateMetrics.isCheckmate(b, wm == 1L, wk, wq, bk, bq, ep,
-                    mi.getMoves());
-            cmPresent = true;
-            return cm;
-        } else {
-            mi = Factory.container.bitboardGenerator.generateMoveInfo(b,wm, wk, wq, bk, bq, ep);
-            movesInfoPresent = true;
-            cm = Factory.container.checkmateMetrics.isCheckmate(b, wm == 1L, wk, wq, bk, bq, ep,
-                    mi.getMoves());
+        if(!cmPresent){
+            cm = Factory.container.checkmateMetrics.isCheckmate(attackMap(), hasLegalMoves());
             cmPresent = true;
-            return cm;
         }
+        return cm;
     }
 
     private boolean internalStalemate(){
-        if(movesInfoPresent && smPresent){
-            return sm;
-        } else if(movesInfoPresent){
-            sm = Factory.container.stalemateMetrics.isStalemate(b, wm == 1L, wk, wq, bk, bq, ep,
-                    mi.getMoves());
+        if(!smPresent){
+            sm = Factory.container.stalemateMetrics.isStalemate(attackMap(), hasLegalMoves());
             smPresent = true;
-            return sm;
-        } else {
-            mi = Factory.container.bitboardGenerator.generateMoveInfo(b,wm, wk, wq, bk, bq, ep);
-            movesInfoPresent = true;
-            sm = Factory.container.stalemateMetrics.isStalemate(b, wm == 1L, wk, wq, bk, bq, ep,
-                    mi.getMoves());
-            smPresent = true;
-            return sm;
         }
+        return sm;
+    }
+
+    // the moves info when it is already there, the early exit search otherwise
+    private boolean hasLegalMoves(){
+        if(movesInfoPresent){
+            return mi.getMoves() != 0L;
+        }
+        return Factory.container.bitboardGenerator.hasAnyLegalMove(b, wm, ep, attackMap());
     }
 
     /**
@@ -560,7 +544,7 @@ public final class Position implements Serializable {
      * @return the check boolean value
      */
     public boolean check(){
-        return cm && internalCheck();
+        return c && internalCheck();
     }
 
     /**
@@ -675,12 +659,85 @@ public final class Position implements Serializable {
 
     private void internalZobristHash(){
         if (!zobritsPresent) {
-            zobristHash = Factory.zobristHasher.computeZobristHash(b, cm, sm, lm, hm == 50, cm, ep);
-            hash = ((Long) zobristHash).hashCode();
+            zobristHash = Factory.zobristHasher.computeZobristHash(b, wm == 1L, wk == 1L, wq == 1L, bk == 1L, bq == 1L, ep);
+            hash = Long.hashCode(zobristHash);
             zobritsPresent = true;
         }
     }
 
+    /**
+     * Retrieves the attack information of this position: attacked squares,
+     * checkers and pins. It is computed the first time it is requested and then
+     * kept, the check, checkmate and stalemate status are read from it.
+     *
+     * @return the attack map of this position
+     *
+     * @since 1.2.11
+     */
+    public AttackMap attackMap() {
+        var attackMap = am;
+        if (attackMap == null) {
+            attackMap = new AttackMap(b, wm, Factory.container.visibleMetrics, Factory.container.matrixUtil);
+            am = attackMap;
+        }
+        return attackMap;
+    }
+
+    /**
+     * Retrieves the pieces of both colors that attack the given square, as a
+     * bitboard. Only the pieces in the given occupancy are considered and sliders
+     * see through the squares missing from it, which allows to look for x-ray
+     * attackers by removing pieces from the occupancy. Pins are not taken into
+     * account.
+     *
+     * @param square    the attacked square
+     * @param occupancy the occupied squares to consider
+     * @return the attackers bitboard
+     *
+     * @since 1.2.11
+     */
+    public long attackersTo(Square square, long occupancy) {
+        return Factory.container.staticExchange.attackersTo(b, square.ordinal(), occupancy);
+    }
+
+    /**
+     * Retrieves the pieces of both colors that attack the given square, as a
+     * bitboard. Pins are not taken into account.
+     *
+     * @param square the attacked square
+     * @return the attackers bitboard
+     *
+     * @since 1.2.11
+     */
+    public long attackersTo(Square square) {
+        long occupancy = 0L;
+        for (long bitboard : b)
+            occupancy |= bitboard;
+        return attackersTo(square, occupancy);
+    }
+
+    /**
+     * Static exchange evaluation of the given move: the material balance of the
+     * sequence of captures it starts on its target square, from the point of view
+     * of the side that makes it. Both sides capture with their least valuable
+     * attacker and may stop at any moment. Values are pawn 100, knight 320,
+     * bishop 330, rook 500 and queen 900. Pins are not taken into account.
+     * <p>
+     * A negative value means the move loses material, a quiet move to a safe
+     * square gives zero.
+     * </p>
+     *
+     * @param move the move
+     * @return the material balance of the exchange
+     * @throws IllegalArgumentException if there is no piece on the origin square
+     *
+     * @since 1.2.11
+     */
+    public int see(Move move) {
+        return Factory.container.staticExchange.see(b, move.getOrigin(), move.getTarget(),
+                move.getPromotionPiece());
+    }
+
     /**
      * Zobrist hash. See 
      * <a href="https://www.chessprogramming.org/Zobrist_Hashing">Zobrist_Hashing</a>
@@ -51,4 +51,8 @@ final class RegularPieceMoves {
     public long allMoves() {
         return $moves;
     }
+
+    public int count() {
+        return Long.bitCount($moves);
+    }
 }
@@ -15,31 +15,18 @@
  */
 package chessapi4j.functional;
 
-import chessapi4j.Piece;
 /**
  * @author lunalobos
  * @since 1.2.9
  */
 final class StalemateMetrics {
     private static final Logger logger = Factory.getLogger(StalemateMetrics.class);
-    private final VisibleMetrics visibleMetrics;
-    private final InternalUtil internalUtil;
 
-    StalemateMetrics(VisibleMetrics visibleMetrics, InternalUtil internalUtil) {
-        this.visibleMetrics = visibleMetrics;
-        this.internalUtil = internalUtil;
+    StalemateMetrics() {
         logger.instantiation();
     }
 
-    public boolean isStalemate(long[] bitboards, boolean isWhiteMove, long wk, long wq, long bk, long bq, int enPassant,
-                               long legalMoves) {
-        var friendsAndEnemies = internalUtil.friendsAndEnemies(bitboards, isWhiteMove);
-        var friends = friendsAndEnemies[0];
-        var enemies = friendsAndEnemies[1];
-        var kingSquare = Long.numberOfTrailingZeros(
-                bitboards[isWhiteMove ? Piece.WK.ordinal() - 1 : Piece.BK.ordinal() - 1]);
-        var threats = visibleMetrics.immediateThreats(bitboards, friends, enemies);
-        var isInCheck = (1L << kingSquare) & threats;
-        return (isInCheck == 0L) && (legalMoves == 0L);
+    public boolean isStalemate(AttackMap attackMap, boolean hasLegalMoves) {
+        return !attackMap.inCheck() && !hasLegalMoves;
     }
 }
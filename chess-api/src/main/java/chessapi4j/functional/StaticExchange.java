@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import chessapi4j.Piece;
+import chessapi4j.Square;
+
+//singleton bean
+/**
+ * Attackers to a square and static exchange evaluation, straight from the
+ * bitboards and the magic tables, without allocating anything.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+final class StaticExchange {
+    private static final Logger logger = Factory.getLogger(StaticExchange.class);
+    private static final long PROMOTION_RANKS = 0xFF000000000000FFL;
+
+    private final VisibleMetrics visibleMetrics;
+    private final MatrixUtil matrixUtil;
+
+    public StaticExchange(VisibleMetrics visibleMetrics, MatrixUtil matrixUtil) {
+        this.visibleMetrics = visibleMetrics;
+        this.matrixUtil = matrixUtil;
+        logger.instantiation();
+    }
+
+    /**
+     * Pieces of both colors that attack the given square, considering only the
+     * pieces in the occupancy. Sliders see through the squares missing from the
+     * occupancy.
+     */
+    public long attackersTo(long[] bitboards, int square, long occupancy) {
+        final long attackers = (matrixUtil.blackPawnCaptureMoves[square] & bitboards[0])
+                | (matrixUtil.whitePawnCaptureMoves[square] & bitboards[6])
+                | (matrixUtil.knightMoves[square] & (bitboards[1] | bitboards[7]))
+                | (matrixUtil.kingMoves[square] & (bitboards[5] | bitboards[11]))
+                | (visibleMetrics.visibleSquaresBishop(square, 0L, occupancy)
+                        & (bitboards[2] | bitboards[8] | bitboards[4] | bitboards[10]))
+                | (visibleMetrics.visibleSquaresRook(square, 0L, occupancy)
+                        & (bitboards[3] | bitboards[9] | bitboards[4] | bitboards[10]));
+        return attackers & occupancy;
+    }
+
+    /**
+     * Material balance of the exchange started by the given move on its target
+     * square, from the point of view of the side that moves. Each side captures
+     * with its least valuable attacker and may stop at any moment. Pins are not
+     * taken into account and only the promotion of the first move is.
+     * <p>
+     * The swap list is folded into an alpha-beta window as it is built, so no
+     * array is needed.
+     * </p>
+     */
+    public int see(long[] bitboards, int from, int to, int promotionPiece) {
+        final long fromBit = 1L << from;
+        final long toBit = 1L << to;
+        final int mover = index(bitboards, fromBit);
+        if (mover < 0)
+            throw new IllegalArgumentException(String.format("There is no piece on %s", Square.values()[from]));
+        final boolean moverWhite = mover < 6;
+        final int captured = index(bitboards, toBit);
+        long occupancy = 0L;
+        long white = 0L;
+        for (int i = 0; i < 12; i++) {
+            occupancy |= bitboards[i];
+            if (i < 6)
+                white |= bitboards[i];
+        }
+
+        int balance = Piece.get(captured + 1).value();
+        int onSquare = Piece.get(mover + 1).value();
+        if (mover % 6 == 0) {
+            if (captured < 0 && ((from ^ to) & 7) != 0) {
+                // en passant, the captured pawn is behind the target square
+                balance = Piece.WP.value();
+                occupancy ^= 1L << (moverWhite ? to - 8 : to + 8);
+            }
+            if ((toBit & PROMOTION_RANKS) != 0L) {
+                final int promoted = promotionPiece > 0 ? Piece.get(promotionPiece).value() : Piece.WQ.value();
+                balance += promoted - Piece.WP.value();
+                onSquare = promoted;
+            }
+        }
+        occupancy = (occupancy ^ fromBit) | toBit;
+
+        final long diagonal = bitboards[2] | bitboards[8] | bitboards[4] | bitboards[10];
+        final long orthogonal = bitboards[3] | bitboards[9] | bitboards[4] | bitboards[10];
+        long attackers = attackersTo(bitboards, to, occupancy);
+        // the opponent may not recapture at all
+        int alpha = -Integer.MAX_VALUE;
+        int beta = balance;
+        boolean whiteCaptures = !moverWhite;
+        while (true) {
+            final long own = attackers & (whiteCaptures ? white : ~white);
+            if (own == 0L)
+                break;
+            int piece = whiteCaptures ? 0 : 6;
+            while ((own & bitboards[piece]) == 0L)
+                piece++;
+            final long pieceBit = Long.lowestOneBit(own & bitboards[piece]);
+            balance += whiteCaptures == moverWhite ? onSquare : -onSquare;
+            onSquare = Piece.get(piece + 1).value();
+            occupancy ^= pieceBit;
+            attackers = (attackers | (visibleMetrics.visibleSquaresBishop(to, 0L, occupancy) & diagonal)
+                    | (visibleMetrics.visibleSquaresRook(to, 0L, occupancy) & orthogonal)) & occupancy;
+            if (whiteCaptures == moverWhite) {
+                // the opponent may stop here
+                beta = Math.min(beta, balance);
+                if (beta <= alpha)
+                    return alpha;
+            } else {
+                // the mover may stop here
+                alpha = Math.max(alpha, balance);
+                if (alpha >= beta)
+                    return beta;
+            }
+            whiteCaptures = !whiteCaptures;
+        }
+        return Math.max(alpha, Math.min(beta, balance));
+    }
+
+    private static int index(long[] bitboards, long bit) {
+        for (int i = 0; i < 12; i++) {
+            if ((bitboards[i] & bit) != 0L)
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Walks the legal move tree of a position in parallel with a
+ * {@link ForkJoinPool}. Every node above the split depth becomes a
+ * {@link RecursiveTask}; below it the subtree is walked serially by the thread
+ * that owns the task.
+ * <p>
+ * Results are combined in move generation order, so for an associative
+ * combiner the value returned by {@link #walk} is exactly the one returned by
+ * {@link #walkSerial} for the same arguments.
+ *
+ * @author lunalobos
+ * @since 1.2.11
+ */
+public final class TreeWalker {
+    private final ForkJoinPool pool;
+    private final int splitDepth;
+
+    /**
+     * Creates a walker that runs on the common pool.
+     *
+     * @param splitDepth number of plies below the root that are split into tasks
+     */
+    public TreeWalker(int splitDepth) {
+        this(ForkJoinPool.commonPool(), splitDepth);
+    }
+
+    /**
+     * Creates a walker that runs on the given pool.
+     *
+     * @param pool       the pool where tasks are executed
+     * @param splitDepth number of plies below the root that are split into tasks
+     * @throws IllegalArgumentException if splitDepth is negative
+     */
+    public TreeWalker(ForkJoinPool pool, int splitDepth) {
+        if (splitDepth < 0) {
+            throw new IllegalArgumentException("splitDepth must be zero or greater");
+        }
+        this.pool = pool;
+        this.splitDepth = splitDepth;
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree in parallel. The result is the
+     * same as {@link Perft#nodes(Position, int)}.
+     *
+     * @param root  the root position
+     * @param depth the depth, zero or greater
+     * @return the number of leaf nodes
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public long countLeaves(Position root, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must be zero or greater");
+        }
+        return pool.invoke(new LeafCountTask(Factory.generator(), root, depth, splitDepth));
+    }
+
+    /**
+     * Applies the visitor to every node at the given depth and reduces the values
+     * in parallel. Nodes without legal moves before that depth contribute the
+     * identity.
+     *
+     * @param <R>      the result type
+     * @param root     the root position
+     * @param depth    the depth of the visited nodes, zero or greater
+     * @param visitor  function applied to each visited node
+     * @param combiner associative function that combines two results
+     * @param identity the identity value for the combiner
+     * @return the reduced value
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public <R> R walk(Position root, int depth, Function<Position, R> visitor, BinaryOperator<R> combiner,
+                      R identity) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must be zero or greater");
+        }
+        return pool.invoke(new WalkTask<>(Factory.generator(), root, depth, splitDepth, visitor, combiner,
+                identity));
+    }
+
+    /**
+     * Single threaded version of {@link #walk}.
+     *
+     * @param <R>      the result type
+     * @param root     the root position
+     * @param depth    the depth of the visited nodes, zero or greater
+     * @param visitor  function applied to each visited node
+     * @param combiner associative function that combines two results
+     * @param identity the identity value for the combiner
+     * @return the reduced value
+     * @throws IllegalArgumentException if depth is negative
+     */
+    public static <R> R walkSerial(Position root, int depth, Function<Position, R> visitor,
+                                   BinaryOperator<R> combiner, R identity) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must be zero or greater");
+        }
+        return serialWalk(Factory.generator(), root, depth, visitor, combiner, identity);
+    }
+
+    private static <R> R serialWalk(Generator generator, Position position, int depth,
+                                    Function<Position, R> visitor, BinaryOperator<R> combiner, R identity) {
+        if (depth == 0) {
+            return visitor.apply(position);
+        }
+        var result = identity;
+        for (var tuple : generator.legalMoves(position)) {
+            result = combiner.apply(result, serialWalk(generator, tuple.getV1(), depth - 1, visitor, combiner,
+                    identity));
+        }
+        return result;
+    }
+
+    private static final class LeafCountTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private final transient Generator generator;
+        private final Position position;
+        private final int depth;
+        private final int split;
+
+        LeafCountTask(Generator generator, Position position, int depth, int split) {
+            this.generator = generator;
+            this.position = position;
+            this.depth = depth;
+            this.split = split;
+        }
+
+        @Override
+        protected Long compute() {
+            if (split == 0 || depth < 2) {
+                return Perft.perft(generator, position, depth);
+            }
+            var tasks = new ArrayList<LeafCountTask>();
+            for (var tuple : generator.legalMoves(position)) {
+                tasks.add(new LeafCountTask(generator, tuple.getV1(), depth - 1, split - 1));
+            }
+            invokeAll(tasks);
+            var nodes = 0L;
+            for (var task : tasks) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+
+    private static final class WalkTask<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+        private final transient Generator generator;
+        private final Position position;
+        private final int depth;
+        private final int split;
+        private final transient Function<Position, R> visitor;
+        private final transient BinaryOperator<R> combiner;
+        private final transient R identity;
+
+        WalkTask(Generator generator, Position position, int depth, int split, Function<Position, R> visitor,
+                 BinaryOperator<R> combiner, R identity) {
+            this.generator = generator;
+            this.position = position;
+            this.depth = depth;
+            this.split = split;
+            this.visitor = visitor;
+            this.combiner = combiner;
+            this.identity = identity;
+        }
+
+        @Override
+        protected R compute() {
+            if (split == 0 || depth < 2) {
+                return serialWalk(generator, position, depth, visitor, combiner, identity);
+            }
+            var tasks = new ArrayList<WalkTask<R>>();
+            for (var tuple : generator.legalMoves(position)) {
+                tasks.add(new WalkTask<>(generator, tuple.getV1(), depth - 1, split - 1, visitor, combiner,
+                        identity));
+            }
+            invokeAll(tasks);
+            var result = identity;
+            for (var task : tasks) {
+                result = combiner.apply(result, task.join());
+            }
+            return result;
+        }
+    }
+}
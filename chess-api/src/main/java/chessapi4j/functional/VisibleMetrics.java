@@ -15,17 +15,12 @@
  */
 package chessapi4j.functional;
 
-import lombok.Getter;
-
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.time.OffsetDateTime;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.IntStream;
 
 /**
  * 
@@ -33,205 +28,55 @@ import java.util.stream.IntStream;
  * @since 1.2.9
  */
 final class VisibleMetrics {
+    /**
+     * Fancy magic bitboards for one sliding piece. Each square has its own
+     * relevant occupancy mask, without the last square of each ray, and its own
+     * shift, so its table has exactly one entry per blockers subset. All the
+     * tables are stored one after the other in a single primitive array. The
+     * magic numbers and the tables are read from the {@code magics.bin}
+     * resource shared with the classic package, only the masks, shifts and
+     * offsets are derived from the rays.
+     */
     final class MagicNumbers {
-
-        private final Combinator combinator;
-        final MagicHasher hasher;
-        long[] magicNumbersArray;
-        final Long[][] perfectHashMaps;
-        private final FastFailLongMap map;
-        private final int[] directionIndexes;
-        private long[] numbers;
-
-        public MagicNumbers(Combinator combinator, MagicHasher hasher, int capacity,
-                int[] directionIndexes, long[] numbers) {
-            this.combinator = combinator;
-            this.hasher = hasher;
-            perfectHashMaps = new Long[64][];
-            map = new FastFailLongMap(capacity);
-            this.directionIndexes = directionIndexes;
-            this.numbers = numbers;
+        final long[] magics = new long[64];
+        final long[] masks = new long[64];
+        final int[] shifts = new int[64];
+        final int[] offsets = new int[64];
+        final long[] attacks;
+
+        MagicNumbers(int[] directionIndexes, LongBuffer buffer) {
+            var size = 0;
+            for (int square = 0; square < 64; square++) {
+                masks[square] = relevantMask(square, directionIndexes);
+                shifts[square] = 64 - Long.bitCount(masks[square]);
+                offsets[square] = size;
+                size += 1 << Long.bitCount(masks[square]);
+            }
+            attacks = new long[size];
+            buffer.get(magics);
+            buffer.get(attacks);
         }
 
-        void calculate() {
-            final Map<Integer, Long> magicNumbers = new HashMap<>();
-            IntStream.range(0, 64).boxed()
-                    .forEach(square -> {
-                        var combinations = combinator.compute(square, directionIndexes);
-                        while (true) { // don't worry about this loop, it will always converge
-                            var magicNumber = numbers[square];
-                            if (magicNumber < 0) {
-                                magicNumber = -magicNumber;
-                            }
-                            map.clear();
-                            var isMagic = true;
-                            for (long combination : combinations) {
-                                var directions = matrixUtil.queenMegamatrix[square];
-                                var visible = computeVisible(square, directionIndexes, directions, 0L, combination);
-                                var index = hasher.hash(combination, magicNumber, square);
-                                if (map.containsKey(index)) {
-                                    if (!map.get(index).equals(visible)) {
-                                        isMagic = false;
-                                    }
-                                } else {
-                                    map.put(index, visible);
-                                }
-                            }
-                            if (isMagic) {
-                                magicNumbers.put(square, magicNumber);
-                                perfectHashMaps[square] = map.toLongArray();
-                                break;
-                            }
-                        }
-                    });
-            magicNumbersArray = new long[magicNumbers.size()];
-            for (var entry : magicNumbers.entrySet()) {
-                magicNumbersArray[entry.getKey()] = entry.getValue();
+        // the last square of each ray never blocks anything, so it is left out of the mask
+        private long relevantMask(int square, int[] directionIndexes) {
+            var mask = 0L;
+            for (int directionIndex : directionIndexes) {
+                var direction = matrixUtil.queenMegamatrix[square][directionIndex];
+                for (int i = 0; i < direction.length - 1; i++) {
+                    mask |= 1L << direction[i];
+                }
             }
-
+            return mask;
         }
 
         long visibleHashed(int square, long occupied) {
-            var magic = magicNumbersArray[square];
-            var hash = hasher.hash(occupied, magic, square);
-            var result = perfectHashMaps[square][hash];
-            return result == null ? 0L : result;
+            return attacks[offsets[square]
+                    + (int) (((occupied & masks[square]) * magics[square]) >>> shifts[square])];
         }
     }
 
+    private static final String MAGICS_RESOURCE = "magics.bin";
     private static final Logger logger = Factory.getLogger(VisibleMetrics.class);
-    private static final long[] BISHOP_NUMBERS = new long[] {
-            9180746499051547339L,
-            8707807373265853253L,
-            6890374909820324227L,
-            5627801193431221999L,
-            7070276170865304959L,
-            8646047479734845597L,
-            6970364831972632061L,
-            8392904025588649759L,
-            9165100239868844527L,
-            7574600961932545601L,
-            8231890758063327347L,
-            5253712730057210803L,
-            6311715373123481983L,
-            6334105248820147973L,
-            7211009014984146431L,
-            8889425855821077019L,
-            6574226960727251671L,
-            6708565959103258043L,
-            5178519028952829793L,
-            5879483439702805337L,
-            7486612042827253013L,
-            8758447185029814091L,
-            7189392548657180447L,
-            6780047248211824439L,
-            7929108997084741009L,
-            5869828385829124279L,
-            4777761137253294683L,
-            5054787237607967851L,
-            5834892739460910721L,
-            8148705127734915707L,
-            8636668779999915157L,
-            8766366790746870541L,
-            5899194859104552961L,
-            5831126227585501889L,
-            5979890708839720271L,
-            6599232715290823837L,
-            7549227303974068249L,
-            5182668415790382497L,
-            8923294130810616437L,
-            5276224996548832559L,
-            4794425474436064603L,
-            7514650417736568737L,
-            6199840546671067217L,
-            7870580082374679457L,
-            5389076785064634397L,
-            7647560584267299979L,
-            5229105129703969763L,
-            8298546287603928523L,
-            5139758389917592841L,
-            4934888716358947091L,
-            6075346491543767443L,
-            9035089192323316819L,
-            7518307732297911763L,
-            8324337169270498819L,
-            5289712152947913373L,
-            6886207625641520513L,
-            9020848015567691011L,
-            6095561483492665153L,
-            5101085567079109061L,
-            7753684519139727811L,
-            9051213235571841283L,
-            6505215318015708773L,
-            6264950850225518497L,
-            8846374642034972683L
-    };
-    private static final long[] ROOK_NUMBERS = new long[] {
-            4709623878237656957L,
-            6865183052646244721L,
-            6376349624237580539L,
-            5297447463024482657L,
-            9122807865927424703L,
-            8012020613347644007L,
-            6228879715230563381L,
-            5540515467914588591L,
-            8770107568067005553L,
-            8986403958761139377L,
-            8131918036122205621L,
-            5022165755838167137L,
-            4832586688523938121L,
-            5428552052160802469L,
-            5831257442195200493L,
-            7064005338091317367L,
-            6118218228362103289L,
-            8434548741746836823L,
-            4801460560457390327L,
-            8322046220482070471L,
-            7160066332761400189L,
-            5244068665286708351L,
-            6471265142626309261L,
-            6708231474468600607L,
-            8589414748053393119L,
-            9092153752976174291L,
-            5880039800537319007L,
-            7096385088387992291L,
-            5868382921559828143L,
-            5213961656025392357L,
-            6646704432795100783L,
-            6184809677821607387L,
-            6721153792961377871L,
-            5617169922917932529L,
-            8617436509115982403L,
-            4999461642255592667L,
-            9159219035379779473L,
-            8559313339296319189L,
-            7351814044577528761L,
-            6540225446102046473L,
-            7690088775049124837L,
-            5170824029536525513L,
-            8409164576103292979L,
-            6183299942039277269L,
-            5625704011045159049L,
-            5810863580383657097L,
-            8702110883440362671L,
-            8561948336959790603L,
-            5246479419567441313L,
-            7336324587000056257L,
-            7987216914294478919L,
-            8454347739456244987L,
-            5754423180144473291L,
-            4827287952960235573L,
-            7546809074950217327L,
-            8425978790361598091L,
-            8232630225451587701L,
-            8228743875403331681L,
-            8940890047099034509L,
-            5239080441164902853L,
-            7971899346368537093L,
-            8450193975376315007L,
-            6116738265998620831L,
-            6773585498517633529L
-    };
     private final long[] opts = new long[] { 0L, 1L, 0b11L, 0b111L, 0b1111L, 0b11111L, 0b111111L, 0b1111111L };
     private final long[][][] visibleOptions = new long[64][8][];
     private final int[] trailingZeros = new int[256];
@@ -244,25 +89,17 @@ final class VisibleMetrics {
         var t1 = OffsetDateTime.now();
         this.matrixUtil = matrixUtil;
         fillMap();
-        // magic numbers calculation
-        var rookBits = 20;
-        var rookSize = new Size(rookBits);
-        var bishopBits = 18;
-        var bishopSize = new Size(bishopBits);
-        var combinator = new Combinator(matrixUtil);
-        var rookHasher = new MagicHasher(rookSize.getBits(), matrixUtil.queenMegamatrix, matrixUtil.rookDirections);
-        var bishopHasher = new MagicHasher(bishopSize.getBits(), matrixUtil.queenMegamatrix,
-                matrixUtil.bishopDirections);
-
-        rookMagicNumbers = new MagicNumbers(combinator, rookHasher, rookSize.getCapacity(),
-                matrixUtil.rookDirections, ROOK_NUMBERS);
-
-        bishopMagicNumbers = new MagicNumbers(combinator, bishopHasher, bishopSize.getCapacity(),
-                matrixUtil.bishopDirections, BISHOP_NUMBERS);
-        logger.debug("bishop magic numbers");
-        bishopMagicNumbers.calculate();
-        logger.debug("rook magic numbers");
-        rookMagicNumbers.calculate();
+        // magic numbers and tables, rook first
+        var magics = readMagics();
+        try {
+            rookMagicNumbers = new MagicNumbers(matrixUtil.rookDirections, magics);
+            bishopMagicNumbers = new MagicNumbers(matrixUtil.bishopDirections, magics);
+        } catch (BufferUnderflowException e) {
+            throw resourceException(e);
+        }
+        if (magics.hasRemaining())
+            throw resourceException(new IOException(String.format("%d unexpected trailing longs",
+                    magics.remaining())));
         calculators = new VisibleCalculator[] {
                 (sq, f, e) -> {
                     throw new IllegalArgumentException("piece must be between 1 and 12");
@@ -284,6 +121,23 @@ final class VisibleMetrics {
         logger.instantiation(t1, t2);
     }
 
+    private LongBuffer readMagics() {
+        try (var is = VisibleMetrics.class.getClassLoader().getResourceAsStream(MAGICS_RESOURCE)) {
+            if (is == null)
+                throw new FileNotFoundException(MAGICS_RESOURCE);
+            return ByteBuffer.wrap(is.readAllBytes()).asLongBuffer();
+        } catch (IOException e) {
+            throw resourceException(e);
+        }
+    }
+
+    private RuntimeException resourceException(Exception e) {
+        var fatalException = new RuntimeException(String.format("Can not access resource %s. Error message: %s",
+                MAGICS_RESOURCE, e.getMessage()), e);
+        logger.fatal(fatalException);
+        return fatalException;
+    }
+
     private void fillMap() {
         trailingZeros[0] = 7;
         for (int i = 1; i < 0b10000000; i++) {
@@ -457,163 +311,6 @@ final class VisibleMetrics {
  * @author lunalobos
  * @since 1.2.9
  */
-final class MappingException extends RuntimeException {
-
-    public static MappingException index(int index, int capacity) {
-        return new MappingException(String.format(
-                "Index %d is out of range for this hashmap with capacity %d.",
-                index,
-                capacity));
-    }
-
-    private MappingException(String message) {
-        super(message);
-    }
-}
-
-final class FastFailLongMap {
-    private final Long[] map;
-
-    public FastFailLongMap(int capacity) {
-        map = new Long[capacity];
-    }
-
-    public void put(int index, long value) {
-        if (index < 0 || index >= map.length)
-            throw MappingException.index(index, map.length);
-        map[index] = value;
-    }
-
-    public Long[] toLongArray() {
-        var result = new Long[map.length];
-        System.arraycopy(map, 0, result, 0, map.length);
-        return result;
-    }
-
-    public Long get(int index) {
-        if (index < 0 || index >= map.length)
-            return null;
-        else
-            return map[index];
-    }
-
-    public boolean containsKey(int index) {
-        if (index < 0 || index >= map.length)
-            return false;
-        else
-            return map[index] != null;
-    }
-
-    public void clear() {
-        Arrays.fill(map, null);
-    }
-}
-
-final class Combinator {
-    private static final Logger logger = Factory.getLogger(Combinator.class);
-    private final MatrixUtil matrixUtil;
-
-    public Combinator(MatrixUtil matrixUtil) {
-        this.matrixUtil = matrixUtil;
-        logger.instantiation();
-    }
-
-    public Set<Long> compute(int square, int[] directionsIndexes) {
-        List<Integer> list = squaresList(square, directionsIndexes);
-        var combinationsSize = 1 << list.size();
-        Set<Long> combinationList = new HashSet<>();
-        for (var combination = 0; combination < combinationsSize; combination++) {
-            var bitIterator = new BitIterator(combination);
-            var listIterator = list.iterator();
-            var bitboard = 0L;
-            while (bitIterator.hasNext() && listIterator.hasNext()) {
-                bitboard |= (((long) bitIterator.next()) << listIterator.next());
-            }
-            combinationList.add(bitboard);
-        }
-        return combinationList;
-    }
-
-    private List<Integer> squaresList(int square, int[] directionsIndexes) {
-        int[][] directions = matrixUtil.queenMegamatrix[square];
-        List<Integer> list = new LinkedList<>();
-        for (int directionIndex : directionsIndexes) {
-            for (int sq : directions[directionIndex]) {
-                list.add(sq);
-            }
-        }
-        return list;
-    }
-}
-
-final class BitIterator {
-
-    private final int bits;
-    private int pointer = 0;
-    private final int bitsLength;
-
-    public BitIterator(int bits) {
-        this.bits = bits;
-        bitsLength = 32 - Integer.numberOfLeadingZeros(bits);
-    }
-
-    public boolean hasNext() {
-        return pointer < bitsLength;
-    }
-
-    public Integer next() {
-        var currentPointer = pointer;
-        pointer++;
-        return (bits & (1 << currentPointer)) >>> currentPointer;
-    }
-
-}
-
-final class MagicHasher {
-    private static final Logger logger = Factory.getLogger(MagicHasher.class);
-    private final int indexBits;
-    private final long[] maskMatrix;
-
-    public MagicHasher(int indexBits, int[][][] queenMatrix, int[] directions) {
-        var t1 = OffsetDateTime.now();
-        this.indexBits = indexBits;
-        maskMatrix = createMaskMatrix(queenMatrix, directions);
-        var t2 = OffsetDateTime.now();
-        logger.instantiation(t1, t2);
-    }
-
-    private long[] createMaskMatrix(int[][][] queenMatrix, int[] directions) {
-        var maskMatrix = new long[64];
-        for (int square = 0; square < 64; square++) {
-            var mask = 0L;
-            for (int directionIndex : directions) {
-                for (int squareIndex : queenMatrix[square][directionIndex]) {
-                    mask |= 1L << squareIndex;
-                }
-            }
-            maskMatrix[square] = mask;
-        }
-        return maskMatrix;
-    }
-
-    public int hash(long occupied, long magic, int square) {
-        var mask = maskMatrix[square];
-        var blockers = occupied & mask;
-        return (int) ((blockers * magic) >>> (64 - indexBits));
-    }
-}
-
-@Getter
-final class Size {
-    private final int bits;
-    private final int capacity;
-
-    public Size(int bits) {
-        this.bits = bits;
-        this.capacity = 1 << bits;
-    }
-}
-
 interface VisibleCalculator {
     long visibleSquares(int square, long friends, long enemies);
 }
\ No newline at end of file
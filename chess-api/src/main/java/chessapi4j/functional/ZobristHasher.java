@@ -81,6 +81,32 @@ final class ZobristHasher {
             zobristHash ^= zobristEnPassant[enPassant];
         return zobristHash;
     }
+
+    /**
+     * Derives the hash of a child position from its parent hash. Only the
+     * squares that changed in each bitboard are xored, plus the castle rights
+     * that changed (bits 0 to 3 of castleChanges in wk, wq, bk, bq order), the
+     * en passant squares and the turn.
+     */
+    public long updateZobristHash(long parentHash, long[] parentBitboards, long[] childBitboards, long castleChanges,
+                                  int parentEnPassant, int childEnPassant) {
+        var zobristHash = parentHash ^ zobristTurn;
+        for (int piece = 0; piece < 12; piece++) {
+            long changes = parentBitboards[piece] ^ childBitboards[piece];
+            while (changes != 0) {
+                zobristHash ^= zobristTable[piece][Long.numberOfTrailingZeros(changes)];
+                changes &= changes - 1;
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            zobristHash ^= -((castleChanges >>> i) & 1L) & zobristCastle[i];
+        }
+        if (parentEnPassant != -1)
+            zobristHash ^= zobristEnPassant[parentEnPassant];
+        if (childEnPassant != -1)
+            zobristHash ^= zobristEnPassant[childEnPassant];
+        return zobristHash;
+    }
 }
 /**
  * @author lunalobos
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class AlphaBetaSearchTest {
+
+	@Test
+	void mateInOne() {
+		Search search = SearchFactory.alphaBetaImpl();
+		Position position = new Position("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1");
+		Optional<Move> move = search.seekBestMove(position, EvaluatorFactory::getImpl, 4);
+		assertEquals(new Move(Square.A1, Square.A8), move.orElseThrow());
+		assertEquals("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1", position.toFen());
+	}
+
+	@Test
+	void mateInTwo() {
+		Search search = SearchFactory.alphaBetaImpl(null);
+		Position position = new Position("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1");
+		Position child = position.childFromMove(search.seekBestMove(position, EvaluatorFactory::getImpl, 4)
+				.orElseThrow()).orElseThrow();
+		for (Position reply : GeneratorFactory.instance().generateChildren(child)) {
+			Move mate = search.seekBestMove(reply, EvaluatorFactory::getImpl, 2).orElseThrow();
+			Position last = reply.childFromMove(mate).orElseThrow();
+			Rules.setStatus(last);
+			assertTrue(last.isCheckmate(), mate.toString());
+		}
+	}
+
+	@Test
+	void deterministic() {
+		Position position = new Position("r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3");
+		Move first = SearchFactory.alphaBetaImpl().seekBestMove(position, EvaluatorFactory::getImpl, 4).orElseThrow();
+		Move second = SearchFactory.alphaBetaImpl().seekBestMove(position, EvaluatorFactory::getImpl, 4)
+				.orElseThrow();
+		assertEquals(first, second);
+		Move restricted = SearchFactory.alphaBetaImpl()
+				.seekBestMove(position, EvaluatorFactory::getImpl, 3, 0, "a2a3 h2h3").orElseThrow();
+		assertTrue(restricted.equals(new Move(Square.A2, Square.A3)) || restricted.equals(new Move(Square.H2, Square.H3)));
+		assertTrue(SearchFactory.alphaBetaImpl()
+				.seekBestMove(new Position("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1"), EvaluatorFactory::getImpl, 3).isEmpty());
+	}
+
+	@Test
+	void limits() throws Exception {
+		Position position = new Position("r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3");
+		Search search = SearchFactory.alphaBetaImpl();
+		search.seekBestMove(position, EvaluatorFactory::getImpl, 1);
+		long start = System.currentTimeMillis();
+		assertTrue(search.seekBestMove(position, EvaluatorFactory::getImpl, SearchLimits.moveTime(200)).isPresent());
+		assertTrue(System.currentTimeMillis() - start < 2000);
+		assertTrue(search.seekBestMove(position, EvaluatorFactory::getImpl,
+				SearchLimits.builder().nodes(2000).build()).isPresent());
+		assertTrue(search.seekBestMove(position, EvaluatorFactory::getImpl,
+				SearchLimits.builder().whiteTime(3000).whiteIncrement(100).build()).isPresent());
+
+		SearchHandle handle = new SearchHandle();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Optional<Move>> future = executor.submit(() -> search.seekBestMove(position,
+					EvaluatorFactory::getImpl, SearchLimits.builder().infinite(true).build(), handle));
+			Thread.sleep(100);
+			handle.cancel();
+			assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		SearchHandle cancelled = new SearchHandle();
+		cancelled.cancel();
+		assertTrue(search.seekBestMove(position, EvaluatorFactory::getImpl, SearchLimits.depth(20), cancelled)
+				.isPresent());
+		assertThrows(IllegalArgumentException.class, () -> SearchLimits.builder().nodes(-1).build());
+		assertEquals(100, SearchLimits.builder().blackTime(3000).build().timeBudget(false));
+	}
+
+	@Test
+	void lazySmp() {
+		TranspositionTable table = new TranspositionTable(8);
+		Search search = SearchFactory.alphaBetaImpl(table);
+		search.setThreads(3);
+		Position position = new Position("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1");
+		assertEquals(new Move(Square.A1, Square.A8),
+				search.seekBestMove(position, EvaluatorFactory::getImpl, 4).orElseThrow());
+		position = new Position("r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3");
+		assertTrue(search.seekBestMove(position, EvaluatorFactory::getImpl, SearchLimits.moveTime(300)).isPresent());
+		assertTrue(table.hits() > 0);
+		assertThrows(IllegalArgumentException.class, () -> search.setThreads(0));
+
+		Search single = SearchFactory.alphaBetaImpl();
+		single.setThreads(1);
+		assertEquals(SearchFactory.alphaBetaImpl().seekBestMove(position, EvaluatorFactory::getImpl, 4),
+				single.seekBestMove(position, EvaluatorFactory::getImpl, 4));
+	}
+
+	@Test
+	void helpersStopWhenTheSearchFails() throws Exception {
+		Search search = SearchFactory.alphaBetaImpl(null);
+		search.setThreads(3);
+		List<Throwable> failures = new CopyOnWriteArrayList<>();
+		Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((thread, e) -> failures.add(e));
+		try {
+			// only the evaluator of the calling thread fails
+			AtomicBoolean first = new AtomicBoolean(true);
+			Supplier<Evaluator> evaluatorFactory = () -> first.getAndSet(false) ? position -> {
+				throw new IllegalStateException("evaluator failure");
+			} : EvaluatorFactory.getImpl();
+			assertThrows(IllegalStateException.class, () -> search.seekBestMove(new Position(), evaluatorFactory,
+					SearchLimits.depth(6), new SearchHandle()));
+			// the helpers are joined before the call returns
+			assertFalse(helpersAlive());
+
+			// an interrupt does not release the contexts of running helpers
+			SearchHandle handle = new SearchHandle();
+			AtomicBoolean interrupted = new AtomicBoolean();
+			AtomicBoolean alive = new AtomicBoolean(true);
+			Thread caller = new Thread(() -> {
+				search.seekBestMove(new Position(), EvaluatorFactory::getImpl,
+						SearchLimits.builder().infinite(true).build(), handle);
+				interrupted.set(Thread.currentThread().isInterrupted());
+				alive.set(helpersAlive());
+			});
+			caller.start();
+			Thread.sleep(100);
+			caller.interrupt();
+			handle.cancel();
+			caller.join(5000);
+			assertFalse(caller.isAlive());
+			assertTrue(interrupted.get());
+			assertFalse(alive.get());
+			assertTrue(failures.isEmpty(), failures.toString());
+		} finally {
+			Thread.setDefaultUncaughtExceptionHandler(previous);
+		}
+	}
+
+	private static boolean helpersAlive() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.anyMatch(thread -> thread.getName().startsWith("chessapi4j-search-helper-"));
+	}
+
+	@Test
+	void concurrentCalls() throws Exception {
+		Search search = SearchFactory.alphaBetaImpl(null);
+		List<Position> positions = List.of(new Position("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1"),
+				new Position("r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3"),
+				new Position("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1"));
+		List<Optional<Move>> expected = new ArrayList<>();
+		for (Position position : positions)
+			expected.add(search.seekBestMove(position, EvaluatorFactory::getImpl, 4));
+		ExecutorService executor = Executors.newFixedThreadPool(positions.size());
+		try {
+			List<Future<Optional<Move>>> futures = new ArrayList<>();
+			for (int round = 0; round < 2; round++) {
+				for (Position position : positions)
+					futures.add(executor.submit(() -> search.seekBestMove(position, EvaluatorFactory::getImpl, 4)));
+			}
+			for (int i = 0; i < futures.size(); i++)
+				assertEquals(expected.get(i % positions.size()), futures.get(i).get(60, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void async() throws Exception {
+		Search search = SearchFactory.alphaBetaImpl();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			SearchResult result = search.seekBestMoveAsync(new Position("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1"),
+					SearchLimits.depth(4), executor).get(30, TimeUnit.SECONDS);
+			assertEquals(new Move(Square.A1, Square.A8), result.getBestMove().orElseThrow());
+			assertEquals(SearchResult.MATE - 1, result.getScore());
+			assertTrue(result.isMate());
+			assertEquals(List.of(new Move(Square.A1, Square.A8)), result.getPrincipalVariation());
+			assertTrue(result.getNodes() > 0);
+
+			Position position = new Position("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1");
+			result = search.seekBestMoveAsync(position, EvaluatorFactory::getImpl, SearchLimits.depth(4), executor)
+					.get(30, TimeUnit.SECONDS);
+			assertEquals(3, result.getPrincipalVariation().size());
+			assertEquals(result.getBestMove().orElseThrow(), result.getPrincipalVariation().get(0));
+			for (Move move : result.getPrincipalVariation())
+				position = position.childFromMove(move).orElseThrow();
+			Rules.setStatus(position);
+			assertTrue(position.isCheckmate());
+
+			CompletableFuture<SearchResult> infinite = search.seekBestMoveAsync(new Position(),
+					SearchLimits.builder().infinite(true).build(), executor);
+			Thread.sleep(100);
+			assertTrue(infinite.cancel(true));
+			// the single thread of the executor is free again only if the search stopped
+			assertTrue(executor.submit(() -> true).get(5, TimeUnit.SECONDS));
+
+			assertTrue(SearchFactory.searchImpl().seekBestMoveAsync(new Position(), SearchLimits.depth(5), executor)
+					.get(60, TimeUnit.SECONDS).getBestMove().isPresent());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AttackMapTest {
+
+	@Test
+	void checksAndPins() {
+		// the knight on e2 is pinned by the rook, the bishop on b4 gives check
+		AttackMap attackMap = new Position("4k3/8/8/8/1b2r3/8/4N3/4K3 w - - 0 1").attackMap();
+		assertTrue(attackMap.inCheck());
+		assertEquals(new Bitboard(Square.B4).getValue(), attackMap.checkers());
+		assertEquals(new Bitboard(Square.E2).getValue(), attackMap.pinned());
+		assertEquals(new Bitboard(Square.E2, Square.E3, Square.E4).getValue(), attackMap.pinRays());
+		assertTrue(attackMap.isAttacked(Square.D2, Side.BLACK));
+		assertFalse(attackMap.isAttacked(Square.D3, Side.WHITE));
+		// two pieces in between, no pin
+		attackMap = new Position("4k3/8/8/8/4r3/4N3/4N3/4K3 w - - 0 1").attackMap();
+		assertFalse(attackMap.inCheck());
+		assertEquals(0L, attackMap.pinned());
+		assertEquals(0L, attackMap.pinRays());
+	}
+
+	@Test
+	void cached() {
+		Position position = new Position();
+		AttackMap attackMap = position.attackMap();
+		assertSame(attackMap, position.attackMap());
+		assertSame(attackMap, position.makeClone().attackMap());
+		position.makeMove(new Move(Square.E2, Square.E4));
+		assertNotSame(attackMap, position.attackMap());
+		position.unmakeMove();
+		assertEquals(attackMap.attacks(Side.WHITE), position.attackMap().attacks(Side.WHITE));
+	}
+
+	@Test
+	void bruteForce() {
+		Generator generator = GeneratorFactory.instance();
+		Random random = new Random(22L);
+		String[] fens = { "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+				"r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1" };
+		for (String fen : fens) {
+			Position position = new Position(fen);
+			for (int ply = 0; ply < 60; ply++) {
+				assertAttackMap(position);
+				List<Position> children = generator.generateChildren(position);
+				if (children.isEmpty())
+					break;
+				position = children.get(random.nextInt(children.size()));
+			}
+		}
+	}
+
+	private static void assertAttackMap(Position position) {
+		long[] bits = position.getBits();
+		long white = 0L;
+		long black = 0L;
+		for (int i = 0; i < 6; i++) {
+			white |= bits[i];
+			black |= bits[i + 6];
+		}
+		long occupancy = white | black;
+		long friends = position.isWhiteMove() ? white : black;
+		long enemies = position.isWhiteMove() ? black : white;
+		long whiteAttacks = 0L;
+		long blackAttacks = 0L;
+		for (Square square : Square.values()) {
+			long attackers = Util.attackersTo(position, square);
+			if ((attackers & white) != 0L)
+				whiteAttacks |= 1L << square.ordinal();
+			if ((attackers & black) != 0L)
+				blackAttacks |= 1L << square.ordinal();
+		}
+		Square king = Square.values()[Long.numberOfTrailingZeros(bits[position.isWhiteMove() ? 5 : 11])];
+		long checkers = Util.attackersTo(position, king) & enemies;
+		// a piece is pinned when removing it uncovers a new attacker of the king
+		long pinned = 0L;
+		for (long j = friends & ~(1L << king.ordinal()); j != 0L; j &= j - 1) {
+			long piece = Long.lowestOneBit(j);
+			if ((Util.attackersTo(position, king, occupancy & ~piece) & enemies & ~checkers) != 0L)
+				pinned |= piece;
+		}
+		AttackMap attackMap = position.attackMap();
+		String fen = position.toFen();
+		assertEquals(whiteAttacks, attackMap.attacks(Side.WHITE), fen);
+		assertEquals(blackAttacks, attackMap.attacks(Side.BLACK), fen);
+		assertEquals(checkers, attackMap.checkers(), fen);
+		assertEquals(checkers != 0L, attackMap.inCheck(), fen);
+		assertEquals(pinned, attackMap.pinned(), fen);
+		assertEquals(pinned, attackMap.pinRays() & friends, fen);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class EvaluatorTest {
+
+	@Test
+	void sameScoresAsReference() {
+		Evaluator evaluator = EvaluatorFactory.getImpl();
+		Evaluator reference = EvaluatorFactory.getReferenceImpl();
+		Generator generator = GeneratorFactory.instance();
+		Random random = new Random(11L);
+		String[] fens = { "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+				"r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1" };
+		int positions = 0;
+		for (String fen : fens) {
+			for (int game = 0; game < 20; game++) {
+				Position position = new Position(fen);
+				for (int ply = 0; ply < 80; ply++) {
+					assertEquals(reference.evaluate(position), evaluator.evaluate(position), position.toFen());
+					positions++;
+					List<Position> children = generator.generateChildren(position);
+					if (children.isEmpty())
+						break;
+					position = children.get(random.nextInt(children.size()));
+				}
+			}
+		}
+		assertTrue(positions > 1000);
+	}
+
+	@Test
+	void caching() {
+		Evaluator evaluator = EvaluatorFactory.getImpl();
+		CachingEvaluator caching = EvaluatorFactory.getCachingImpl(1);
+		Generator generator = GeneratorFactory.instance();
+		assertEquals(1 << 17, caching.capacity());
+		IntStream.range(0, 4).parallel().forEach(thread -> {
+			Random random = new Random(thread % 2);
+			Position position = new Position();
+			for (int ply = 0; ply < 80; ply++) {
+				for (Position child : generator.generateChildren(position))
+					assertEquals(evaluator.evaluate(child), caching.evaluate(child), child.toFen());
+				List<Position> children = generator.generateChildren(position);
+				if (children.isEmpty())
+					break;
+				position = children.get(random.nextInt(children.size()));
+			}
+		});
+		assertTrue(caching.hitRate() > 0.4, String.valueOf(caching.hitRate()));
+		Search search = SearchFactory.searchImpl();
+		assertTrue(search.seekBestMove(new Position(), () -> caching, 5, 2).isPresent());
+		caching.clear();
+		assertEquals(0L, caching.probes());
+		assertThrows(IllegalArgumentException.class, () -> new CachingEvaluator(evaluator, 0));
+		assertThrows(NullPointerException.class, () -> new CachingEvaluator(null, 1));
+	}
+
+}
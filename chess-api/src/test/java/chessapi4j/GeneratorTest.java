@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -110,6 +111,31 @@ public class GeneratorTest {
 		logger.debug("GeneratorTest-Position%d time[ms]: %d", 6, d2.toInstant().toEpochMilli() - d1.toInstant().toEpochMilli());
 	}
 
+	@Test
+	void hasAnyLegalMove() {
+		Generator generator = GeneratorFactory.instance();
+		// checkmate, stalemate and a mate that holds because the only blocker is pinned
+		assertFalse(generator.hasAnyLegalMove(new Position("R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1")));
+		assertFalse(generator.hasAnyLegalMove(new Position("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1")));
+		assertFalse(generator.hasAnyLegalMove(new Position("3rrr1k/8/8/8/8/8/4B3/r3K3 w - - 0 1")));
+		assertTrue(generator.hasAnyLegalMove(new Position()));
+		Random random = new Random(23L);
+		String[] fens = { "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1" };
+		for (String fen : fens) {
+			for (int game = 0; game < 20; game++) {
+				Position position = new Position(fen);
+				for (int ply = 0; ply < 200; ply++) {
+					List<Position> children = generator.generateChildren(position);
+					assertEquals(!children.isEmpty(), generator.hasAnyLegalMove(position), position.toFen());
+					if (children.isEmpty())
+						break;
+					position = children.get(random.nextInt(children.size()));
+				}
+			}
+		}
+	}
+
 	private int generationTest(int depth, Position position) {
 		if (depth == 0)
 			return 1;
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Writes {@code src/main/resources/magics.bin}, the magic numbers and attack
+ * tables read by {@link MagicNumbers} and by the functional
+ * {@code VisibleMetrics}. The tables are filled from the numbers below walking
+ * every blockers subset of each mask, and a number that does not hash its
+ * square perfectly fails the build. {@link MagicTest} checks the resource
+ * against {@link #tables()} on every build; after changing a number, write it
+ * again with:
+ *
+ * <pre>
+ * mvn test -Dtest=MagicTablesWriter -Dmagics.write=true
+ * </pre>
+ */
+class MagicTablesWriter {
+    static final Path RESOURCE = Path.of("src", "main", "resources", "magics.bin");
+
+    private static final long[] ROOK_NUMBERS = new long[] {
+            0x1080009340008020L, 0x20C0001000200040L, 0x0100100840200100L, 0x2080080082041000L,
+            0x2080040080080102L, 0x0100080400010002L, 0x1D00048C01001200L, 0x0100048140220B00L,
+            0x8800802080004000L, 0x8340401000402000L, 0x1811002000104500L, 0x0902001202200841L,
+            0x2820808004000800L, 0x0D10800400020080L, 0x8102000488214200L, 0x0140800040800100L,
+            0x10C0008020408000L, 0x0420004000300049L, 0x0121010020004019L, 0x00100A0020401200L,
+            0x0010808004000801L, 0x0C01010002080400L, 0x1800040001102228L, 0x002402000D048044L,
+            0x0800802280044000L, 0x0800200880400080L, 0x0800410100200018L, 0x440202420008E050L,
+            0x1000040080080082L, 0x8081000900040002L, 0x1201000300C40E00L, 0x1101004200008401L,
+            0x3000400081800022L, 0x0200804004802009L, 0x0010002400200801L, 0x0800080080801000L,
+            0x0808004004040020L, 0x0201000401000208L, 0x0008220194005008L, 0x0519840042000081L,
+            0x00022080C0168000L, 0x8210064460064000L, 0x0000102001010042L, 0x2001041000090020L,
+            0x4404000408008080L, 0x0404020004008080L, 0x0603018802040010L, 0x40A1B09441060004L,
+            0x4108400080002880L, 0x8081014002802300L, 0x0290002008040020L, 0x0401420010A04A00L,
+            0x8000080080040080L, 0x0000100440200801L, 0x8241100201080400L, 0x0000008400410200L,
+            0x0881004422120482L, 0x0008104001002081L, 0x00202001006B1241L, 0x0001002004081001L,
+            0x1892001108042002L, 0x0001008804000241L, 0x4014083011060884L, 0x0022008C01002542L
+    };
+    private static final long[] BISHOP_NUMBERS = new long[] {
+            0x0490200A04960010L, 0x2124100410409001L, 0x6204040432400800L, 0x800404008D000010L,
+            0x8144050400830008L, 0x0501104210008010L, 0x800104013C40004AL, 0x00001C0202100400L,
+            0x280245100401040AL, 0x4040024488108101L, 0x08101004048A2000L, 0x8001140522004010L,
+            0x0001A40420040002L, 0x0100060212220000L, 0x400602011008040DL, 0x0800008088680204L,
+            0x8004000890248811L, 0x0010400410420054L, 0x4022000104040084L, 0x1808044104110050L,
+            0x0000841400A00000L, 0x9411008210008410L, 0x00008012080402C8L, 0x000081804400A804L,
+            0x0420220424040C20L, 0x8129201028081548L, 0x0008120004022200L, 0x00040800002020C0L,
+            0x0109001049004001L, 0x0310910080806003L, 0x1288184A12210400L, 0x0000822001041A10L,
+            0x4028A804C0408400L, 0x600801100085041AL, 0x0620180400120401L, 0x0040060180080180L,
+            0x8230020020180408L, 0x1008004300109000L, 0x8059110701042408L, 0x0004015A00024120L,
+            0x00220202C0402041L, 0x1605080210200241L, 0x0000208020801010L, 0x8400084202046024L,
+            0x040040810A020100L, 0x0412481009008120L, 0x8002100401130682L, 0x0642080058800504L,
+            0x4014110808440003L, 0x2041010802020120L, 0x2040222484100000L, 0x0800800020880100L,
+            0x0202020510440124L, 0x0100081121020801L, 0x00052002020A0A00L, 0x400802040C102311L,
+            0x0102002201042004L, 0x111A002101082040L, 0x040100920084040AL, 0x4804110000420200L,
+            0x1000400004104401L, 0x8004080910104080L, 0x0085409002008114L, 0x0002083001120420L
+    };
+
+    @Test
+    @EnabledIfSystemProperty(named = "magics.write", matches = "true")
+    void write() throws IOException {
+        Files.write(RESOURCE, tables());
+    }
+
+    /**
+     * Content of the resource: big endian longs, the rook magic numbers and
+     * tables followed by the bishop ones.
+     */
+    static byte[] tables() throws IOException {
+        var util = new VisibleMetricsUtil();
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            write(out, util, Util.ROOK_DIRECTIONS, ROOK_NUMBERS);
+            write(out, util, Util.BISHOP_DIRECTIONS, BISHOP_NUMBERS);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void write(DataOutputStream out, VisibleMetricsUtil util, int[] directionIndexes, long[] magics)
+            throws IOException {
+        for (long magic : magics)
+            out.writeLong(magic);
+        for (int square = 0; square < 64; square++) {
+            for (long visible : table(util, directionIndexes, square, magics[square]))
+                out.writeLong(visible);
+        }
+    }
+
+    private static long[] table(VisibleMetricsUtil util, int[] directionIndexes, int square, long magic) {
+        var mask = 0L;
+        for (int directionIndex : directionIndexes) {
+            var direction = Util.QUEEN_MEGAMATRIX[square][directionIndex];
+            // the last square of each ray never blocks anything
+            for (int i = 0; i < direction.length - 1; i++)
+                mask |= 1L << direction[i];
+        }
+        var shift = 64 - Long.bitCount(mask);
+        var table = new long[1 << Long.bitCount(mask)];
+        var filled = new boolean[table.length];
+        // carry rippler, enumerates every subset of the mask
+        var subset = 0L;
+        do {
+            var slot = (int) ((subset * magic) >>> shift);
+            var visible = util.computeVisible(square, directionIndexes, Util.QUEEN_MEGAMATRIX[square], 0L, subset);
+            assertFalse(filled[slot] && table[slot] != visible,
+                    String.format("%X is not a magic number for square %d", magic, square));
+            filled[slot] = true;
+            table[slot] = visible;
+            subset = (subset - mask) & mask;
+        } while (subset != 0L);
+        return table;
+    }
+}
@@ -2,6 +2,7 @@ package chessapi4j;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -37,4 +38,51 @@ public class MagicTest {
         }
 
     }
+
+    @Test
+    void compactTables() {
+        var magic = GeneratorFactory.container.visibleMagic;
+        var util = GeneratorFactory.container.visibleMetricsUtil;
+        var random = new Random(7L);
+        for (int i = 0; i < 200000; i++) {
+            var enemies = random.nextLong() & random.nextLong();
+            var friends = random.nextLong() & random.nextLong() & ~enemies;
+            var square = random.nextInt(64);
+            var directions = Util.QUEEN_MEGAMATRIX[square];
+            assertEquals(util.computeVisible(square, Util.BISHOP_DIRECTIONS, directions, friends, enemies),
+                    magic.visibleBishop(square, friends, enemies));
+            assertEquals(util.computeVisible(square, Util.ROOK_DIRECTIONS, directions, friends, enemies),
+                    magic.visibleRook(square, friends, enemies));
+        }
+    }
+
+    @Test
+    void resourceIsUpToDate() throws IOException {
+        try (var is = MagicTest.class.getClassLoader().getResourceAsStream("magics.bin")) {
+            assertArrayEquals(MagicTablesWriter.tables(), is.readAllBytes());
+        }
+    }
+
+    @Test
+    void resourceTables() {
+        var util = GeneratorFactory.container.visibleMetricsUtil;
+        assertTables(MagicNumbers.ROOK, Util.ROOK_DIRECTIONS, util);
+        assertTables(MagicNumbers.BISHOP, Util.BISHOP_DIRECTIONS, util);
+    }
+
+    // every blockers subset of every mask must hash to its own visible squares
+    private static void assertTables(MagicNumbers magicNumbers, int[] directionIndexes, VisibleMetricsUtil util) {
+        var entries = 0;
+        for (int square = 0; square < 64; square++) {
+            var mask = magicNumbers.masks[square];
+            var subset = 0L;
+            do {
+                assertEquals(util.computeVisible(square, directionIndexes, Util.QUEEN_MEGAMATRIX[square], 0L, subset),
+                        magicNumbers.visibleHashed(square, subset));
+                entries++;
+                subset = (subset - mask) & mask;
+            } while (subset != 0L);
+        }
+        assertEquals(magicNumbers.attacks.length, entries);
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class MoveListTest {
+	private static final String[] FENS = {
+			"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+			"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+			"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8" };
+
+	@Test
+	void encoding() {
+		int move = MoveEncoding.encode(Square.E7.ordinal(), Square.D8.ordinal(), Piece.WN.ordinal(),
+				MoveEncoding.CAPTURE);
+		assertEquals(Square.E7.ordinal(), MoveEncoding.origin(move));
+		assertEquals(Square.D8.ordinal(), MoveEncoding.target(move));
+		assertEquals(Piece.WN.ordinal(), MoveEncoding.promotion(move));
+		assertTrue(MoveEncoding.isCapture(move));
+		assertTrue(MoveEncoding.isPromotion(move));
+		assertEquals("e7d8n", MoveEncoding.toString(move));
+		int quiet = MoveEncoding.encode(new Move(Square.G1, Square.F3));
+		assertEquals(-1, MoveEncoding.promotion(quiet));
+		assertFalse(MoveEncoding.isCapture(quiet));
+		assertEquals(new Move(Square.G1, Square.F3), MoveEncoding.toMove(quiet));
+	}
+
+	@Test
+	void sameMovesAsChildren() {
+		Generator generator = GeneratorFactory.instance();
+		MoveList moveList = new MoveList();
+		for (String fen : FENS) {
+			Position position = new Position(fen);
+			for (Position child : generator.generateChildren(position)) {
+				generator.generateMoves(child, moveList);
+				List<Position> grandchildren = generator.generateChildren(child);
+				assertEquals(sorted(generator.generateMoves(child, grandchildren)), sorted(moveList.toMoves()),
+						child.toFen());
+			}
+		}
+	}
+
+	@Test
+	void flags() {
+		Generator generator = GeneratorFactory.instance();
+		MoveList moveList = new MoveList();
+		generator.generateMoves(new Position(FENS[1]), moveList);
+		int captures = 0;
+		int castles = 0;
+		int doublePushes = 0;
+		for (int i = 0; i < moveList.size(); i++) {
+			int flags = MoveEncoding.flags(moveList.get(i));
+			captures += flags & MoveEncoding.CAPTURE;
+			castles += (flags & MoveEncoding.CASTLE) >>> 2;
+			doublePushes += (flags & MoveEncoding.DOUBLE_PUSH) >>> 3;
+		}
+		assertEquals(48, moveList.size());
+		assertEquals(8, captures);
+		assertEquals(2, castles);
+		assertEquals(2, doublePushes);
+
+		generator.generateMoves(new Position("8/8/8/3pP3/8/8/8/k6K w - d6 0 2"), moveList);
+		long enPassant = moveList.toMoves().stream().filter(m -> m.toString().equals("e5d6")).count();
+		assertEquals(1, enPassant);
+	}
+
+	@Test
+	void perftWithMakeUnmake() {
+		Generator generator = GeneratorFactory.instance();
+		MoveList[] lists = { new MoveList(), new MoveList(), new MoveList() };
+		assertEquals(97862, perft(generator, new Position(FENS[1]), 3, lists));
+		assertEquals(2812, perft(generator, new Position(FENS[2]), 3, lists));
+		assertEquals(9467, perft(generator, new Position(FENS[3]), 3, lists));
+		assertEquals(62379, perft(generator, new Position(FENS[4]), 3, lists));
+	}
+
+	private static long perft(Generator generator, Position position, int depth, MoveList[] lists) {
+		if (depth == 0)
+			return 1L;
+		MoveList moveList = lists[depth - 1];
+		generator.generateMoves(position, moveList);
+		if (depth == 1)
+			return moveList.size();
+		long nodes = 0L;
+		for (int i = 0; i < moveList.size(); i++) {
+			position.makeMove(moveList.get(i));
+			nodes += perft(generator, position, depth - 1, lists);
+			position.unmakeMove();
+		}
+		return nodes;
+	}
+
+	private static List<String> sorted(List<Move> moves) {
+		return moves.stream().map(Move::toString).sorted().collect(Collectors.toList());
+	}
+}
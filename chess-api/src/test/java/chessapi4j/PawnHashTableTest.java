@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class PawnHashTableTest {
+
+	@Test
+	void storeAndProbe() {
+		PawnHashTable table = new PawnHashTable(1);
+		long key = new Position().pawnHash();
+		long[] entry = new long[PawnHashTable.ENTRY_SIZE];
+		assertFalse(table.probe(key, entry));
+		long[] stored = { -12L, 34L, 1L << 20, 0xFF0000L, 0xFF00L };
+		table.store(key, stored);
+		assertTrue(table.probe(key, entry));
+		assertArrayEquals(stored, entry);
+		assertFalse(table.probe(key + 1, entry));
+		assertEquals(3, table.probes());
+		assertEquals(1, table.hits());
+		assertEquals(1.0 / 3.0, table.hitRate());
+		assertEquals(1 << 14, table.capacity());
+		table.clear();
+		assertFalse(table.probe(key, entry));
+		assertThrows(IllegalArgumentException.class, () -> new PawnHashTable(0));
+	}
+
+	@Test
+	void structure() {
+		long[] entry = new long[PawnHashTable.ENTRY_SIZE];
+		Position position = new Position("4k3/p7/8/3P4/8/8/PP3P2/4K3 w - - 0 1");
+		PawnStructure.compute(position.getBits()[0], position.getBits()[6], entry);
+		assertEquals(new Bitboard(Square.D5, Square.F2).getValue(), entry[PawnHashTable.PASSED]);
+		// d5 and f2 passed, d and f isolated for white, a isolated for black
+		assertEquals(35 + 5 - 15, entry[PawnHashTable.STRUCTURE]);
+
+		position = new Position("4k3/8/8/8/8/2P5/2P5/4K3 w - - 0 1");
+		PawnStructure.compute(position.getBits()[0], position.getBits()[6], entry);
+		assertEquals(new Bitboard(Square.C2, Square.C3).getValue(), entry[PawnHashTable.PASSED]);
+		assertEquals(5 + 10 - 30 - 10, entry[PawnHashTable.STRUCTURE]);
+		// b and d files from the third rank up
+		assertEquals(0x0A0A0A0A0A0A0000L, entry[PawnHashTable.WHITE_ATTACK_SPAN]);
+		assertEquals(0L, entry[PawnHashTable.BLACK_ATTACK_SPAN]);
+	}
+
+	@Test
+	void sharedByEvaluations() {
+		PawnHashTable table = new PawnHashTable(1);
+		Evaluator cached = EvaluatorFactory.getImpl(table);
+		Evaluator uncached = EvaluatorFactory.getImpl(null);
+		IncrementalEvaluator incrementalCached = EvaluatorFactory.getIncrementalImpl(table);
+		IncrementalEvaluator incrementalUncached = EvaluatorFactory.getIncrementalImpl(null);
+		Generator generator = GeneratorFactory.instance();
+		String[] fens = { "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1" };
+		IntStream.range(0, 4).parallel().forEach(thread -> {
+			Random random = new Random(thread);
+			for (String fen : fens) {
+				Position position = new Position(fen);
+				for (int ply = 0; ply < 60; ply++) {
+					for (Position child : generator.generateChildren(position)) {
+						assertEquals(uncached.evaluate(child), cached.evaluate(child), child.toFen());
+						assertEquals(incrementalUncached.evaluate(child), incrementalCached.evaluate(child),
+								child.toFen());
+					}
+					List<Position> children = generator.generateChildren(position);
+					if (children.isEmpty())
+						break;
+					position = children.get(random.nextInt(children.size()));
+				}
+			}
+		});
+		assertTrue(table.hitRate() > 0.5, String.valueOf(table.hitRate()));
+	}
+
+}
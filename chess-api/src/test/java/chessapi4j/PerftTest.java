@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PerftTest {
+	private static final Logger logger = LoggerFactory.getLogger(PerftTest.class);
+
+	@Test
+	void initialPosition() {
+		Position position = new Position();
+		assertEquals(1, Perft.nodes(position, 0));
+		assertEquals(20, Perft.nodes(position, 1));
+		assertEquals(400, Perft.nodes(position, 2));
+		assertEquals(8902, Perft.nodes(position, 3));
+		PerftResult result = Perft.run(position, 4);
+		assertEquals(197281, result.getNodes());
+		logger.debug("PerftTest-initialPosition %s", result);
+	}
+
+	@Test
+	void kiwipete() {
+		Position position = new Position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		assertEquals(48, Perft.nodes(position, 1));
+		assertEquals(2039, Perft.nodes(position, 2));
+		assertEquals(97862, Perft.nodes(position, 3));
+	}
+
+	@Test
+	void position3() {
+		Position position = new Position("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+		assertEquals(14, Perft.nodes(position, 1));
+		assertEquals(191, Perft.nodes(position, 2));
+		assertEquals(2812, Perft.nodes(position, 3));
+		assertEquals(43238, Perft.nodes(position, 4));
+	}
+
+	@Test
+	void position4() {
+		Position position = new Position("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+		assertEquals(6, Perft.nodes(position, 1));
+		assertEquals(264, Perft.nodes(position, 2));
+		assertEquals(9467, Perft.nodes(position, 3));
+	}
+
+	@Test
+	void position5() {
+		Position position = new Position("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+		assertEquals(44, Perft.nodes(position, 1));
+		assertEquals(1486, Perft.nodes(position, 2));
+		assertEquals(62379, Perft.nodes(position, 3));
+	}
+
+	@Test
+	void position6() {
+		Position position = new Position("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10");
+		assertEquals(46, Perft.nodes(position, 1));
+		assertEquals(2079, Perft.nodes(position, 2));
+		assertEquals(89890, Perft.nodes(position, 3));
+	}
+
+	@Test
+	void divide() {
+		Position position = new Position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		Map<Move, Long> divide = Perft.divide(position, 2);
+		assertEquals(48, divide.size());
+		assertEquals(2039L, divide.values().stream().mapToLong(Long::longValue).sum());
+		assertEquals(43L, divide.get(MoveFactory.instance(Square.E1, Square.G1)));
+	}
+
+	@Test
+	void bulkCountMatchesChildren() {
+		String[] fens = { "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+				"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+				"n1n5/PPPk4/8/8/8/8/4Kppp/5N1N b - - 0 1",
+				"8/8/8/2k5/2pP4/8/B7/4K3 b - d3 0 3",
+				"r1bqkbnr/pppp1Qpp/2n5/4p3/2B1P3/8/PPPP1PPP/RNB1K1NR b KQkq - 0 4" };
+		Generator generator = GeneratorFactory.instance();
+		for (String fen : fens) {
+			Position position = new Position(fen);
+			for (Position child : generator.generateChildren(position)) {
+				assertEquals(generator.generateChildren(child).size(), generator.countLegalMoves(child));
+			}
+		}
+	}
+
+	@Test
+	void negativeDepth() {
+		assertThrows(IllegalArgumentException.class, () -> Perft.nodes(new Position(), -1));
+		assertThrows(IllegalArgumentException.class, () -> Perft.divide(new Position(), 0));
+	}
+}
@@ -18,6 +18,8 @@ package chessapi4j;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 class PositionTest {
@@ -31,4 +33,156 @@ class PositionTest {
 		assertEquals(Piece.WP, piece);
 	}
 
+	@Test
+	void makeUnmakeMatchesChildren() {
+		String[] fens = {
+				"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+				"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+				"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8" };
+		Generator generator = GeneratorFactory.instance();
+		for (String fen : fens) {
+			Position position = new Position(fen);
+			assertMakeUnmake(generator, position, 3);
+			assertEquals(fen, position.toFen());
+		}
+	}
+
+	@Test
+	void unmakeWithoutMove() {
+		Position position = new Position();
+		assertThrows(IllegalStateException.class, position::unmakeMove);
+		assertThrows(IllegalArgumentException.class, () -> position.makeMove(new Move(Square.E4, Square.E5)));
+	}
+
+	@Test
+	void childrenZobristHash() {
+		String[] fens = {
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+				"rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3" };
+		Generator generator = GeneratorFactory.instance();
+		ZobristHasher hasher = ZobristHasherFactory.instance();
+		for (String fen : fens) {
+			Position position = new Position(fen);
+			for (Position child : generator.generateChildren(position)) {
+				assertEquals(hasher.computeZobristHash(child), child.zobristHash());
+				for (Position grandchild : generator.generateChildren(child))
+					assertEquals(hasher.computeZobristHash(grandchild), grandchild.zobristHash());
+			}
+			Position clone = position.makeClone();
+			clone.changeColorToMove();
+			assertEquals(hasher.computeZobristHash(clone), clone.zobristHash());
+			clone.setEnPassant(-1);
+			assertEquals(hasher.computeZobristHash(clone), clone.zobristHash());
+		}
+	}
+
+	@Test
+	void incrementalEvaluationTerms() {
+		String[] fens = {
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+				"rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+				"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8" };
+		Generator generator = GeneratorFactory.instance();
+		for (String fen : fens) {
+			Position position = new Position(fen);
+			assertEvaluationTerms(position);
+			assertIncrementalEvaluationTerms(generator, position, 3);
+			assertEvaluationTerms(position);
+			// the pawn hash is kept on its own when the other terms are never read
+			assertIncrementalPawnHash(generator, new Position(fen), 3);
+		}
+		IncrementalEvaluator evaluator = EvaluatorFactory.getIncrementalImpl();
+		Position position = new Position(fens[0]);
+		assertEquals(position.materialScore() + position.pieceSquareScore() + evaluator.evaluatePositional(position),
+				evaluator.evaluate(position));
+		assertEquals(0, evaluator.evaluatePositional(new Position()));
+		// the positional terms only depend on the pieces, swapping the colors negates them
+		for (String fen : fens) {
+			assertEquals(-evaluator.evaluatePositional(new Position(fen)),
+					evaluator.evaluatePositional(new Position(mirror(fen))), fen);
+		}
+	}
+
+	// the board upside down with the colors of the pieces swapped
+	private static String mirror(String fen) {
+		String[] fields = fen.split(" ");
+		String[] ranks = fields[0].split("/");
+		StringBuilder board = new StringBuilder();
+		for (int i = ranks.length - 1; i >= 0; i--) {
+			for (char c : ranks[i].toCharArray())
+				board.append(Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c));
+			if (i > 0)
+				board.append('/');
+		}
+		return board + " " + (fields[1].equals("w") ? "b" : "w") + " - - 0 1";
+	}
+
+	private void assertIncrementalEvaluationTerms(Generator generator, Position position, int depth) {
+		if (depth == 0)
+			return;
+		List<Position> children = generator.generateChildren(position);
+		List<Move> moves = generator.generateMoves(position, children);
+		for (int i = 0; i < children.size(); i++) {
+			assertEvaluationTerms(children.get(i));
+			position.makeMove(moves.get(i));
+			assertEvaluationTerms(position);
+			assertIncrementalEvaluationTerms(generator, position, depth - 1);
+			position.unmakeMove();
+			assertEvaluationTerms(position);
+		}
+	}
+
+	private void assertIncrementalPawnHash(Generator generator, Position position, int depth) {
+		if (depth == 0)
+			return;
+		List<Position> children = generator.generateChildren(position);
+		List<Move> moves = generator.generateMoves(position, children);
+		for (int i = 0; i < children.size(); i++) {
+			assertPawnHash(children.get(i));
+			position.makeMove(moves.get(i));
+			assertPawnHash(position);
+			assertIncrementalPawnHash(generator, position, depth - 1);
+			position.unmakeMove();
+			assertPawnHash(position);
+		}
+	}
+
+	private void assertPawnHash(Position position) {
+		assertEquals(ZobristHasherFactory.instance().computePawnHash(position.getBits()), position.pawnHash(),
+				position.toFen());
+	}
+
+	private void assertEvaluationTerms(Position position) {
+		assertEquals(PieceSquareTables.material(position.getBits()), position.materialScore(), position.toFen());
+		assertEquals(PieceSquareTables.pieceSquare(position.getBits()), position.pieceSquareScore(),
+				position.toFen());
+		assertEquals(ZobristHasherFactory.instance().computePawnHash(position.getBits()), position.pawnHash(),
+				position.toFen());
+	}
+
+	private void assertMakeUnmake(Generator generator, Position position, int depth) {
+		if (depth == 0)
+			return;
+		List<Position> children = generator.generateChildren(position);
+		List<Move> moves = generator.generateMoves(position, children);
+		Position copy = position.makeClone();
+		long hash = position.zobristHash();
+		for (int i = 0; i < children.size(); i++) {
+			Position child = children.get(i);
+			position.makeMove(moves.get(i));
+			assertEquals(child, position, moves.get(i).toString());
+			assertEquals(child.getMovesCounter(), position.getMovesCounter());
+			assertEquals(child.getHalfMovesCounter(), position.getHalfMovesCounter());
+			assertEquals(ZobristHasherFactory.instance().computeZobristHash(child), position.zobristHash());
+			assertMakeUnmake(generator, position, depth - 1);
+			position.unmakeMove();
+			assertEquals(copy, position);
+			assertEquals(hash, position.zobristHash());
+		}
+	}
+
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PseudoLegalTest {
+	private static final String[] FENS = {
+			"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+			"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+			"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+			"8/8/8/K2pP2r/8/8/8/7k w - d6 0 2" };
+
+	@Test
+	void filteredMovesAreLegalMoves() {
+		Generator generator = GeneratorFactory.instance();
+		MoveList legal = new MoveList();
+		MoveList pseudo = new MoveList();
+		for (String fen : FENS) {
+			Position position = new Position(fen);
+			List<Position> positions = generator.generateChildren(position);
+			positions.add(position);
+			for (Position p : positions) {
+				generator.generateMoves(p, legal);
+				generator.generatePseudoLegalMoves(p, pseudo);
+				assertTrue(pseudo.size() >= legal.size());
+				assertEquals(sorted(legal, null, null), sorted(pseudo, generator, p), p.toFen());
+			}
+		}
+	}
+
+	@Test
+	void enPassantDiscoveredCheck() {
+		Generator generator = GeneratorFactory.instance();
+		Position position = new Position(FENS[5]);
+		int move = MoveEncoding.encode(Square.E5.ordinal(), Square.D6.ordinal(), 0, MoveEncoding.EN_PASSANT);
+		assertFalse(generator.isLegal(position, move));
+	}
+
+	@Test
+	void perft() {
+		Generator generator = GeneratorFactory.instance();
+		MoveList[] lists = { new MoveList(), new MoveList(), new MoveList() };
+		assertEquals(8902, perft(generator, new Position(FENS[0]), 3, lists));
+		assertEquals(97862, perft(generator, new Position(FENS[1]), 3, lists));
+		assertEquals(2812, perft(generator, new Position(FENS[2]), 3, lists));
+		assertEquals(9467, perft(generator, new Position(FENS[3]), 3, lists));
+		assertEquals(62379, perft(generator, new Position(FENS[4]), 3, lists));
+	}
+
+	private static long perft(Generator generator, Position position, int depth, MoveList[] lists) {
+		if (depth == 0)
+			return 1L;
+		MoveList moveList = lists[depth - 1];
+		generator.generatePseudoLegalMoves(position, moveList);
+		long nodes = 0L;
+		for (int i = 0; i < moveList.size(); i++) {
+			int move = moveList.get(i);
+			if (!generator.isLegal(position, move))
+				continue;
+			position.makeMove(move);
+			nodes += perft(generator, position, depth - 1, lists);
+			position.unmakeMove();
+		}
+		return nodes;
+	}
+
+	private static List<Integer> sorted(MoveList moveList, Generator generator, Position position) {
+		List<Integer> moves = new ArrayList<>();
+		for (int i = 0; i < moveList.size(); i++) {
+			if (generator == null || generator.isLegal(position, moveList.get(i)))
+				moves.add(moveList.get(i));
+		}
+		Collections.sort(moves);
+		return moves;
+	}
+}
@@ -17,7 +17,10 @@ package chessapi4j;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,4 +34,30 @@ class SearchTest {
 		assertTrue(move.isPresent());
 	}
 
+	@Test
+	void limits() {
+		Search search = SearchFactory.searchImpl();
+		SearchHandle handle = new SearchHandle();
+		handle.cancel();
+		Optional<Move> move = search.seekBestMove(new Position(), EvaluatorFactory::getImpl, SearchLimits.depth(6),
+				handle);
+		assertTrue(move.isPresent());
+		move = search.seekBestMove(new Position(), EvaluatorFactory::getImpl,
+				SearchLimits.builder().moveTime(100).searchMoves("e2e4").build());
+		assertEquals(new Move(Square.E2, Square.E4), move.orElseThrow());
+	}
+
+	@Test
+	void concurrentCalls() {
+		Search search = SearchFactory.searchImpl();
+		List<Optional<Move>> moves = IntStream.range(0, 4).parallel()
+				.mapToObj(i -> search.seekBestMove(new Position(), EvaluatorFactory::getImpl, 5, 2,
+						i % 2 == 0 ? "e2e4" : "d2d4"))
+				.collect(Collectors.toList());
+		for (int i = 0; i < moves.size(); i++) {
+			assertEquals(i % 2 == 0 ? new Move(Square.E2, Square.E4) : new Move(Square.D2, Square.D4),
+					moves.get(i).orElseThrow());
+		}
+	}
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StagedMoveGeneratorTest {
+	private static final String[] FENS = {
+			"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+			"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+			"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8" };
+
+	@Test
+	void sameMovesAsGenerator() {
+		Generator generator = GeneratorFactory.instance();
+		StagedMoveGenerator staged = new StagedMoveGenerator(generator);
+		MoveList legal = new MoveList();
+		for (String fen : FENS) {
+			Position root = new Position(fen);
+			List<Position> positions = generator.generateChildren(root);
+			positions.add(root);
+			for (Position position : positions) {
+				generator.generateMoves(position, legal);
+				List<Integer> expected = new ArrayList<>();
+				for (int i = 0; i < legal.size(); i++)
+					expected.add(legal.get(i));
+				Collections.sort(expected);
+				staged.reset(position);
+				List<Integer> actual = new ArrayList<>();
+				StagedMoveGenerator.Stage last = StagedMoveGenerator.Stage.CAPTURES;
+				for (int move = staged.next(); move != MoveEncoding.NONE; move = staged.next()) {
+					assertTrue(staged.stage().compareTo(last) >= 0);
+					last = staged.stage();
+					assertEquals(last == StagedMoveGenerator.Stage.CAPTURES
+							|| last == StagedMoveGenerator.Stage.UNDER_PROMOTIONS,
+							MoveEncoding.isCapture(move) || MoveEncoding.isPromotion(move), MoveEncoding.toString(move));
+					actual.add(move);
+				}
+				assertEquals(StagedMoveGenerator.Stage.DONE, staged.stage());
+				Collections.sort(actual);
+				assertEquals(expected, actual, position.toFen());
+			}
+		}
+	}
+
+	@Test
+	void capturesOrderedAndKillersFirst() {
+		StagedMoveGenerator staged = new StagedMoveGenerator();
+		Position position = new Position("4k3/8/8/3q4/4P3/2NP4/1r6/R3K3 w Q - 0 1");
+		staged.resetCaptures(position);
+		assertEquals("e4d5", MoveEncoding.toString(staged.next()));
+		assertEquals("c3d5", MoveEncoding.toString(staged.next()));
+		assertEquals(MoveEncoding.NONE, staged.next());
+
+		int killer = MoveEncoding.encode(Square.E1.ordinal(), Square.C1.ordinal(), 0, 0);
+		staged.reset(position, killer, MoveEncoding.NONE);
+		staged.next();
+		staged.next();
+		int move = staged.next();
+		assertEquals(StagedMoveGenerator.Stage.KILLERS, staged.stage());
+		assertEquals("e1c1", MoveEncoding.toString(move));
+		assertTrue((MoveEncoding.flags(move) & MoveEncoding.CASTLE) != 0);
+	}
+
+	@Test
+	void perft() {
+		StagedMoveGenerator[] generators = { new StagedMoveGenerator(), new StagedMoveGenerator(),
+				new StagedMoveGenerator() };
+		assertEquals(97862, perft(new Position(FENS[1]), 3, generators));
+		assertEquals(9467, perft(new Position(FENS[3]), 3, generators));
+	}
+
+	private static long perft(Position position, int depth, StagedMoveGenerator[] generators) {
+		if (depth == 0)
+			return 1L;
+		StagedMoveGenerator staged = generators[depth - 1];
+		staged.reset(position);
+		long nodes = 0L;
+		for (int move = staged.next(); move != MoveEncoding.NONE; move = staged.next()) {
+			position.makeMove(move);
+			nodes += perft(position, depth - 1, generators);
+			position.unmakeMove();
+		}
+		return nodes;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class StaticExchangeTest {
+	private static final int[][] KNIGHT_STEPS = { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 }, { -1, -2 }, { -2, -1 },
+			{ -2, 1 }, { -1, 2 } };
+	private static final int[][] KING_STEPS = { { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 },
+			{ 0, -1 }, { 1, -1 } };
+	private static final int[][] BISHOP_STEPS = { { 1, 1 }, { -1, 1 }, { -1, -1 }, { 1, -1 } };
+	private static final int[][] ROOK_STEPS = { { 1, 0 }, { 0, 1 }, { -1, 0 }, { 0, -1 } };
+
+	@Test
+	void see() {
+		assertEquals(100, see("1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1", Square.E1, Square.E5));
+		// knight takes pawn, the x-ray queens join the exchange
+		assertEquals(-220, see("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1", Square.D3, Square.E5));
+		// quiet move to a square attacked by a pawn
+		assertEquals(-900, see("4k3/8/8/3p4/8/8/8/4K2Q w - - 0 1", Square.H1, Square.E4));
+		assertEquals(0, see("4k3/8/8/8/8/8/8/4K2Q w - - 0 1", Square.H1, Square.E4));
+		assertEquals(100, see("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", Square.E5, Square.D6));
+		assertEquals(1300, see("3r3k/4P3/8/8/8/8/8/K7 w - - 0 1", Square.E7, Square.D8));
+		assertEquals(-100, see("3r3k/4P3/8/8/8/8/8/K7 w - - 0 1", Square.E7, Square.E8));
+		// black to move, the defended pawn is not worth the knight
+		assertEquals(-220, see("4k3/8/3n4/8/4P3/3P4/8/4K3 b - - 0 1", Square.D6, Square.E4));
+		Position position = new Position();
+		assertThrows(IllegalArgumentException.class, () -> Util.see(position, new Move(Square.E4, Square.E5)));
+	}
+
+	@Test
+	void attackersTo() {
+		Generator generator = GeneratorFactory.instance();
+		Random random = new Random(21L);
+		String[] fens = { "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+				"r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1" };
+		for (String fen : fens) {
+			Position position = new Position(fen);
+			for (int ply = 0; ply < 40; ply++) {
+				long occupancy = 0L;
+				for (long bits : position.getBits())
+					occupancy |= bits;
+				for (Square square : Square.values()) {
+					assertEquals(attackers(position, square.ordinal(), occupancy), Util.attackersTo(position, square),
+							position.toFen() + " " + square);
+					long partial = occupancy & random.nextLong();
+					assertEquals(attackers(position, square.ordinal(), partial),
+							Util.attackersTo(position, square, partial));
+				}
+				List<Position> children = generator.generateChildren(position);
+				if (children.isEmpty())
+					break;
+				position = children.get(random.nextInt(children.size()));
+			}
+		}
+	}
+
+	@Test
+	void sanDisambiguation() {
+		// the knight on e2 is pinned
+		assertEquals("Nd4", PGNHandler.toSAN(new Position("4k3/8/8/8/4r3/8/2N1N3/4K3 w - - 0 1"), "c2d4"));
+		assertEquals("Ncd4", PGNHandler.toSAN(new Position("4k3/8/8/8/8/8/2N1N3/4K3 w - - 0 1"), "c2d4"));
+	}
+
+	private static int see(String fen, Square from, Square to) {
+		return Util.see(new Position(fen), new Move(from, to));
+	}
+
+	private static long attackers(Position position, int square, long occupancy) {
+		long attackers = 0L;
+		int[] squares = position.getSquares();
+		for (int origin = 0; origin < 64; origin++) {
+			if ((occupancy & (1L << origin)) == 0L)
+				continue;
+			Piece piece = Piece.values()[squares[origin]];
+			if (attacks(piece, origin, square, occupancy))
+				attackers |= 1L << origin;
+		}
+		return attackers;
+	}
+
+	private static boolean attacks(Piece piece, int origin, int square, long occupancy) {
+		int col = square % 8 - origin % 8;
+		int row = square / 8 - origin / 8;
+		switch (piece) {
+		case WP:
+			return row == 1 && Math.abs(col) == 1;
+		case BP:
+			return row == -1 && Math.abs(col) == 1;
+		case WN:
+		case BN:
+			return step(KNIGHT_STEPS, col, row);
+		case WK:
+		case BK:
+			return step(KING_STEPS, col, row);
+		case WB:
+		case BB:
+			return ray(BISHOP_STEPS, origin, square, occupancy);
+		case WR:
+		case BR:
+			return ray(ROOK_STEPS, origin, square, occupancy);
+		case WQ:
+		case BQ:
+			return ray(BISHOP_STEPS, origin, square, occupancy) || ray(ROOK_STEPS, origin, square, occupancy);
+		default:
+			return false;
+		}
+	}
+
+	private static boolean step(int[][] steps, int col, int row) {
+		for (int[] step : steps) {
+			if (step[0] == col && step[1] == row)
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean ray(int[][] steps, int origin, int square, long occupancy) {
+		for (int[] step : steps) {
+			int col = origin % 8 + step[0];
+			int row = origin / 8 + step[1];
+			while (col >= 0 && col < 8 && row >= 0 && row < 8) {
+				int current = row * 8 + col;
+				if (current == square)
+					return true;
+				if ((occupancy & (1L << current)) != 0L)
+					break;
+				col += step[0];
+				row += step[1];
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+	@Test
+	void storeAndProbe() {
+		TranspositionTable table = new TranspositionTable(1);
+		long key = new Position().zobristHash();
+		int move = MoveEncoding.encode(Square.E2.ordinal(), Square.E4.ordinal(), 0, MoveEncoding.DOUBLE_PUSH);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(key));
+		table.store(key, move, -1234, 7, TranspositionTable.LOWER_BOUND);
+		long entry = table.probe(key);
+		assertNotEquals(TranspositionTable.NO_ENTRY, entry);
+		assertEquals(move, TranspositionTable.move(entry));
+		assertEquals(-1234, TranspositionTable.score(entry));
+		assertEquals(7, TranspositionTable.depth(entry));
+		assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+		assertEquals(2, table.probes());
+		assertEquals(1, table.hits());
+		assertEquals(0.5, table.hitRate());
+		assertEquals(1 << 16, table.capacity());
+		table.clear();
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(key));
+		assertEquals(0.0, table.occupancy());
+		assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+	}
+
+	@Test
+	void replacement() {
+		TranspositionTable table = new TranspositionTable(1);
+		long bucketStride = table.capacity() >>> 1;
+		long deep = 5L;
+		long shallow = deep + bucketStride;
+		long other = deep + 2 * bucketStride;
+		table.store(deep, MoveEncoding.NONE, 10, 9, TranspositionTable.EXACT);
+		table.store(shallow, MoveEncoding.NONE, 20, 2, TranspositionTable.EXACT);
+		table.store(other, MoveEncoding.NONE, 30, 1, TranspositionTable.EXACT);
+		assertEquals(10, TranspositionTable.score(table.probe(deep)));
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(shallow));
+		assertEquals(30, TranspositionTable.score(table.probe(other)));
+		table.newSearch();
+		table.store(shallow, MoveEncoding.NONE, 20, 2, TranspositionTable.EXACT);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(deep));
+		assertEquals(20, TranspositionTable.score(table.probe(shallow)));
+	}
+
+	@Test
+	void sharedBySearches() {
+		TranspositionTable table = new TranspositionTable(4);
+		Search search = SearchFactory.searchImpl(table);
+		Optional<Move> move = search.seekBestMove(new Position(), EvaluatorFactory::getImpl, 5, 2);
+		assertTrue(move.isPresent());
+		assertTrue(table.hits() > 0);
+		assertTrue(table.occupancy() > 0.0);
+		IntStream.range(0, 2).parallel().forEach(i -> assertTrue(
+				SearchFactory.searchImpl(table).seekBestMove(new Position(), EvaluatorFactory::getImpl, 5, 2)
+						.isPresent()));
+	}
+
+}
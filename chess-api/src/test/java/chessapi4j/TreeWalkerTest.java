@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class TreeWalkerTest {
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	@Test
+	void countLeaves() {
+		Position position = new Position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		for (int split = 0; split < 4; split++) {
+			TreeWalker walker = new TreeWalker(POOL, split);
+			assertEquals(48, walker.countLeaves(position, 1));
+			assertEquals(2039, walker.countLeaves(position, 2));
+			assertEquals(97862, walker.countLeaves(position, 3));
+		}
+		assertEquals(43238, new TreeWalker(POOL, 2).countLeaves(new Position("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 4));
+	}
+
+	@Test
+	void checksMatchSerialWalk() {
+		Position position = new Position();
+		TreeWalker walker = new TreeWalker(POOL, 2);
+		long parallel = walker.walk(position, 4, TreeWalkerTest::check, Long::sum, 0L);
+		long serial = TreeWalker.walkSerial(position, 4, TreeWalkerTest::check, Long::sum, 0L);
+		assertEquals(469L, parallel);
+		assertEquals(serial, parallel);
+	}
+
+	@Test
+	void orderIsPreserved() {
+		Position position = new Position("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+		String parallel = new TreeWalker(POOL, 1).walk(position, 2, Position::toFen, String::concat, "");
+		String serial = TreeWalker.walkSerial(position, 2, Position::toFen, String::concat, "");
+		assertEquals(serial, parallel);
+	}
+
+	private static long check(Position position) {
+		return GeneratorFactory.container.generatorUtil.isInCheck(position);
+	}
+}
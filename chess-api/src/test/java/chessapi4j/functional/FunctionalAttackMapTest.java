@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import chessapi4j.Side;
+
+public class FunctionalAttackMapTest {
+
+    @Test
+    void sameAsClassic() {
+        var random = new Random(22L);
+        var fens = new String[] { "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                "4k3/8/8/8/1b2r3/8/4N3/4K3 w - - 0 1" };
+        for (var fen : fens) {
+            var position = new Position(fen);
+            for (int ply = 0; ply < 40; ply++) {
+                var attackMap = position.attackMap();
+                var classic = new chessapi4j.Position(position.fen()).attackMap();
+                assertSame(attackMap, position.attackMap());
+                for (var side : Side.values())
+                    assertEquals(classic.attacks(side), attackMap.attacks(side), position.fen());
+                assertEquals(classic.checkers(), attackMap.checkers(), position.fen());
+                assertEquals(classic.pinned(), attackMap.pinned(), position.fen());
+                assertEquals(classic.pinRays(), attackMap.pinRays(), position.fen());
+                var children = position.children();
+                if (children.isEmpty())
+                    break;
+                position = children.get(random.nextInt(children.size())).getV1();
+            }
+        }
+    }
+}
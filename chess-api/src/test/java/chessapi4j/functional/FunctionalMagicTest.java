@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FunctionalMagicTest {
+
+    @Test
+    void compactTables() {
+        var visibleMetrics = Factory.container.visibleMetrics;
+        var matrixUtil = Factory.container.matrixUtil;
+        var random = new Random(7L);
+        for (int i = 0; i < 200000; i++) {
+            var enemies = random.nextLong() & random.nextLong();
+            var friends = random.nextLong() & random.nextLong() & ~enemies;
+            var square = random.nextInt(64);
+            var directions = matrixUtil.queenMegamatrix[square];
+            assertEquals(visibleMetrics.computeVisible(square, matrixUtil.bishopDirections, directions, friends,
+                    enemies), visibleMetrics.visibleSquaresBishop(square, friends, enemies));
+            assertEquals(visibleMetrics.computeVisible(square, matrixUtil.rookDirections, directions, friends,
+                    enemies), visibleMetrics.visibleSquaresRook(square, friends, enemies));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionalPerftTest {
+    private static final Logger logger = Factory.getLogger(FunctionalPerftTest.class);
+
+    @Test
+    void initialPosition() {
+        var position = Factory.startPos();
+        assertEquals(1, Perft.nodes(position, 0));
+        assertEquals(20, Perft.nodes(position, 1));
+        assertEquals(400, Perft.nodes(position, 2));
+        assertEquals(8902, Perft.nodes(position, 3));
+        var result = Perft.run(position, 4);
+        assertEquals(197281, result.getNodes());
+        logger.debug("FunctionalPerftTest-initialPosition %s", result);
+    }
+
+    @Test
+    void kiwipete() {
+        var position = Factory.position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        assertEquals(48, Perft.nodes(position, 1));
+        assertEquals(2039, Perft.nodes(position, 2));
+        assertEquals(97862, Perft.nodes(position, 3));
+    }
+
+    @Test
+    void position3() {
+        var position = Factory.position("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+        assertEquals(14, Perft.nodes(position, 1));
+        assertEquals(191, Perft.nodes(position, 2));
+        assertEquals(2812, Perft.nodes(position, 3));
+        assertEquals(43238, Perft.nodes(position, 4));
+    }
+
+    @Test
+    void position4() {
+        var position = Factory.position("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        assertEquals(6, Perft.nodes(position, 1));
+        assertEquals(264, Perft.nodes(position, 2));
+        assertEquals(9467, Perft.nodes(position, 3));
+    }
+
+    @Test
+    void position5() {
+        var position = Factory.position("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+        assertEquals(44, Perft.nodes(position, 1));
+        assertEquals(1486, Perft.nodes(position, 2));
+        assertEquals(62379, Perft.nodes(position, 3));
+    }
+
+    @Test
+    void position6() {
+        var position = Factory.position("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10");
+        assertEquals(46, Perft.nodes(position, 1));
+        assertEquals(2079, Perft.nodes(position, 2));
+        assertEquals(89890, Perft.nodes(position, 3));
+    }
+
+    @Test
+    void divide() {
+        var position = Factory.position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        var divide = Perft.divide(position, 2);
+        assertEquals(48, divide.size());
+        assertEquals(2039L, divide.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(43L, divide.get(Factory.move("e1g1", true)));
+    }
+
+    @Test
+    void negativeDepth() {
+        assertThrows(IllegalArgumentException.class, () -> Perft.nodes(Factory.startPos(), -1));
+        assertThrows(IllegalArgumentException.class, () -> Perft.divide(Factory.startPos(), 0));
+    }
+}
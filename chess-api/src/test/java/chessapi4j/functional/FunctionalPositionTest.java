@@ -1,6 +1,8 @@
 package chessapi4j.functional;
 
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,4 +19,60 @@ public class FunctionalPositionTest {
             .sanMove("Bg2");
         assertEquals("rnbqkbnr/pp2pppp/8/2pp4/8/5NP1/PPPPPPBP/RNBQK2R b KQkq - 1 3", pos.fen());
     }
+
+    @Test
+    void childrenZobristHash() {
+        var fens = new String[] {
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3" };
+        for (var fen : fens) {
+            for (var child : Factory.position(fen).children()) {
+                var position = child.getV1();
+                assertEquals(Factory.position(position.fen()).zobristHash(), position.zobristHash(),
+                        child.getV2().toString());
+                for (var grandchild : position.children()) {
+                    var grandchildPosition = grandchild.getV1();
+                    assertEquals(Factory.position(grandchildPosition.fen()).zobristHash(),
+                            grandchildPosition.zobristHash());
+                }
+            }
+        }
+    }
+
+    @Test
+    void zobristHashDependsOnTurnAndCastle() {
+        var white = Factory.position("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        var black = Factory.position("r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1");
+        var noCastle = Factory.position("r3k2r/8/8/8/8/8/8/R3K2R w - - 0 1");
+        assertNotEquals(white.zobristHash(), black.zobristHash());
+        assertNotEquals(white.zobristHash(), noCastle.zobristHash());
+        assertEquals(Factory.startPos().zobristHash(),
+                Factory.position("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1").zobristHash());
+    }
+
+    @Test
+    void checkmateAndStalemate() {
+        assertTrue(Factory.position("R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1").checkmate());
+        assertTrue(Factory.position("3rrr1k/8/8/8/8/8/4B3/r3K3 w - - 0 1").checkmate());
+        assertTrue(Factory.position("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1").stalemate());
+        assertTrue(Factory.position("4k3/8/8/8/8/8/8/R3K3 w - - 0 1").move("a1a8").check());
+        var random = new Random(23L);
+        for (int game = 0; game < 20; game++) {
+            var position = Factory.position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+            for (int ply = 0; ply < 200; ply++) {
+                // the fresh copy answers before its moves are generated
+                var copy = Factory.position(position.fen());
+                var children = position.children();
+                var check = position.check();
+                assertEquals(children.isEmpty() && check, copy.checkmate(), position.fen());
+                assertEquals(children.isEmpty() && !check, copy.stalemate(), position.fen());
+                assertEquals(check, copy.check(), position.fen());
+                if (children.isEmpty())
+                    break;
+                position = children.get(random.nextInt(children.size())).getV1();
+            }
+        }
+    }
 }
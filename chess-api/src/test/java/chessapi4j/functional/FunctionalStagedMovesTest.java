@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionalStagedMovesTest {
+    private static final String[] FENS = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"
+    };
+
+    @Test
+    void sameMovesAsLegalMoves() {
+        var generator = Factory.generator();
+        for (var fen : FENS) {
+            var root = Factory.position(fen);
+            var positions = root.children().stream().map(Tuple::getV1).collect(Collectors.toList());
+            positions.add(root);
+            for (var position : positions) {
+                var expected = generator.legalMoves(position).stream().map(t -> t.getV2().toString()).sorted()
+                        .collect(Collectors.toList());
+                var actual = new ArrayList<String>();
+                generator.stagedMoves(position).forEachRemaining(m -> actual.add(m.toString()));
+                assertEquals(actual.size(), actual.stream().distinct().count());
+                actual.sort(null);
+                assertEquals(expected, actual, position.fen());
+            }
+        }
+    }
+
+    @Test
+    void capturesOrderedAndKillersFirst() {
+        var generator = Factory.generator();
+        var position = Factory.position("4k3/8/8/3q4/4P3/2NP4/1r6/R3K3 w Q - 0 1");
+        var captures = generator.captures(position).stream().map(Move::toString).collect(Collectors.toList());
+        assertEquals(List.of("e4d5", "c3d5"), captures);
+
+        var iterator = generator.stagedMoves(position, List.of(Factory.move("e1c1", true)));
+        iterator.next();
+        iterator.next();
+        assertEquals("e1c1", iterator.next().toString());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import chessapi4j.Piece;
+import chessapi4j.Square;
+import chessapi4j.Util;
+
+public class FunctionalStaticExchangeTest {
+
+    @Test
+    void see() {
+        assertEquals(100, see("1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1", Square.E1, Square.E5));
+        assertEquals(-220, see("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1", Square.D3, Square.E5));
+        assertEquals(-900, see("4k3/8/8/3p4/8/8/8/4K2Q w - - 0 1", Square.H1, Square.E4));
+        assertEquals(100, see("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", Square.E5, Square.D6));
+        assertEquals(1300, see("3r3k/4P3/8/8/8/8/8/K7 w - - 0 1", Square.E7, Square.D8));
+        // under promotion to a knight
+        assertEquals(500 + 320 - 100, new Position("3r3k/4P3/8/8/8/8/8/K7 w - - 0 1")
+                .see(new Move(Square.E7, Square.D8, Piece.WN)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Position().see(new Move(Square.E4, Square.E5)));
+    }
+
+    @Test
+    void sameAttackersAsClassic() {
+        var random = new Random(5L);
+        var fens = new String[] { "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1" };
+        for (var fen : fens) {
+            var position = new Position(fen);
+            var classic = new chessapi4j.Position(fen);
+            for (var square : Square.values()) {
+                assertEquals(Util.attackersTo(classic, square), position.attackersTo(square));
+                var occupancy = random.nextLong();
+                assertEquals(Util.attackersTo(classic, square, occupancy), position.attackersTo(square, occupancy));
+            }
+        }
+    }
+
+    private static int see(String fen, Square from, Square to) {
+        return new Position(fen).see(new Move(from, to));
+    }
+}
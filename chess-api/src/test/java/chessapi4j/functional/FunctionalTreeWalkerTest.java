@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Miguel Angel Luna Lobos
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/lunalobos/chessapi4j/blob/master/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package chessapi4j.functional;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionalTreeWalkerTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    void countLeaves() {
+        var position = Factory.position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        for (var split = 0; split < 4; split++) {
+            var walker = new TreeWalker(POOL, split);
+            assertEquals(48, walker.countLeaves(position, 1));
+            assertEquals(2039, walker.countLeaves(position, 2));
+            assertEquals(97862, walker.countLeaves(position, 3));
+        }
+    }
+
+    @Test
+    void checksMatchSerialWalk() {
+        var position = Factory.position("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        var walker = new TreeWalker(POOL, 2);
+        long parallel = walker.walk(position, 3, p -> p.check() ? 1L : 0L, Long::sum, 0L);
+        long serial = TreeWalker.walkSerial(position, 3, p -> p.check() ? 1L : 0L, Long::sum, 0L);
+        assertEquals(993L, parallel);
+        assertEquals(serial, parallel);
+    }
+
+    @Test
+    void orderIsPreserved() {
+        var position = Factory.position("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        var parallel = new TreeWalker(POOL, 1).walk(position, 2, Position::fen, String::concat, "");
+        var serial = TreeWalker.walkSerial(position, 2, Position::fen, String::concat, "");
+        assertEquals(serial, parallel);
+    }
+}